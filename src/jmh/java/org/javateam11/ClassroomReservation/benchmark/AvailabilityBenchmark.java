@@ -0,0 +1,116 @@
+package org.javateam11.ClassroomReservation.benchmark;
+
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.model.Room;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
+import org.javateam11.ClassroomReservation.util.AvailabilityChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AvailabilityChecker 조회 비용 측정
+ * 메인 화면 새로고침은 층의 모든 강의실에 대해 isCurrentlyAvailable / getMinutesToNextReservation을 호출하므로
+ * "모든 강의실 한 번씩"을 한 번의 작업 단위로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000" })
+    public int reservationCount;
+
+    @Param({ "10", "100", "1000" })
+    public int roomCount;
+
+    private List<Room> rooms;
+    private List<ReservationDto> snapshot;
+    // 같은 내용의 다른 리스트 인스턴스 (새 스냅샷 도착 시 인덱스 재생성 비용 측정용)
+    private List<ReservationDto> otherSnapshot;
+    private boolean useOther;
+
+    private long[] queryRoomIds;
+    private LocalTime[] queryStarts;
+    private LocalTime[] queryEnds;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = BenchmarkData.generate(roomCount, reservationCount);
+        RoomRegistry registry = RoomRegistry.getInstance();
+        registry.registerLocalRooms(data.getBuildings());
+        registry.registerBackendRooms(data.getRoomDtos());
+
+        rooms = data.getRooms();
+        snapshot = data.getReservations();
+        otherSnapshot = new ArrayList<>(snapshot);
+        today = LocalDate.now();
+
+        Random random = new Random(42);
+        queryRoomIds = new long[roomCount];
+        queryStarts = new LocalTime[roomCount];
+        queryEnds = new LocalTime[roomCount];
+        for (int i = 0; i < roomCount; i++) {
+            queryRoomIds[i] = random.nextInt(roomCount) + 1;
+            queryStarts[i] = LocalTime.of(9, 0).plusMinutes(random.nextInt(24) * 30L);
+            queryEnds[i] = queryStarts[i].plusMinutes(60);
+        }
+    }
+
+    /**
+     * 같은 스냅샷으로 모든 강의실의 현재 사용 가능 여부 판단 (인덱스 재사용)
+     */
+    @Benchmark
+    public void isCurrentlyAvailableAllRooms(Blackhole blackhole) {
+        for (Room room : rooms) {
+            blackhole.consume(AvailabilityChecker.isCurrentlyAvailable(room, snapshot));
+        }
+    }
+
+    /**
+     * 새 스냅샷이 도착한 직후의 렌더링 (인덱스 생성 + 모든 강의실 판단)
+     */
+    @Benchmark
+    public void isCurrentlyAvailableAllRoomsNewSnapshot(Blackhole blackhole) {
+        useOther = !useOther;
+        List<ReservationDto> reservations = useOther ? otherSnapshot : snapshot;
+        for (Room room : rooms) {
+            blackhole.consume(AvailabilityChecker.isCurrentlyAvailable(room, reservations));
+        }
+    }
+
+    /**
+     * 강의실 수만큼의 예약 가능 여부(시간 겹침) 검사
+     */
+    @Benchmark
+    public void isAvailableForReservation(Blackhole blackhole) {
+        for (int i = 0; i < queryRoomIds.length; i++) {
+            blackhole.consume(AvailabilityChecker.isAvailableForReservation(queryRoomIds[i], today,
+                    queryStarts[i], queryEnds[i], snapshot));
+        }
+    }
+
+    /**
+     * 모든 강의실의 다음 예약까지 남은 시간 계산
+     */
+    @Benchmark
+    public void getMinutesToNextReservationAllRooms(Blackhole blackhole) {
+        for (Room room : rooms) {
+            blackhole.consume(AvailabilityChecker.getMinutesToNextReservation(room, snapshot));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.javateam11.ClassroomReservation.benchmark;
+
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.javateam11.ClassroomReservation.model.Building;
+import org.javateam11.ClassroomReservation.model.Room;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 데이터 생성기
+ * 같은 시드로 항상 같은 데이터를 만들어 릴리스 간 결과를 비교할 수 있도록 합니다.
+ */
+public final class BenchmarkData {
+
+    public static final String BUILDING = "BENCH";
+    public static final int ROOMS_PER_FLOOR = 20;
+
+    private static final long SEED = 20250610L;
+
+    private final List<Building> buildings;
+    private final List<Room> rooms;
+    private final List<RoomDto> roomDtos;
+    private final List<ReservationDto> reservations;
+
+    private BenchmarkData(List<Building> buildings, List<Room> rooms, List<RoomDto> roomDtos,
+            List<ReservationDto> reservations) {
+        this.buildings = buildings;
+        this.rooms = rooms;
+        this.roomDtos = roomDtos;
+        this.reservations = reservations;
+    }
+
+    /**
+     * 강의실 roomCount개와 오늘 날짜 예약 reservationCount개를 생성
+     * 예약은 09:00 ~ 22:00 사이 30분 단위로 30분 ~ 3시간 길이를 가지며 강의실에 고르게 분포합니다.
+     */
+    public static BenchmarkData generate(int roomCount, int reservationCount) {
+        Random random = new Random(SEED);
+        LocalDate today = LocalDate.now();
+
+        List<Integer> floors = new ArrayList<>();
+        for (int floor = 1; floor <= (roomCount + ROOMS_PER_FLOOR - 1) / ROOMS_PER_FLOOR; floor++) {
+            floors.add(floor);
+        }
+        Building building = new Building(BUILDING, floors);
+
+        List<Room> rooms = new ArrayList<>(roomCount);
+        List<RoomDto> roomDtos = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            int floor = i / ROOMS_PER_FLOOR + 1;
+            String name = String.valueOf(floor * 100 + i % ROOMS_PER_FLOOR);
+            Room room = new Room(name, BUILDING, floor, (i % 5) * 120, (i % ROOMS_PER_FLOOR / 5) * 80);
+            building.addRoom(room);
+            rooms.add(room);
+            roomDtos.add(new RoomDto((long) i + 1, BUILDING, name, floor));
+        }
+
+        List<ReservationDto> reservations = new ArrayList<>(reservationCount);
+        for (int i = 0; i < reservationCount; i++) {
+            long roomId = random.nextInt(roomCount) + 1;
+            int startSlot = random.nextInt(26); // 09:00 ~ 21:30
+            int length = 1 + random.nextInt(Math.min(6, 26 - startSlot));
+            LocalTime start = LocalTime.of(9, 0).plusMinutes(startSlot * 30L);
+            LocalTime end = start.plusMinutes(length * 30L);
+            String studentId = String.valueOf(2024000000L + random.nextInt(5000));
+            reservations.add(new ReservationDto((long) i + 1, roomId, studentId, today, start, end));
+        }
+
+        return new BenchmarkData(List.of(building), rooms, roomDtos, reservations);
+    }
+
+    public List<Building> getBuildings() {
+        return buildings;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public List<RoomDto> getRoomDtos() {
+        return roomDtos;
+    }
+
+    public List<ReservationDto> getReservations() {
+        return reservations;
+    }
+}
@@ -0,0 +1,116 @@
+package org.javateam11.ClassroomReservation.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.service.HttpTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 목록 JSON 역직렬화 비용 측정
+ * ApiService와 같은 공유 ObjectMapper(HttpTransport)를 사용하며,
+ * 응답 본문을 String으로 읽은 뒤 파싱하는 경로와 바이트에서 바로 파싱하는 경로,
+ * 그리고 날짜/시간 역직렬화 방식(DateTimeFormatter 패턴 vs 숫자 직접 파싱)과
+ * ObjectReader 재사용 여부를 비교합니다. 건당 비용은 결과를 reservationCount로 나누어 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationJsonBenchmark {
+
+    private static final TypeReference<List<ReservationDto>> RESERVATION_LIST = new TypeReference<>() {
+    };
+
+    @Param({ "100", "1000", "10000", "100000" })
+    public int reservationCount;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader cachedReader;
+    private ObjectReader patternReader;
+    private byte[] payload;
+
+    /**
+     * 빠른 역직렬화기 적용 전의 매핑 (@JsonFormat 패턴을 DateTimeFormatter로 파싱)
+     */
+    abstract static class PatternFormatMixIn {
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        private LocalDate date;
+
+        @JsonFormat(pattern = "HH:mm")
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        private LocalTime startTime;
+
+        @JsonFormat(pattern = "HH:mm")
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        private LocalTime endTime;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = HttpTransport.getInstance().getObjectMapper();
+        cachedReader = HttpTransport.getInstance().readerFor(RESERVATION_LIST);
+
+        ObjectMapper patternMapper = new ObjectMapper();
+        patternMapper.registerModule(new JavaTimeModule());
+        patternMapper.addMixIn(ReservationDto.class, PatternFormatMixIn.class);
+        patternReader = patternMapper.readerFor(RESERVATION_LIST);
+
+        // 강의실 수는 디코딩 비용에 영향이 없으므로 고정
+        BenchmarkData data = BenchmarkData.generate(100, reservationCount);
+        payload = objectMapper.writeValueAsBytes(data.getReservations());
+    }
+
+    /**
+     * 응답 본문 -> String -> 객체 (body().string() 경로)
+     */
+    @Benchmark
+    public List<ReservationDto> decodeViaString() throws IOException {
+        String body = new String(payload, StandardCharsets.UTF_8);
+        return objectMapper.readValue(body, RESERVATION_LIST);
+    }
+
+    /**
+     * 응답 바이트 -> 객체
+     */
+    @Benchmark
+    public List<ReservationDto> decodeFromBytes() throws IOException {
+        return objectMapper.readValue(payload, RESERVATION_LIST);
+    }
+
+    /**
+     * 기존 방식: 호출마다 익명 TypeReference 생성 + DateTimeFormatter 패턴 파싱
+     */
+    @Benchmark
+    public List<ReservationDto> decodeWithPatternFormatter() throws IOException {
+        return patternReader.forType(new TypeReference<List<ReservationDto>>() {
+        }).readValue(payload);
+    }
+
+    /**
+     * 현재 방식: 캐시된 ObjectReader + 숫자 직접 파싱 역직렬화기
+     */
+    @Benchmark
+    public List<ReservationDto> decodeWithCachedReader() throws IOException {
+        return cachedReader.readValue(payload);
+    }
+}
@@ -0,0 +1,54 @@
+package org.javateam11.ClassroomReservation.view;
+
+import org.javateam11.ClassroomReservation.benchmark.BenchmarkData;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimelineTableModel.updateWithReservations 비용 측정
+ * 상세 화면은 한 강의실의 예약만 넘기므로, 생성한 예약을 강의실 수로 나눈 만큼이 한 번에 들어오는 양입니다.
+ * (TimelineTableModel이 패키지 전용이라 같은 패키지에 둠)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimelineBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000" })
+    public int reservationCount;
+
+    @Param({ "10", "100", "1000" })
+    public int roomCount;
+
+    private TimelineTableModel model;
+    private List<ReservationDto> roomReservations;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = BenchmarkData.generate(roomCount, reservationCount);
+        // 첫 번째 강의실의 예약만 (상세 화면과 같은 조건)
+        roomReservations = data.getReservations().stream()
+                .filter(reservation -> reservation.getRoomId() == 1L)
+                .toList();
+        model = new TimelineTableModel(9, 22, 30);
+        today = LocalDate.now();
+    }
+
+    @Benchmark
+    public TimelineTableModel updateWithReservations() {
+        model.updateWithReservations(roomReservations, today);
+        return model;
+    }
+}
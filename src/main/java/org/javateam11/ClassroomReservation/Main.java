@@ -2,6 +2,12 @@ package org.javateam11.ClassroomReservation;
 
 import org.javateam11.ClassroomReservation.model.*;
 import org.javateam11.ClassroomReservation.controller.ControllerFactory;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
+import org.javateam11.ClassroomReservation.service.WarmStartSnapshot;
+import org.javateam11.ClassroomReservation.util.EdtMonitor;
+import org.javateam11.ClassroomReservation.util.FloorPlanImageCache;
+import org.javateam11.ClassroomReservation.util.StartupMetrics;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsFileReporter;
 import org.javateam11.ClassroomReservation.view.LoginView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +30,9 @@ public class Main {
         logger.info("운영체제: {} {}", System.getProperty("os.name"), System.getProperty("os.version"));
 
         try {
+            // 첫 화면이 뜨기 전에 EDT 응답성 모니터 설치
+            EdtMonitor.install();
+
             // 샘플 건물, 강의실 데이터 생성
             logger.debug("샘플 데이터 생성 시작");
             List<Building> buildings = createSampleData();
@@ -80,10 +89,20 @@ public class Main {
      * 로그인 성공 후 메인 애플리케이션을 시작합니다.
      */
     public static void startMainApplication() {
+        StartupMetrics.markMainApplicationStart();
+        // 설정이 켜져 있으면 지표를 주기적으로 파일에 기록 (키오스크 간 비교용)
+        MetricsFileReporter.getInstance().start();
+        List<Building> buildings = createSampleData();
+        // 로컬 강의실을 레지스트리에 먼저 등록하여 어느 서비스가 강의실 목록을 먼저 받아도 매칭되도록 함
+        RoomRegistry.getInstance().registerLocalRooms(buildings);
+        // 지난 실행의 스냅샷으로 강의실 ID와 예약을 채워 첫 화면을 네트워크 응답 없이 그림
+        WarmStartSnapshot.getInstance().restore();
+        // 메인 화면이 뜨는 동안 층 구조도를 백그라운드에서 미리 디코딩
+        FloorPlanImageCache.getInstance().preloadAsync(buildings);
+
         SwingUtilities.invokeLater(() -> {
             try {
                 logger.debug("MainController 초기화 및 실행");
-                List<Building> buildings = createSampleData();
                 ControllerFactory.getInstance().createMainController(buildings).show();
                 logger.info("메인 애플리케이션 시작 완료");
             } catch (Exception e) {
@@ -11,6 +11,85 @@ public class ApplicationConfig {
     private static final int DEFAULT_READ_TIMEOUT_SECONDS = 30;
     private static final int DEFAULT_WRITE_TIMEOUT_SECONDS = 30;
 
+    // 요청 마감 시간 설정 (재시도를 포함한 전체 요청 시간 상한, 경로별로 api.deadline.<경로>로 변경 가능)
+    // GET과 Idempotency-Key가 붙은 쓰기 요청에만 적용
+    private static final int DEFAULT_REQUEST_DEADLINE_MILLIS = 20000;
+
+    // 헤지 요청 설정 (지정한 GET 경로가 p95 응답 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보냄)
+    private static final boolean DEFAULT_HEDGE_ENABLED = true;
+    private static final String DEFAULT_HEDGE_PATHS = "/api/reservations";
+    private static final int DEFAULT_HEDGE_MIN_DELAY_MILLIS = 50;
+    private static final int DEFAULT_HEDGE_MIN_SAMPLES = 20;
+
+    // 일시적 실패 재시도 설정 (GET만 기본 재시도, 쓰기 요청은 Idempotency-Key와 함께일 때만)
+    private static final int DEFAULT_RETRY_GET_ATTEMPTS = 3;
+    private static final int DEFAULT_RETRY_WRITE_ATTEMPTS = 1;
+    private static final int DEFAULT_RETRY_BASE_MILLIS = 200;
+    private static final int DEFAULT_RETRY_MAX_MILLIS = 4000;
+
+    // 서킷 브레이커 설정 (연속 실패 기준 횟수, 차단 유지 시간)
+    private static final boolean DEFAULT_CIRCUIT_BREAKER_ENABLED = true;
+    private static final int DEFAULT_CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_CIRCUIT_OPEN_SECONDS = 15;
+
+    // HTTP 연결 풀 / 디스패처 관련 설정
+    private static final int DEFAULT_POOL_MAX_IDLE_CONNECTIONS = 5;
+    private static final int DEFAULT_POOL_KEEP_ALIVE_SECONDS = 300;
+    private static final int DEFAULT_DISPATCHER_MAX_REQUESTS = 64;
+    private static final int DEFAULT_DISPATCHER_MAX_REQUESTS_PER_HOST = 8;
+
+    // HTTP 디스크 캐시 설정 (ETag / Last-Modified 재검증)
+    private static final boolean DEFAULT_HTTP_CACHE_ENABLED = true;
+    private static final String DEFAULT_HTTP_CACHE_DIR = System.getProperty("user.home")
+            + "/.classroom-reservation/http-cache";
+    private static final int DEFAULT_HTTP_CACHE_MAX_MB = 20;
+    private static final boolean DEFAULT_HTTP_CACHE_ROOMS = true;
+    private static final boolean DEFAULT_HTTP_CACHE_RESERVATIONS = true;
+
+    // 오프라인 저장소 설정 (마지막 동기화 데이터와 전송 대기 요청을 기록하는 저널)
+    private static final boolean DEFAULT_OFFLINE_STORE_ENABLED = true;
+    private static final String DEFAULT_OFFLINE_DIR = System.getProperty("user.home") + "/.classroom-reservation";
+
+    // 날짜별 예약 캐시 설정 (신선도 TTL, stale 응답 허용 시간, 최대 보관 날짜 수)
+    private static final int DEFAULT_RESERVATION_CACHE_TTL_SECONDS = 15;
+    private static final int DEFAULT_RESERVATION_CACHE_STALE_SECONDS = 600;
+    private static final int DEFAULT_RESERVATION_CACHE_MAX_DATES = 14;
+
+    // 여러 예약을 한 번에 만들 때 일괄 생성 엔드포인트 사용 여부와 건별 요청 동시 실행 수
+    private static final boolean DEFAULT_BATCH_RESERVATION_ENABLED = true;
+    private static final int DEFAULT_BULK_RESERVATION_CONCURRENCY = 4;
+
+    // 지표(메트릭) 설정 (JMX 공개 여부, 주기적 파일 기록)
+    private static final boolean DEFAULT_METRICS_JMX_ENABLED = true;
+    private static final boolean DEFAULT_METRICS_FILE_ENABLED = false;
+    private static final String DEFAULT_METRICS_FILE_DIR = DEFAULT_OFFLINE_DIR + "/metrics";
+    private static final int DEFAULT_METRICS_FILE_INTERVAL_SECONDS = 60;
+    private static final int DEFAULT_METRICS_FILE_MAX_KB = 1024;
+    private static final int DEFAULT_METRICS_FILE_KEEP = 5;
+
+    // 웜 스타트 스냅샷 사용 여부 (종료 시 저장, 시작 시 복원)
+    private static final boolean DEFAULT_WARM_START_ENABLED = true;
+
+    // 동시에 들어온 동일 GET 요청을 한 번의 호출로 병합할지 여부
+    private static final boolean DEFAULT_GET_COALESCING_ENABLED = true;
+
+    // API 호출 실행 방식 설정 ("enqueue": OkHttp 비동기 콜백, "virtual": 가상 스레드)
+    private static final String DEFAULT_API_EXECUTION_MODE = "enqueue";
+    private static final int DEFAULT_IO_MAX_CONCURRENCY = 32;
+
+    // 페이지 단위 조회 시 한 페이지의 크기
+    private static final int DEFAULT_API_PAGE_SIZE = 100;
+
+    // 실시간 예약 이벤트(WebSocket) 관련 설정
+    private static final boolean DEFAULT_PUSH_ENABLED = true;
+    private static final String DEFAULT_PUSH_PATH = "/ws/reservations";
+    private static final int DEFAULT_PUSH_RECONNECT_MAX_SECONDS = 60;
+
+    // EDT 응답성 모니터 설정 (한 프레임 기준 시간, 스택을 남길 긴 작업 기준 시간)
+    private static final boolean DEFAULT_EDT_MONITOR_ENABLED = true;
+    private static final int DEFAULT_EDT_STALL_MILLIS = 16;
+    private static final int DEFAULT_EDT_LONG_TASK_MILLIS = 100;
+
     // UI 관련 설정
     private static final int DEFAULT_AUTO_REFRESH_INTERVAL_SECONDS = 30;
     private static final int DEFAULT_MAIN_WINDOW_WIDTH = 1200;
@@ -27,29 +106,344 @@ public class ApplicationConfig {
      * 연결 타임아웃 시간(초) 반환
      */
     public static int getConnectTimeoutSeconds() {
-        String timeoutStr = System.getProperty("api.connect.timeout");
-        if (timeoutStr != null) {
-            try {
-                return Integer.parseInt(timeoutStr);
-            } catch (NumberFormatException e) {
-                return DEFAULT_CONNECT_TIMEOUT_SECONDS;
-            }
-        }
-        return DEFAULT_CONNECT_TIMEOUT_SECONDS;
+        return getIntProperty("api.connect.timeout", DEFAULT_CONNECT_TIMEOUT_SECONDS);
     }
 
     /**
      * 읽기 타임아웃 시간(초) 반환
      */
     public static int getReadTimeoutSeconds() {
-        return DEFAULT_READ_TIMEOUT_SECONDS;
+        return getIntProperty("api.read.timeout", DEFAULT_READ_TIMEOUT_SECONDS);
     }
 
     /**
      * 쓰기 타임아웃 시간(초) 반환
      */
     public static int getWriteTimeoutSeconds() {
-        return DEFAULT_WRITE_TIMEOUT_SECONDS;
+        return getIntProperty("api.write.timeout", DEFAULT_WRITE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * 연결 풀에 유지할 최대 유휴 연결 수 반환
+     */
+    public static int getPoolMaxIdleConnections() {
+        return getIntProperty("api.pool.max.idle", DEFAULT_POOL_MAX_IDLE_CONNECTIONS);
+    }
+
+    /**
+     * 유휴 연결 유지(keep-alive) 시간(초) 반환
+     */
+    public static int getPoolKeepAliveSeconds() {
+        return getIntProperty("api.pool.keepalive", DEFAULT_POOL_KEEP_ALIVE_SECONDS);
+    }
+
+    /**
+     * 디스패처의 최대 동시 요청 수 반환
+     */
+    public static int getDispatcherMaxRequests() {
+        return getIntProperty("api.dispatcher.max.requests", DEFAULT_DISPATCHER_MAX_REQUESTS);
+    }
+
+    /**
+     * 디스패처의 호스트당 최대 동시 요청 수 반환
+     */
+    public static int getDispatcherMaxRequestsPerHost() {
+        return getIntProperty("api.dispatcher.max.requests.per.host", DEFAULT_DISPATCHER_MAX_REQUESTS_PER_HOST);
+    }
+
+    /**
+     * HTTP 디스크 캐시 사용 여부 반환
+     */
+    public static boolean isHttpCacheEnabled() {
+        return getBooleanProperty("api.cache.enabled", DEFAULT_HTTP_CACHE_ENABLED);
+    }
+
+    /**
+     * HTTP 디스크 캐시 디렉터리 반환
+     */
+    public static String getHttpCacheDirectory() {
+        return System.getProperty("api.cache.dir", DEFAULT_HTTP_CACHE_DIR);
+    }
+
+    /**
+     * HTTP 디스크 캐시 최대 크기(MB) 반환
+     */
+    public static int getHttpCacheMaxMegabytes() {
+        return getIntProperty("api.cache.max.mb", DEFAULT_HTTP_CACHE_MAX_MB);
+    }
+
+    /**
+     * 강의실 목록(/api/rooms) 응답의 디스크 캐시 사용 여부 반환
+     */
+    public static boolean isRoomsHttpCacheEnabled() {
+        return getBooleanProperty("api.cache.rooms", DEFAULT_HTTP_CACHE_ROOMS);
+    }
+
+    /**
+     * 예약 스냅샷(/api/reservations) 응답의 디스크 캐시 사용 여부 반환
+     */
+    public static boolean isReservationsHttpCacheEnabled() {
+        return getBooleanProperty("api.cache.reservations", DEFAULT_HTTP_CACHE_RESERVATIONS);
+    }
+
+    /**
+     * 오프라인 저장소(로컬 저널) 사용 여부 반환
+     */
+    public static boolean isOfflineStoreEnabled() {
+        return getBooleanProperty("api.offline.enabled", DEFAULT_OFFLINE_STORE_ENABLED);
+    }
+
+    /**
+     * 오프라인 저널 파일을 저장할 디렉터리 반환
+     */
+    public static String getOfflineDirectory() {
+        return System.getProperty("api.offline.dir", DEFAULT_OFFLINE_DIR);
+    }
+
+    /**
+     * 예약 캐시에서 서버 확인 없이 바로 응답하는 시간(초) 반환
+     */
+    public static int getReservationCacheTtlSeconds() {
+        return getIntProperty("app.reservation.cache.ttl", DEFAULT_RESERVATION_CACHE_TTL_SECONDS);
+    }
+
+    /**
+     * TTL이 지난 뒤에도 캐시로 바로 응답하고 백그라운드에서 다시 확인하는 시간(초) 반환
+     */
+    public static int getReservationCacheStaleSeconds() {
+        return getIntProperty("app.reservation.cache.stale", DEFAULT_RESERVATION_CACHE_STALE_SECONDS);
+    }
+
+    /**
+     * 예약 캐시에 보관할 최대 날짜 수 반환
+     */
+    public static int getReservationCacheMaxDates() {
+        return getIntProperty("app.reservation.cache.max.dates", DEFAULT_RESERVATION_CACHE_MAX_DATES);
+    }
+
+    /**
+     * 여러 예약을 만들 때 백엔드 일괄 생성 엔드포인트를 먼저 시도할지 여부 반환
+     */
+    public static boolean isBatchReservationEnabled() {
+        return getBooleanProperty("api.reservation.batch.enabled", DEFAULT_BATCH_RESERVATION_ENABLED);
+    }
+
+    /**
+     * 여러 예약을 건별로 보낼 때 동시에 진행할 최대 요청 수 반환
+     */
+    public static int getBulkReservationConcurrency() {
+        return getIntProperty("app.reservation.bulk.concurrency", DEFAULT_BULK_RESERVATION_CONCURRENCY);
+    }
+
+    /**
+     * 지표를 JMX MBean으로 공개할지 여부 반환
+     */
+    public static boolean isMetricsJmxEnabled() {
+        return getBooleanProperty("app.metrics.jmx.enabled", DEFAULT_METRICS_JMX_ENABLED);
+    }
+
+    /**
+     * 지표를 주기적으로 파일에 기록할지 여부 반환
+     */
+    public static boolean isMetricsFileEnabled() {
+        return getBooleanProperty("app.metrics.file.enabled", DEFAULT_METRICS_FILE_ENABLED);
+    }
+
+    /**
+     * 지표 파일을 저장할 디렉터리 반환
+     */
+    public static String getMetricsFileDirectory() {
+        return System.getProperty("app.metrics.file.dir", DEFAULT_METRICS_FILE_DIR);
+    }
+
+    /**
+     * 지표 파일 기록 간격(초) 반환
+     */
+    public static int getMetricsFileIntervalSeconds() {
+        return getIntProperty("app.metrics.file.interval", DEFAULT_METRICS_FILE_INTERVAL_SECONDS);
+    }
+
+    /**
+     * 지표 파일 하나의 최대 크기(KB) 반환 (넘으면 다음 파일로 교체)
+     */
+    public static int getMetricsFileMaxKb() {
+        return getIntProperty("app.metrics.file.max.kb", DEFAULT_METRICS_FILE_MAX_KB);
+    }
+
+    /**
+     * 교체된 지표 파일을 남겨둘 개수 반환
+     */
+    public static int getMetricsFileKeep() {
+        return getIntProperty("app.metrics.file.keep", DEFAULT_METRICS_FILE_KEEP);
+    }
+
+    /**
+     * 웜 스타트 스냅샷 사용 여부 반환
+     */
+    public static boolean isWarmStartEnabled() {
+        return getBooleanProperty("app.warmstart.enabled", DEFAULT_WARM_START_ENABLED);
+    }
+
+    /**
+     * 경로별 설정이 없는 요청의 마감 시간(밀리초) 반환 (0이면 마감 시간 없음)
+     */
+    public static int getDefaultRequestDeadlineMillis() {
+        return getIntProperty("api.deadline.default", DEFAULT_REQUEST_DEADLINE_MILLIS);
+    }
+
+    /**
+     * 주어진 경로에 설정된 요청 마감 시간(밀리초) 반환 (예: -Dapi.deadline./api/reservations=5000, 설정이 없으면 -1)
+     */
+    public static int getEndpointDeadlineMillis(String path) {
+        return getIntProperty("api.deadline." + path, -1);
+    }
+
+    /**
+     * 헤지 요청 사용 여부 반환
+     */
+    public static boolean isHedgeEnabled() {
+        return getBooleanProperty("api.hedge.enabled", DEFAULT_HEDGE_ENABLED);
+    }
+
+    /**
+     * 헤지 요청을 보낼 GET 경로 목록 반환 (쉼표로 구분, 쿼리 문자열 제외)
+     */
+    public static String getHedgePaths() {
+        return System.getProperty("api.hedge.paths", DEFAULT_HEDGE_PATHS);
+    }
+
+    /**
+     * 헤지 요청을 보내기 전 최소 대기 시간(밀리초) 반환
+     */
+    public static int getHedgeMinDelayMillis() {
+        return getIntProperty("api.hedge.min.delay.ms", DEFAULT_HEDGE_MIN_DELAY_MILLIS);
+    }
+
+    /**
+     * 헤지 대기 시간(p95)을 계산하기 위해 필요한 최소 응답 시간 표본 수 반환
+     */
+    public static int getHedgeMinSamples() {
+        return getIntProperty("api.hedge.min.samples", DEFAULT_HEDGE_MIN_SAMPLES);
+    }
+
+    /**
+     * GET 요청의 최대 시도 횟수 반환 (첫 시도 포함, 1이면 재시도하지 않음)
+     */
+    public static int getRetryGetAttempts() {
+        return getIntProperty("api.retry.get.attempts", DEFAULT_RETRY_GET_ATTEMPTS);
+    }
+
+    /**
+     * POST/PUT/DELETE 요청의 최대 시도 횟수 반환
+     * 2 이상이면 요청마다 Idempotency-Key 헤더를 붙이므로, 백엔드가 이 헤더로 중복 요청을 거를 때만 올려야 함
+     */
+    public static int getRetryWriteAttempts() {
+        return getIntProperty("api.retry.write.attempts", DEFAULT_RETRY_WRITE_ATTEMPTS);
+    }
+
+    /**
+     * 재시도 백오프의 기본 대기 시간(밀리초) 반환
+     */
+    public static int getRetryBaseMillis() {
+        return getIntProperty("api.retry.base.ms", DEFAULT_RETRY_BASE_MILLIS);
+    }
+
+    /**
+     * 재시도 백오프의 최대 대기 시간(밀리초) 반환
+     */
+    public static int getRetryMaxMillis() {
+        return getIntProperty("api.retry.max.ms", DEFAULT_RETRY_MAX_MILLIS);
+    }
+
+    /**
+     * 서킷 브레이커 사용 여부 반환
+     */
+    public static boolean isCircuitBreakerEnabled() {
+        return getBooleanProperty("api.circuit.enabled", DEFAULT_CIRCUIT_BREAKER_ENABLED);
+    }
+
+    /**
+     * 서킷 브레이커를 여는 연속 실패 횟수 반환
+     */
+    public static int getCircuitFailureThreshold() {
+        return getIntProperty("api.circuit.failure.threshold", DEFAULT_CIRCUIT_FAILURE_THRESHOLD);
+    }
+
+    /**
+     * 서킷 브레이커가 열린 뒤 시험 요청을 보내기까지 기다리는 시간(초) 반환
+     */
+    public static int getCircuitOpenSeconds() {
+        return getIntProperty("api.circuit.open.seconds", DEFAULT_CIRCUIT_OPEN_SECONDS);
+    }
+
+    /**
+     * 동일 GET 요청 병합(single-flight) 사용 여부 반환
+     */
+    public static boolean isGetCoalescingEnabled() {
+        return getBooleanProperty("api.get.coalescing", DEFAULT_GET_COALESCING_ENABLED);
+    }
+
+    /**
+     * API 호출 실행 방식 반환 ("enqueue" 또는 "virtual")
+     */
+    public static String getApiExecutionMode() {
+        return System.getProperty("api.execution.mode", DEFAULT_API_EXECUTION_MODE);
+    }
+
+    /**
+     * 가상 스레드 실행 방식에서 동시에 진행할 수 있는 최대 블로킹 호출 수 반환
+     */
+    public static int getIoMaxConcurrency() {
+        return getIntProperty("api.io.max.concurrency", DEFAULT_IO_MAX_CONCURRENCY);
+    }
+
+    /**
+     * 페이지 단위 API 조회 시 한 페이지에 요청할 항목 수 반환
+     */
+    public static int getApiPageSize() {
+        return getIntProperty("api.page.size", DEFAULT_API_PAGE_SIZE);
+    }
+
+    /**
+     * 실시간 예약 이벤트 수신 사용 여부 반환
+     */
+    public static boolean isPushEnabled() {
+        return getBooleanProperty("api.push.enabled", DEFAULT_PUSH_ENABLED);
+    }
+
+    /**
+     * 실시간 예약 이벤트 WebSocket 경로 반환
+     */
+    public static String getPushPath() {
+        return System.getProperty("api.push.path", DEFAULT_PUSH_PATH);
+    }
+
+    /**
+     * 실시간 이벤트 연결 재시도 최대 대기 시간(초) 반환
+     */
+    public static int getPushReconnectMaxSeconds() {
+        return getIntProperty("api.push.reconnect.max", DEFAULT_PUSH_RECONNECT_MAX_SECONDS);
+    }
+
+    /**
+     * EDT 응답성 모니터 사용 여부 반환
+     */
+    public static boolean isEdtMonitorEnabled() {
+        return getBooleanProperty("app.edt.monitor.enabled", DEFAULT_EDT_MONITOR_ENABLED);
+    }
+
+    /**
+     * UI 멈춤(stall)으로 집계할 EDT 이벤트 처리 시간 기준(밀리초) 반환
+     */
+    public static int getEdtStallMillis() {
+        return getIntProperty("app.edt.stall.ms", DEFAULT_EDT_STALL_MILLIS);
+    }
+
+    /**
+     * 스택을 로그로 남길 긴 EDT 작업의 기준 시간(밀리초) 반환
+     */
+    public static int getEdtLongTaskMillis() {
+        return getIntProperty("app.edt.long.task.ms", DEFAULT_EDT_LONG_TASK_MILLIS);
     }
 
     /**
@@ -73,6 +467,29 @@ public class ApplicationConfig {
         return DEFAULT_MAIN_WINDOW_HEIGHT;
     }
 
+    /**
+     * 정수형 시스템 프로퍼티를 읽고, 없거나 잘못된 값이면 기본값 반환
+     */
+    private static int getIntProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * 불리언 시스템 프로퍼티를 읽고, 없으면 기본값 반환
+     */
+    private static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
     private ApplicationConfig() {
         // 유틸리티 클래스이므로 인스턴스 생성 방지
     }
@@ -1,10 +1,11 @@
 package org.javateam11.ClassroomReservation.controller;
 
 import org.javateam11.ClassroomReservation.model.*;
+import org.javateam11.ClassroomReservation.service.ReservationService;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
 import org.javateam11.ClassroomReservation.view.*;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * ControllerFactory는 Controller 객체들의 생성과 의존성 주입을 담당합니다.
@@ -43,15 +44,14 @@ public class ControllerFactory {
     /**
      * ReservationDetailController와 ReservationDetailView를 생성하고 연결합니다.
      */
-    public ReservationDetailView createReservationDetailView(Room room, MainController mainController,
-                                                             Map<String, Long> roomIdMap) {
+    public ReservationDetailView createReservationDetailView(Room room, MainController mainController) {
         ReservationDetailView view = new ReservationDetailView();
         ReservationDetailController controller = new ReservationDetailController(room, mainController, view);
         view.setController(controller);
 
         // roomId 설정 (API 호출 시 필요)
-        if (roomIdMap != null && roomIdMap.containsKey(room.getName())) {
-            Long roomId = roomIdMap.get(room.getName());
+        Long roomId = RoomRegistry.getInstance().getRoomId(room);
+        if (roomId != null) {
             view.setRoomId(roomId);
         }
 
@@ -62,8 +62,8 @@ public class ControllerFactory {
      * ReservationController와 ReservationView를 생성하고 연결합니다.
      */
     public ReservationView createReservationView(Room room, ReservationDetailView detailView,
-                                                 java.awt.Component parentComponent, Map<String, Long> roomIdMap) {
-        ReservationController controller = new ReservationController(room, detailView, parentComponent, roomIdMap);
+                                                 java.awt.Component parentComponent) {
+        ReservationController controller = new ReservationController(room, detailView, parentComponent);
         ReservationView view = new ReservationView(controller);
         controller.setReservationView(view);
         return view;
@@ -76,6 +76,13 @@ public class ControllerFactory {
         return new LoginView();
     }
 
+    /**
+     * FreeSlotSearchView를 생성합니다.
+     */
+    public FreeSlotSearchView createFreeSlotSearchView(List<Building> buildings) {
+        return new FreeSlotSearchView(buildings, new ReservationService());
+    }
+
     /**
      * MyReservationView를 생성합니다.
      */
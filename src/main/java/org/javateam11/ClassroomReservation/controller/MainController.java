@@ -10,7 +10,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * MainController는 MVC 패턴에서 Controller 역할을 담당하며,
@@ -61,10 +60,8 @@ public class MainController {
      * @param room 클릭된 강의실 객체
      */
     public void onReservationClicked(Room room) {
-        // MainView에서 roomIdMap을 가져와서 전달
-        Map<String, Long> roomIdMap = view.getRoomIdMap();
         ReservationDetailView reservationDetailView = ControllerFactory.getInstance()
-                .createReservationDetailView(room, this, roomIdMap);
+                .createReservationDetailView(room, this);
         reservationDetailView.setVisible(true);
     }
 
@@ -1,8 +1,11 @@
 package org.javateam11.ClassroomReservation.controller;
 
 import org.javateam11.ClassroomReservation.model.Room;
+import org.javateam11.ClassroomReservation.model.Recurrence;
 import org.javateam11.ClassroomReservation.model.Reservation;
+import org.javateam11.ClassroomReservation.model.ReservationResult;
 import org.javateam11.ClassroomReservation.service.ReservationService;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
 import org.javateam11.ClassroomReservation.service.TokenManager;
 import org.javateam11.ClassroomReservation.view.ReservationDetailView;
 import org.javateam11.ClassroomReservation.view.ReservationView;
@@ -14,28 +17,29 @@ import javax.swing.*;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Map;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * ReservationController 구현체
- * 예약 생성 로직을 처리합니다.
+ * 예약 생성 로직(단건 및 반복 예약)을 처리합니다.
  */
 public class ReservationController {
     private static final Logger logger = LoggerFactory.getLogger(ReservationController.class);
 
+    // 반복 예약 결과에서 실패 사유를 나열할 최대 건수
+    private static final int MAX_LISTED_FAILURES = 10;
+
     private final Room room;
     private final ReservationDetailView detailView;
     private final Component parentComponent;
     private ReservationView reservationView;
     private final ReservationService reservationService;
-    private final Map<String, Long> roomIdMap;
 
-    public ReservationController(Room room, ReservationDetailView detailView, Component parentComponent,
-                                 Map<String, Long> roomIdMap) {
+    public ReservationController(Room room, ReservationDetailView detailView, Component parentComponent) {
         this.room = room;
         this.detailView = detailView;
         this.parentComponent = parentComponent;
-        this.roomIdMap = roomIdMap;
         this.reservationService = new ReservationService();
     }
 
@@ -46,29 +50,10 @@ public class ReservationController {
     public void createReservation(LocalDate date, LocalTime start, LocalTime end) {
         logger.info("강의실 예약 시도: {} ({}층 {}호)", room.getName(), room.getFloor(), room.getBuildingName());
 
-        // 현재 로그인한 사용자의 학번을 예약자로 사용
-        String currentStudentId = TokenManager.getInstance().getCurrentStudentId();
-        if (currentStudentId == null) {
-            JOptionPane.showMessageDialog(parentComponent, "로그인이 필요합니다.", "인증 오류", JOptionPane.ERROR_MESSAGE);
+        Reservation reservation = newReservation(date, start, end);
+        if (reservation == null) {
             return;
         }
-
-        // roomId 조회
-        Long roomId = null;
-        if (roomIdMap != null) {
-            roomId = roomIdMap.get(room.getName());
-        }
-
-        if (roomId == null) {
-            logger.error("강의실 {}의 roomId를 찾을 수 없습니다", room.getName());
-            JOptionPane.showMessageDialog(parentComponent,
-                    "강의실 정보를 찾을 수 없습니다.\n새로고침 후 다시 시도해주세요.",
-                    "오류", JOptionPane.ERROR_MESSAGE);
-            return;
-        }
-
-        Reservation reservation = Reservation.forNewReservation(currentStudentId, date, start, end,
-                room.getName()).withRoomId(roomId);
         logger.debug("서버에 예약 생성 요청: {} (roomId: {})", reservation.getRoomName(), reservation.getRoomId());
 
         reservationService.createReservation(
@@ -78,7 +63,13 @@ public class ReservationController {
                     logger.info("예약 생성 성공: 예약자={}, 장소={}, 날짜={}, 시간={}-{}",
                             reservation.getStudentId(), reservation.getRoomName(),
                             reservation.getDate(), reservation.getStartTime(), reservation.getEndTime());
-                    JOptionPane.showMessageDialog(parentComponent, "예약이 완료되었습니다.");
+                    if (createdReservation.getId() == null) {
+                        // 서버에 연결할 수 없어 오프라인 대기열에 저장됨
+                        JOptionPane.showMessageDialog(parentComponent,
+                                "서버에 연결할 수 없어 예약 요청을 저장했습니다.\n연결이 복구되면 자동으로 전송됩니다.");
+                    } else {
+                        JOptionPane.showMessageDialog(parentComponent, "예약이 완료되었습니다.");
+                    }
 
                     // 예약 뷰와 상세 뷰 닫기
                     if (reservationView != null) {
@@ -100,6 +91,98 @@ public class ReservationController {
                 });
     }
 
+    /**
+     * 반복 규칙의 모든 날짜를 같은 시간으로 한 번에 예약
+     */
+    public void createReservations(Recurrence recurrence, LocalTime start, LocalTime end) {
+        logger.info("강의실 반복 예약 시도: {} ({}층 {}호), {}", room.getName(), room.getFloor(),
+                room.getBuildingName(), recurrence);
+
+        List<LocalDate> dates;
+        try {
+            dates = recurrence.expand();
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(parentComponent, e.getMessage(), "반복 예약 오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        Reservation template = newReservation(dates.get(0), start, end);
+        if (template == null) {
+            return;
+        }
+        List<Reservation> reservations = dates.stream()
+                .map(date -> Reservation.builder().from(template).date(date).build())
+                .collect(Collectors.toList());
+
+        reservationService.createReservations(reservations, results -> {
+            showBulkResults(results);
+
+            // 하나라도 예약되었으면 예약 뷰와 상세 뷰 닫기
+            if (results.stream().anyMatch(ReservationResult::isAccepted)) {
+                if (reservationView != null) {
+                    reservationView.dispose();
+                }
+                if (detailView != null) {
+                    detailView.dispose();
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 사용자와 강의실로 채운 새 예약
+     * 로그인하지 않았거나 강의실 ID를 찾을 수 없으면 안내 후 null 반환
+     */
+    private Reservation newReservation(LocalDate date, LocalTime start, LocalTime end) {
+        // 현재 로그인한 사용자의 학번을 예약자로 사용
+        String currentStudentId = TokenManager.getInstance().getCurrentStudentId();
+        if (currentStudentId == null) {
+            JOptionPane.showMessageDialog(parentComponent, "로그인이 필요합니다.", "인증 오류", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+
+        // roomId 조회 (건물, 층, 이름 기준)
+        Long roomId = RoomRegistry.getInstance().getRoomId(room);
+
+        if (roomId == null) {
+            logger.error("강의실 {}의 roomId를 찾을 수 없습니다", room.getName());
+            JOptionPane.showMessageDialog(parentComponent,
+                    "강의실 정보를 찾을 수 없습니다.\n새로고침 후 다시 시도해주세요.",
+                    "오류", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+
+        return Reservation.forNewReservation(currentStudentId, date, start, end, room.getName()).withRoomId(roomId);
+    }
+
+    /**
+     * 반복 예약의 날짜별 결과 요약 표시 (실패 사유는 최대 MAX_LISTED_FAILURES건)
+     */
+    private void showBulkResults(List<ReservationResult> results) {
+        long created = results.stream().filter(r -> r.getStatus() == ReservationResult.Status.CREATED).count();
+        long queued = results.stream().filter(r -> r.getStatus() == ReservationResult.Status.QUEUED).count();
+        List<ReservationResult> rejected = results.stream()
+                .filter(r -> !r.isAccepted())
+                .collect(Collectors.toList());
+
+        StringBuilder message = new StringBuilder();
+        message.append("총 ").append(results.size()).append("건 중 ").append(created).append("건 예약 완료");
+        if (queued > 0) {
+            message.append(", ").append(queued).append("건 전송 대기 (연결 복구 후 자동 전송)");
+        }
+        if (!rejected.isEmpty()) {
+            message.append("\n\n예약하지 못한 날짜 (").append(rejected.size()).append("건):");
+            rejected.stream().limit(MAX_LISTED_FAILURES).forEach(result -> message.append("\n- ")
+                    .append(result.getRequested().getDate()).append(": ").append(result.getMessage()));
+            if (rejected.size() > MAX_LISTED_FAILURES) {
+                message.append("\n... 외 ").append(rejected.size() - MAX_LISTED_FAILURES).append("건");
+            }
+        }
+
+        JOptionPane.showMessageDialog(parentComponent, message.toString(), "반복 예약 결과",
+                rejected.isEmpty() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+    }
+
     public String getRoomName() {
         return room.getName();
     }
@@ -0,0 +1,95 @@
+package org.javateam11.ClassroomReservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 백엔드의 페이지 단위 응답 DTO (Spring Data Page 형식)
+ * API 응답 예시:
+ * {
+ * "content": [ ... ],
+ * "number": 0,
+ * "size": 100,
+ * "totalElements": 5,
+ * "totalPages": 1,
+ * "last": true
+ * }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PageResponse<T> {
+
+    @JsonProperty("content")
+    private List<T> content = new ArrayList<>();
+
+    @JsonProperty("number")
+    private int number;
+
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("totalElements")
+    private long totalElements;
+
+    @JsonProperty("totalPages")
+    private int totalPages;
+
+    @JsonProperty("last")
+    private boolean last = true;
+
+    // 기본 생성자
+    public PageResponse() {
+    }
+
+    // Getter 메서드들
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+
+    // Setter 메서드들
+    public void setContent(List<T> content) {
+        this.content = content != null ? content : new ArrayList<>();
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public void setLast(boolean last) {
+        this.last = last;
+    }
+}
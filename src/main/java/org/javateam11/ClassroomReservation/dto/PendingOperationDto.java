@@ -0,0 +1,133 @@
+package org.javateam11.ClassroomReservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 오프라인 동안 서버에 보내지 못해 대기열(outbox)에 저장된 예약 생성/삭제 요청
+ * 로컬 저널 파일에 JSON으로 기록되며, 연결이 복구되면 저장된 순서대로 다시 전송됩니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PendingOperationDto {
+
+    /**
+     * 요청 종류
+     */
+    public enum Type {
+        CREATE, DELETE
+    }
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("type")
+    private Type type;
+
+    // CREATE: 생성할 예약
+    @JsonProperty("reservation")
+    private ReservationDto reservation;
+
+    // DELETE: 삭제할 예약 ID
+    @JsonProperty("reservationId")
+    private Long reservationId;
+
+    // 요청이 영향을 주는 날짜 (모르면 null)
+    @JsonProperty("date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    // 대기열에 저장된 시각 (epoch millis)
+    @JsonProperty("queuedAt")
+    private long queuedAt;
+
+    // 기본 생성자
+    public PendingOperationDto() {
+    }
+
+    /**
+     * 예약 생성 요청
+     */
+    public static PendingOperationDto create(ReservationDto reservation) {
+        PendingOperationDto operation = newOperation(Type.CREATE);
+        operation.reservation = reservation;
+        operation.date = reservation.getDate();
+        return operation;
+    }
+
+    /**
+     * 예약 삭제 요청
+     */
+    public static PendingOperationDto delete(Long reservationId, LocalDate date) {
+        PendingOperationDto operation = newOperation(Type.DELETE);
+        operation.reservationId = reservationId;
+        operation.date = date;
+        return operation;
+    }
+
+    private static PendingOperationDto newOperation(Type type) {
+        PendingOperationDto operation = new PendingOperationDto();
+        operation.id = UUID.randomUUID().toString();
+        operation.type = type;
+        operation.queuedAt = System.currentTimeMillis();
+        return operation;
+    }
+
+    // Getter 메서드들
+    public String getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public ReservationDto getReservation() {
+        return reservation;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public long getQueuedAt() {
+        return queuedAt;
+    }
+
+    @JsonIgnore
+    public boolean isCreate() {
+        return type == Type.CREATE;
+    }
+
+    /**
+     * 충돌 보고 등에 사용할 요청 설명
+     */
+    @JsonIgnore
+    public String describe() {
+        if (isCreate() && reservation != null) {
+            return "예약 생성 (" + reservation.getDate() + " " + reservation.getStartTime() + "-"
+                    + reservation.getEndTime() + ", roomId " + reservation.getRoomId() + ")";
+        }
+        return "예약 삭제 (reservationId " + reservationId + ")";
+    }
+
+    @Override
+    public String toString() {
+        return "PendingOperationDto{" +
+                "id='" + id + '\'' +
+                ", type=" + type +
+                ", reservation=" + reservation +
+                ", reservationId=" + reservationId +
+                ", date=" + date +
+                ", queuedAt=" + queuedAt +
+                '}';
+    }
+}
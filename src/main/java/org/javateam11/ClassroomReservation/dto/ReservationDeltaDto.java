@@ -0,0 +1,66 @@
+package org.javateam11.ClassroomReservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마지막 동기화 이후 변경된 예약 정보 DTO (증분 동기화용)
+ * API 응답 예시:
+ * {
+ * "syncToken": "1718000000123",
+ * "upserts": [ { "id": 7, "roomId": 4, ... } ],
+ * "deletedIds": [3, 5]
+ * }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ReservationDeltaDto {
+
+    @JsonProperty("syncToken")
+    private String syncToken;
+
+    @JsonProperty("upserts")
+    private List<ReservationDto> upserts = new ArrayList<>();
+
+    @JsonProperty("deletedIds")
+    private List<Long> deletedIds = new ArrayList<>();
+
+    // 기본 생성자
+    public ReservationDeltaDto() {
+    }
+
+    // Getter 메서드들
+    public String getSyncToken() {
+        return syncToken;
+    }
+
+    public List<ReservationDto> getUpserts() {
+        return upserts;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    // Setter 메서드들
+    public void setSyncToken(String syncToken) {
+        this.syncToken = syncToken;
+    }
+
+    public void setUpserts(List<ReservationDto> upserts) {
+        this.upserts = upserts != null ? upserts : new ArrayList<>();
+    }
+
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds != null ? deletedIds : new ArrayList<>();
+    }
+
+    /**
+     * 변경 사항이 없는지 확인
+     */
+    public boolean isEmpty() {
+        return upserts.isEmpty() && deletedIds.isEmpty();
+    }
+}
@@ -2,9 +2,13 @@ package org.javateam11.ClassroomReservation.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.javateam11.ClassroomReservation.dto.json.FastLocalDateDeserializer;
+import org.javateam11.ClassroomReservation.dto.json.FastLocalTimeDeserializer;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Objects;
 
 /**
  * 백엔드 API 응답에서 받아오는 예약 정보 DTO
@@ -31,14 +35,17 @@ public class ReservationDto {
 
     @JsonProperty("date")
     @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FastLocalDateDeserializer.class)
     private LocalDate date;
 
     @JsonProperty("startTime")
     @JsonFormat(pattern = "HH:mm")
+    @JsonDeserialize(using = FastLocalTimeDeserializer.class)
     private LocalTime startTime;
 
     @JsonProperty("endTime")
     @JsonFormat(pattern = "HH:mm")
+    @JsonDeserialize(using = FastLocalTimeDeserializer.class)
     private LocalTime endTime;
 
     // 기본 생성자
@@ -106,6 +113,27 @@ public class ReservationDto {
         this.endTime = endTime;
     }
 
+    // 증분 동기화 시 변경 여부 판단을 위해 모든 필드로 비교
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        ReservationDto other = (ReservationDto) obj;
+        return Objects.equals(id, other.id) &&
+                Objects.equals(roomId, other.roomId) &&
+                Objects.equals(studentId, other.studentId) &&
+                Objects.equals(date, other.date) &&
+                Objects.equals(startTime, other.startTime) &&
+                Objects.equals(endTime, other.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, roomId, studentId, date, startTime, endTime);
+    }
+
     @Override
     public String toString() {
         return "ReservationDto{" +
@@ -0,0 +1,92 @@
+package org.javateam11.ClassroomReservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.javateam11.ClassroomReservation.dto.json.FastLocalDateDeserializer;
+
+import java.time.LocalDate;
+
+/**
+ * 실시간 예약 변경 이벤트 DTO (WebSocket 푸시 메시지)
+ * 메시지 예시:
+ * {
+ * "type": "CREATED",
+ * "date": "2025-06-10",
+ * "reservationId": 7,
+ * "reservation": { "id": 7, "roomId": 4, ... }
+ * }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ReservationEventDto {
+
+    /**
+     * 이벤트 종류
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    @JsonProperty("type")
+    private Type type;
+
+    @JsonProperty("date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonDeserialize(using = FastLocalDateDeserializer.class)
+    private LocalDate date;
+
+    @JsonProperty("reservationId")
+    private Long reservationId;
+
+    @JsonProperty("reservation")
+    private ReservationDto reservation;
+
+    // 기본 생성자
+    public ReservationEventDto() {
+    }
+
+    // Getter 메서드들
+    public Type getType() {
+        return type;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public ReservationDto getReservation() {
+        return reservation;
+    }
+
+    // Setter 메서드들
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    public void setReservation(ReservationDto reservation) {
+        this.reservation = reservation;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationEventDto{" +
+                "type=" + type +
+                ", date=" + date +
+                ", reservationId=" + reservationId +
+                ", reservation=" + reservation +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package org.javateam11.ClassroomReservation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -68,8 +69,9 @@ public class RoomDto {
 
     /**
      * 로컬 강의실 데이터와 매칭하기 위한 키 생성
-     * "건물명_강의실명" 형태로 반환
+     * "건물명_강의실명" 형태로 반환 (JSON 필드가 아님)
      */
+    @JsonIgnore
     public String getMatchingKey() {
         return building + "_" + name;
     }
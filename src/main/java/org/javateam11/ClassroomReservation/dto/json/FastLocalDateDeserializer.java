@@ -0,0 +1,56 @@
+package org.javateam11.ClassroomReservation.dto.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * "yyyy-MM-dd" 형식의 날짜를 DateTimeFormatter 없이 숫자를 직접 읽어 변환하는 역직렬화기
+ * 파서의 문자 버퍼를 그대로 읽으므로 중간 String을 만들지 않습니다.
+ * 형식이 다르면 LocalDate.parse(ISO 형식)로 처리합니다.
+ */
+public class FastLocalDateDeserializer extends StdScalarDeserializer<LocalDate> {
+
+    public FastLocalDateDeserializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, p);
+        }
+
+        char[] buffer = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int length = p.getTextLength();
+
+        if (length == 10 && buffer[offset + 4] == '-' && buffer[offset + 7] == '-') {
+            int year = FastTimeDigits.parse(buffer, offset, 4);
+            int month = FastTimeDigits.parse(buffer, offset + 5, 2);
+            int day = FastTimeDigits.parse(buffer, offset + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    return (LocalDate) ctxt.handleWeirdStringValue(LocalDate.class, p.getText(), e.getMessage());
+                }
+            }
+        }
+
+        String text = p.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeException e) {
+            return (LocalDate) ctxt.handleWeirdStringValue(LocalDate.class, text, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.javateam11.ClassroomReservation.dto.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+
+/**
+ * "HH:mm"(또는 "HH:mm:ss") 형식의 시간을 DateTimeFormatter 없이 숫자를 직접 읽어 변환하는 역직렬화기
+ * 파서의 문자 버퍼를 그대로 읽으므로 중간 String을 만들지 않습니다.
+ * 형식이 다르면 LocalTime.parse(ISO 형식)로 처리합니다.
+ */
+public class FastLocalTimeDeserializer extends StdScalarDeserializer<LocalTime> {
+
+    public FastLocalTimeDeserializer() {
+        super(LocalTime.class);
+    }
+
+    @Override
+    public LocalTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return (LocalTime) ctxt.handleUnexpectedToken(LocalTime.class, p);
+        }
+
+        char[] buffer = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int length = p.getTextLength();
+
+        if ((length == 5 || length == 8) && buffer[offset + 2] == ':') {
+            int hour = FastTimeDigits.parse(buffer, offset, 2);
+            int minute = FastTimeDigits.parse(buffer, offset + 3, 2);
+            int second = 0;
+            if (length == 8) {
+                second = buffer[offset + 5] == ':' ? FastTimeDigits.parse(buffer, offset + 6, 2) : -1;
+            }
+            if (hour >= 0 && minute >= 0 && second >= 0) {
+                try {
+                    return LocalTime.of(hour, minute, second);
+                } catch (DateTimeException e) {
+                    return (LocalTime) ctxt.handleWeirdStringValue(LocalTime.class, p.getText(), e.getMessage());
+                }
+            }
+        }
+
+        String text = p.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(text);
+        } catch (DateTimeException e) {
+            return (LocalTime) ctxt.handleWeirdStringValue(LocalTime.class, text, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.javateam11.ClassroomReservation.dto.json;
+
+/**
+ * 날짜/시간 역직렬화기에서 사용하는 고정 길이 숫자 파싱 헬퍼
+ */
+final class FastTimeDigits {
+
+    private FastTimeDigits() {
+    }
+
+    /**
+     * buffer[offset, offset + count)의 10진수 값을 반환 (숫자가 아닌 문자가 있으면 -1)
+     */
+    static int parse(char[] buffer, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
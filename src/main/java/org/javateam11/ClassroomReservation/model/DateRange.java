@@ -0,0 +1,71 @@
+package org.javateam11.ClassroomReservation.model;
+
+import java.time.LocalDate;
+
+/**
+ * 조회 기간을 표현하는 클래스 (양 끝 날짜 포함)
+ * 시작 또는 종료 날짜가 null이면 해당 방향으로 제한이 없음을 의미합니다.
+ */
+public class DateRange {
+
+    // 시작 날짜 (포함, null이면 제한 없음)
+    private final LocalDate from;
+
+    // 종료 날짜 (포함, null이면 제한 없음)
+    private final LocalDate to;
+
+    private DateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이후일 수 없습니다.");
+        }
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * from ~ to 기간 생성
+     */
+    public static DateRange of(LocalDate from, LocalDate to) {
+        return new DateRange(from, to);
+    }
+
+    /**
+     * from 이후 전체 기간 생성
+     */
+    public static DateRange startingFrom(LocalDate from) {
+        return new DateRange(from, null);
+    }
+
+    /**
+     * 제한 없는 전체 기간 생성
+     */
+    public static DateRange unbounded() {
+        return new DateRange(null, null);
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * 주어진 날짜가 기간에 포함되는지 확인
+     */
+    public boolean contains(LocalDate date) {
+        if (date == null) {
+            return false;
+        }
+        return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+    }
+
+    @Override
+    public String toString() {
+        return "DateRange{" +
+                "from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package org.javateam11.ClassroomReservation.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 빈 강의실 검색 결과 하나 (강의실의 하루 중 연속으로 비어 있는 구간)
+ * start ~ end는 요청한 이용 시간만큼의 추천 구간이고, freeUntil은 그 강의실이 계속 비어 있는 시각입니다.
+ */
+public class FreeSlot {
+
+    private final Long roomId;
+    private final String building;
+    private final Integer floor;
+    private final String roomName;
+    private final LocalDate date;
+    private final LocalTime start;
+    private final LocalTime end;
+    private final LocalTime freeUntil;
+
+    public FreeSlot(Long roomId, String building, Integer floor, String roomName, LocalDate date,
+            LocalTime start, LocalTime end, LocalTime freeUntil) {
+        this.roomId = roomId;
+        this.building = building;
+        this.floor = floor;
+        this.roomName = roomName;
+        this.date = date;
+        this.start = start;
+        this.end = end;
+        this.freeUntil = freeUntil;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public Integer getFloor() {
+        return floor;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    public LocalTime getFreeUntil() {
+        return freeUntil;
+    }
+
+    /**
+     * 추천 구간 이후에도 남는 빈 시간 (분)
+     */
+    public int getSpareMinutes() {
+        return (freeUntil.toSecondOfDay() - end.toSecondOfDay()) / 60;
+    }
+
+    @Override
+    public String toString() {
+        return "FreeSlot{" +
+                "room=" + building + "-" + roomName +
+                ", date=" + date +
+                ", " + start + "-" + end +
+                ", freeUntil=" + freeUntil +
+                '}';
+    }
+}
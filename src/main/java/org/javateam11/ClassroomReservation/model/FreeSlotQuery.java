@@ -0,0 +1,145 @@
+package org.javateam11.ClassroomReservation.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 빈 강의실 검색 조건을 표현하는 클래스
+ * "기간 안의 하루 중 [windowStart, windowEnd) 시간대에 durationMinutes분 연속으로 비어 있는 강의실"을 찾습니다.
+ * 건물/층이 null이면 해당 조건으로 거르지 않습니다.
+ */
+public class FreeSlotQuery {
+
+    // 기본 최대 결과 수
+    public static final int DEFAULT_MAX_RESULTS = 200;
+
+    private final int durationMinutes;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+    private final DateRange dates;
+    private final String building;
+    private final Integer floor;
+    private final int maxResults;
+
+    private FreeSlotQuery(Builder builder) {
+        this.durationMinutes = builder.durationMinutes;
+        this.windowStart = builder.windowStart;
+        this.windowEnd = builder.windowEnd;
+        this.dates = builder.dates;
+        this.building = builder.building;
+        this.floor = builder.floor;
+        this.maxResults = builder.maxResults;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public LocalTime getWindowStart() {
+        return windowStart;
+    }
+
+    public LocalTime getWindowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * 검색 기간 (양 끝 포함, 항상 시작과 종료 날짜가 있음)
+     */
+    public DateRange getDates() {
+        return dates;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public Integer getFloor() {
+        return floor;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    @Override
+    public String toString() {
+        return "FreeSlotQuery{" +
+                "durationMinutes=" + durationMinutes +
+                ", window=" + windowStart + "-" + windowEnd +
+                ", dates=" + dates +
+                ", building='" + building + '\'' +
+                ", floor=" + floor +
+                '}';
+    }
+
+    /**
+     * FreeSlotQuery Builder 클래스
+     */
+    public static class Builder {
+        private int durationMinutes = 60;
+        private LocalTime windowStart = LocalTime.of(9, 0);
+        private LocalTime windowEnd = LocalTime.of(22, 0);
+        private DateRange dates;
+        private String building;
+        private Integer floor;
+        private int maxResults = DEFAULT_MAX_RESULTS;
+
+        private Builder() {
+        }
+
+        public Builder durationMinutes(int durationMinutes) {
+            this.durationMinutes = durationMinutes;
+            return this;
+        }
+
+        public Builder window(LocalTime windowStart, LocalTime windowEnd) {
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            return this;
+        }
+
+        public Builder dates(LocalDate from, LocalDate to) {
+            this.dates = DateRange.of(from, to);
+            return this;
+        }
+
+        public Builder building(String building) {
+            this.building = building;
+            return this;
+        }
+
+        public Builder floor(Integer floor) {
+            this.floor = floor;
+            return this;
+        }
+
+        public Builder maxResults(int maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * 유효성 검사 후 검색 조건 생성
+         */
+        public FreeSlotQuery build() {
+            if (durationMinutes <= 0) {
+                throw new IllegalArgumentException("이용 시간은 1분 이상이어야 합니다.");
+            }
+            if (windowStart == null || windowEnd == null || !windowStart.isBefore(windowEnd)) {
+                throw new IllegalArgumentException("검색 시간대의 시작 시간은 종료 시간보다 빨라야 합니다.");
+            }
+            if (dates == null || dates.getFrom() == null || dates.getTo() == null) {
+                throw new IllegalArgumentException("검색 기간을 입력해주세요.");
+            }
+            if (maxResults <= 0) {
+                throw new IllegalArgumentException("최대 결과 수는 1 이상이어야 합니다.");
+            }
+            return new FreeSlotQuery(this);
+        }
+    }
+}
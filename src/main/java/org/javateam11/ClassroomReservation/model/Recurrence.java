@@ -0,0 +1,128 @@
+package org.javateam11.ClassroomReservation.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 반복 예약의 날짜 규칙을 표현하는 클래스
+ * 매주 같은 요일, N일 간격, 직접 지정한 날짜 목록 중 하나의 규칙으로 예약 날짜 목록을 만듭니다.
+ */
+public class Recurrence {
+
+    // 한 번에 만들 수 있는 최대 예약 수 (한 학기 매일 예약 정도)
+    public static final int MAX_OCCURRENCES = 120;
+
+    /**
+     * 반복 규칙 종류
+     */
+    public enum Type {
+        ONCE, WEEKLY, EVERY_N_DAYS, DATE_LIST
+    }
+
+    private final Type type;
+    private final LocalDate start;
+    private final LocalDate until;
+    private final int intervalDays;
+    private final List<LocalDate> dates;
+
+    private Recurrence(Type type, LocalDate start, LocalDate until, int intervalDays, List<LocalDate> dates) {
+        this.type = type;
+        this.start = start;
+        this.until = until;
+        this.intervalDays = intervalDays;
+        this.dates = dates;
+    }
+
+    /**
+     * 반복 없이 하루만 예약
+     */
+    public static Recurrence once(LocalDate date) {
+        return new Recurrence(Type.ONCE, date, date, 1, List.of(date));
+    }
+
+    /**
+     * start부터 until까지 매주 같은 요일
+     */
+    public static Recurrence weekly(LocalDate start, LocalDate until) {
+        return everyNDays(Type.WEEKLY, start, until, 7);
+    }
+
+    /**
+     * start부터 until까지 intervalDays일 간격
+     */
+    public static Recurrence everyNDays(LocalDate start, LocalDate until, int intervalDays) {
+        return everyNDays(Type.EVERY_N_DAYS, start, until, intervalDays);
+    }
+
+    private static Recurrence everyNDays(Type type, LocalDate start, LocalDate until, int intervalDays) {
+        if (start == null || until == null) {
+            throw new IllegalArgumentException("반복 시작 날짜와 종료 날짜를 입력해주세요.");
+        }
+        if (until.isBefore(start)) {
+            throw new IllegalArgumentException("반복 종료 날짜는 시작 날짜보다 이전일 수 없습니다.");
+        }
+        if (intervalDays <= 0) {
+            throw new IllegalArgumentException("반복 간격은 1일 이상이어야 합니다.");
+        }
+        return new Recurrence(type, start, until, intervalDays, null);
+    }
+
+    /**
+     * 직접 지정한 날짜 목록 (중복은 제거하고 날짜순으로 정렬)
+     */
+    public static Recurrence dates(List<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            throw new IllegalArgumentException("예약할 날짜를 하나 이상 입력해주세요.");
+        }
+        List<LocalDate> sorted = new ArrayList<>(new TreeSet<>(dates));
+        return new Recurrence(Type.DATE_LIST, sorted.get(0), sorted.get(sorted.size() - 1), 1, sorted);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * 규칙에 해당하는 예약 날짜 목록 (날짜순)
+     *
+     * @throws IllegalArgumentException 날짜 수가 MAX_OCCURRENCES를 넘는 경우
+     */
+    public List<LocalDate> expand() {
+        List<LocalDate> occurrences;
+        if (dates != null) {
+            occurrences = new ArrayList<>(dates);
+        } else {
+            occurrences = new ArrayList<>();
+            for (LocalDate date = start; !date.isAfter(until); date = date.plusDays(intervalDays)) {
+                occurrences.add(date);
+                if (occurrences.size() > MAX_OCCURRENCES) {
+                    break;
+                }
+            }
+        }
+        if (occurrences.size() > MAX_OCCURRENCES) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_OCCURRENCES + "개까지 예약할 수 있습니다.");
+        }
+        return occurrences;
+    }
+
+    @Override
+    public String toString() {
+        return "Recurrence{" +
+                "type=" + type +
+                ", start=" + start +
+                ", until=" + until +
+                ", intervalDays=" + intervalDays +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package org.javateam11.ClassroomReservation.model;
+
+/**
+ * 여러 건을 한 번에 예약할 때 각 예약 요청의 처리 결과를 표현하는 클래스
+ */
+public class ReservationResult {
+
+    /**
+     * 처리 결과 종류
+     */
+    public enum Status {
+        // 서버에 생성됨
+        CREATED,
+        // 서버에 연결할 수 없어 오프라인 대기열에 저장됨
+        QUEUED,
+        // 로컬에 저장된 예약과 겹쳐 서버에 보내지 않음
+        CONFLICT,
+        // 서버가 거절하거나 요청이 실패함
+        FAILED
+    }
+
+    // 요청한 예약
+    private final Reservation requested;
+
+    // 처리 결과
+    private final Status status;
+
+    // 서버가 생성한 예약 (CREATED가 아니면 null)
+    private final Reservation created;
+
+    // 실패/충돌 사유 (성공이면 null)
+    private final String message;
+
+    private ReservationResult(Reservation requested, Status status, Reservation created, String message) {
+        this.requested = requested;
+        this.status = status;
+        this.created = created;
+        this.message = message;
+    }
+
+    public static ReservationResult created(Reservation requested, Reservation created) {
+        return new ReservationResult(requested, Status.CREATED, created, null);
+    }
+
+    public static ReservationResult queued(Reservation requested) {
+        return new ReservationResult(requested, Status.QUEUED, null, null);
+    }
+
+    public static ReservationResult conflict(Reservation requested, String message) {
+        return new ReservationResult(requested, Status.CONFLICT, null, message);
+    }
+
+    public static ReservationResult failed(Reservation requested, String message) {
+        return new ReservationResult(requested, Status.FAILED, null, message);
+    }
+
+    public Reservation getRequested() {
+        return requested;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Reservation getCreated() {
+        return created;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 서버에 생성되었거나 전송 대기 중이면 true
+     */
+    public boolean isAccepted() {
+        return status == Status.CREATED || status == Status.QUEUED;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationResult{" +
+                "date=" + requested.getDate() +
+                ", status=" + status +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -20,6 +20,9 @@ public class Room {
     // 2D 도면상의 위치 좌표
     private int x, y;
 
+    // (건물, 층, 이름) 식별 키
+    private final RoomKey key;
+
     /**
      * Room 생성자
      * 
@@ -35,6 +38,7 @@ public class Room {
         this.floor = floor;
         this.x = x;
         this.y = y;
+        this.key = new RoomKey(building, floor, name);
     }
 
     // getter/setter 및 예약 관련 메서드
@@ -57,4 +61,8 @@ public class Room {
     public int getY() {
         return y;
     }
+
+    public RoomKey getKey() {
+        return key;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package org.javateam11.ClassroomReservation.model;
+
+import java.util.Objects;
+
+/**
+ * 강의실을 (건물, 층, 이름)으로 식별하는 키 클래스
+ * 서로 다른 건물에 같은 이름의 강의실(예: IT4 345, IT5 345)이 있어도 구분됩니다.
+ */
+public final class RoomKey {
+
+    private final String building;
+    private final int floor;
+    private final String name;
+    private final int hash;
+
+    public RoomKey(String building, int floor, String name) {
+        this.building = building;
+        this.floor = floor;
+        this.name = name;
+        this.hash = Objects.hash(building, floor, name);
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public int getFloor() {
+        return floor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof RoomKey other))
+            return false;
+        return floor == other.floor && Objects.equals(building, other.building) && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return building + "_" + floor + "F_" + name;
+    }
+}
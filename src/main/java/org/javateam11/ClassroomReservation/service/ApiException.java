@@ -0,0 +1,118 @@
+package org.javateam11.ClassroomReservation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+
+/**
+ * 백엔드가 실패 상태 코드로 응답했을 때 발생하는 예외
+ * 메시지는 기존과 동일하게 사용자에게 보여줄 에러 메시지이며, 상태 코드를 함께 보관합니다.
+ */
+public class ApiException extends RuntimeException {
+    private final int statusCode;
+
+    public ApiException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * HTTP 응답 상태 코드 반환
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 예외 원인 체인에서 ApiException을 찾아 반환 (없으면 null)
+     */
+    public static ApiException find(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ApiException apiException) {
+                return apiException;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * 예외 원인 체인에 주어진 상태 코드의 ApiException이 있는지 확인
+     */
+    public static boolean hasStatus(Throwable throwable, int statusCode) {
+        ApiException apiException = find(throwable);
+        return apiException != null && apiException.getStatusCode() == statusCode;
+    }
+
+    /**
+     * 서버에 요청이 닿지 않았음이 확실한 실패(연결 거부, 호스트를 찾을 수 없음, 서킷 브레이커 차단)인지 확인
+     * 이 경우에만 오프라인으로 보고 쓰기 요청을 대기열에 저장할 수 있음
+     * 읽기 타임아웃처럼 요청이 서버에 도착했을 수도 있는 실패는 포함하지 않음 (isTransportFailure 참고)
+     */
+    public static boolean isNetworkFailure(Throwable throwable) {
+        if (find(throwable) != null) {
+            return false;
+        }
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ConnectException || current instanceof UnknownHostException
+                    || current instanceof NoRouteToHostException || current instanceof CircuitOpenException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 서버의 응답을 받지 못한 실패(연결 실패, 타임아웃, 전송 중 연결 끊김 등)인지 확인
+     * 응답 본문 파싱 실패(JsonProcessingException)와 서버가 실패 상태 코드로 응답한 경우(ApiException)는 제외
+     * isNetworkFailure가 아닌 전송 실패는 쓰기 요청이 서버에서 이미 처리되었을 수 있으므로 결과를 알 수 없는 실패로 다뤄야 함
+     */
+    public static boolean isTransportFailure(Throwable throwable) {
+        if (find(throwable) != null) {
+            return false;
+        }
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof JsonProcessingException) {
+                return false;
+            }
+            if (current instanceof IOException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 서킷 브레이커가 요청을 보내지 않고 차단한 실패인지 확인
+     */
+    public static boolean isCircuitOpen(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof CircuitOpenException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
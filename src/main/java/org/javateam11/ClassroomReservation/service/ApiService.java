@@ -1,340 +1,727 @@
 package org.javateam11.ClassroomReservation.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.*;
 import org.javateam11.ClassroomReservation.config.ApplicationConfig;
 import org.javateam11.ClassroomReservation.util.ErrorMessageUtils;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsRegistry;
+import org.javateam11.ClassroomReservation.util.metrics.TimerMetric;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Spring 백엔드와의 HTTP 통신을 담당하는 기본 API 서비스 클래스
+ * 호출 방식은 HttpTransport의 실행 방식(OkHttp enqueue 콜백 또는 가상 스레드)을 따르며,
+ * 어느 쪽이든 공용 ForkJoinPool을 네트워크 대기에 사용하지 않습니다.
+ * 일시적인 실패는 RetryPolicy에 따라 지터가 섞인 지수 백오프로 다시 시도하며(GET, 또는 Idempotency-Key가 붙은 쓰기 요청),
+ * 모든 시도는 HttpTransport의 서킷 브레이커를 거치므로 백엔드가 다운된 동안에는 요청을 보내지 않고 바로 실패합니다.
+ * 요청마다 경로별 마감 시간이 재시도까지 포함하여 적용되고, 지정한 GET 경로는 p95 응답 시간이 지나도록 응답이 없으면
+ * 같은 요청을 한 번 더 보내(헤지 요청) 먼저 온 응답을 사용합니다.
  */
 public class ApiService {
     private static final Logger logger = LoggerFactory.getLogger(ApiService.class);
 
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
+    // 쓰기 요청의 중복 처리를 막기 위해 시도마다 같은 값을 보내는 헤더
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // 지표 이름에서 ID 같은 숫자 경로 조각을 {id}로 바꾸기 위한 패턴 (지표 수를 엔드포인트 수로 제한)
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
     private final String baseUrl;
+    private final HttpTransport transport;
     private final OkHttpClient client;
     private final ObjectMapper objectMapper;
+    private final RetryPolicy readRetryPolicy;
+    private final RetryPolicy writeRetryPolicy;
+    private final LatencyTracker latencyTracker;
+    private final Set<String> hedgedPaths;
 
-    public ApiService() {
-        this.baseUrl = ApplicationConfig.getApiBaseUrl();
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(ApplicationConfig.getConnectTimeoutSeconds(), TimeUnit.SECONDS)
-                .readTimeout(ApplicationConfig.getReadTimeoutSeconds(), TimeUnit.SECONDS)
-                .writeTimeout(ApplicationConfig.getWriteTimeoutSeconds(), TimeUnit.SECONDS)
-                .build();
+    /**
+     * 응답을 결과 타입으로 변환하는 핸들러 (응답 객체는 호출 후 ApiService가 닫음)
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
 
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    /**
+     * 응답 본문 스트림을 결과 타입으로 변환하는 파서
+     * 본문을 String으로 먼저 읽지 않고 바이트 스트림에서 바로 역직렬화
+     */
+    @FunctionalInterface
+    private interface BodyParser<T> {
+        T parse(InputStream body) throws IOException;
     }
 
     /**
-     * GET 요청을 비동기로 실행
+     * 전역 공유 HTTP 전송 계층(HttpTransport)을 사용하는 기본 생성자
      */
-    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .get()
-                        .build();
+    public ApiService() {
+        this(HttpTransport.getInstance());
+    }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
+    /**
+     * 주어진 전송 계층의 OkHttpClient와 ObjectMapper를 주입받는 생성자
+     */
+    public ApiService(HttpTransport transport) {
+        this(ApplicationConfig.getApiBaseUrl(), transport);
+    }
 
-                    String responseBody = response.body().string();
-                    logger.debug("GET {} 응답: {}", endpoint, responseBody);
+    public ApiService(String baseUrl, HttpTransport transport) {
+        this.baseUrl = baseUrl;
+        this.transport = transport;
+        this.client = transport.getClient();
+        this.objectMapper = transport.getObjectMapper();
+        this.readRetryPolicy = new RetryPolicy(ApplicationConfig.getRetryGetAttempts(),
+                ApplicationConfig.getRetryBaseMillis(), ApplicationConfig.getRetryMaxMillis());
+        this.writeRetryPolicy = new RetryPolicy(ApplicationConfig.getRetryWriteAttempts(),
+                ApplicationConfig.getRetryBaseMillis(), ApplicationConfig.getRetryMaxMillis());
+        this.latencyTracker = transport.getLatencyTracker();
+        this.hedgedPaths = ApplicationConfig.isHedgeEnabled()
+                ? Arrays.stream(ApplicationConfig.getHedgePaths().split(","))
+                        .map(String::trim)
+                        .filter(path -> !path.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+    }
 
-                    return objectMapper.readValue(responseBody, responseType);
-                }
-            } catch (IOException e) {
-                logger.error("GET {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
-            }
-        });
+    /**
+     * GET 요청을 비동기로 실행
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType) {
+        return get(endpoint, false, responseType, body -> transport.readerFor(responseType).readValue(body));
     }
 
     /**
      * GET 요청을 비동기로 실행 (TypeReference 사용)
      */
     public <T> CompletableFuture<T> getAsync(String endpoint, TypeReference<T> typeReference) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .get()
-                        .build();
+        return get(endpoint, false, typeReference.getType(),
+                body -> transport.readerFor(typeReference).readValue(body));
+    }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
+    /**
+     * 인증된 GET 요청을 비동기로 실행
+     */
+    public <T> CompletableFuture<T> getAuthenticatedAsync(String endpoint, Class<T> responseType) {
+        return get(endpoint, true, responseType, body -> transport.readerFor(responseType).readValue(body));
+    }
+
+    /**
+     * 인증된 GET 요청을 비동기로 실행 (TypeReference 사용)
+     */
+    public <T> CompletableFuture<T> getAuthenticatedAsync(String endpoint, TypeReference<T> typeReference) {
+        return get(endpoint, true, typeReference.getType(),
+                body -> transport.readerFor(typeReference).readValue(body));
+    }
 
-                    String responseBody = response.body().string();
-                    logger.debug("GET {} 응답: {}", endpoint, responseBody);
+    /**
+     * 조건부 GET 요청을 비동기로 실행 (If-None-Match / If-Modified-Since)
+     * 서버가 304로 응답하면 본문 파싱 없이 notModified 결과를 반환
+     * 같은 조건의 요청이 이미 진행 중이면 그 결과를 함께 받음
+     *
+     * @param etag         이전 응답의 ETag (없으면 null)
+     * @param lastModified 이전 응답의 Last-Modified (없으면 null)
+     */
+    public <T> CompletableFuture<ConditionalResponse<T>> getConditionalAsync(String endpoint,
+            TypeReference<T> typeReference, String etag, String lastModified) {
+        String key = "GET " + endpoint + " " + typeReference.getType().getTypeName()
+                + " [" + etag + "|" + lastModified + "]";
+        return coalesce(key, endpoint, () -> sendConditional(endpoint, typeReference, etag, lastModified));
+    }
 
-                    return objectMapper.readValue(responseBody, typeReference);
-                }
-            } catch (IOException e) {
-                logger.error("GET {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
+    private <T> CompletableFuture<ConditionalResponse<T>> sendConditional(String endpoint,
+            TypeReference<T> typeReference, String etag, String lastModified) {
+        Request request;
+        try {
+            Request.Builder builder = newRequestBuilder(endpoint, false);
+            if (etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                builder.header("If-Modified-Since", lastModified);
             }
+            request = builder.get().build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return execute("GET", endpoint, request, response -> {
+            String responseEtag = response.header("ETag");
+            String responseLastModified = response.header("Last-Modified");
+
+            if (response.code() == 304) {
+                logger.debug("GET {} 응답: 304 Not Modified", endpoint);
+                return ConditionalResponse.notModified(
+                        responseEtag != null ? responseEtag : etag,
+                        responseLastModified != null ? responseLastModified : lastModified);
+            }
+            ensureSuccess(response, false);
+            logger.debug("GET {} 응답 수신: {} bytes", endpoint, response.body().contentLength());
+
+            T body = transport.readerFor(typeReference).readValue(response.body().byteStream());
+            return ConditionalResponse.modified(body, responseEtag, responseLastModified,
+                    response.header("X-Sync-Token"));
         });
     }
 
     /**
-     * 인증된 GET 요청을 비동기로 실행
+     * JSON 배열 응답을 원소 단위로 읽으면서 onElement로 전달 (비동기)
+     * 응답 전체를 String이나 List로 만들지 않으므로, 큰 목록을 받으면서 필요한 원소만 골라 담을 수 있음
+     * 응답이 {"content": [...]} 형태(페이지 응답)이면 content 배열의 원소를 전달
+     *
+     * @param onElement 원소마다 호출되는 콜백 (I/O 스레드에서 순서대로 호출됨)
+     * @return 전달한 원소 개수
      */
-    public <T> CompletableFuture<T> getAuthenticatedAsync(String endpoint, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                TokenManager tokenManager = TokenManager.getInstance();
-                if (!tokenManager.isAuthenticated()) {
-                    throw new RuntimeException("인증되지 않은 상태입니다. 로그인이 필요합니다.");
-                }
+    public <T> CompletableFuture<Long> streamAsync(String endpoint, Class<T> elementType,
+            Consumer<? super T> onElement) {
+        return stream(endpoint, false, elementType, onElement);
+    }
 
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .addHeader("Authorization", tokenManager.getAuthorizationHeader())
-                        .get()
-                        .build();
-
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        if (response.code() == 401) {
-                            throw new RuntimeException("인증이 만료되었습니다. 다시 로그인해주세요.");
-                        }
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
-
-                    String responseBody = response.body().string();
-                    logger.debug("GET {} 응답: {}", endpoint, responseBody);
-
-                    return objectMapper.readValue(responseBody, responseType);
-                }
-            } catch (IOException e) {
-                logger.error("GET {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
-            }
-        });
+    /**
+     * 인증된 JSON 배열 응답을 원소 단위로 읽으면서 onElement로 전달 (비동기)
+     */
+    public <T> CompletableFuture<Long> streamAuthenticatedAsync(String endpoint, Class<T> elementType,
+            Consumer<? super T> onElement) {
+        return stream(endpoint, true, elementType, onElement);
     }
 
     /**
      * POST 요청을 비동기로 실행
      */
     public <T> CompletableFuture<T> postAsync(String endpoint, Object requestBody, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String jsonBody = objectMapper.writeValueAsString(requestBody);
-                logger.debug("POST {} 요청: {}", endpoint, jsonBody);
+        return sendWithBody("POST", endpoint, requestBody, false, responseType, null);
+    }
+
+    /**
+     * 인증된 POST 요청을 비동기로 실행
+     */
+    public <T> CompletableFuture<T> postAuthenticatedAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return sendWithBody("POST", endpoint, requestBody, true, responseType, null);
+    }
 
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .post(RequestBody.create(jsonBody, JSON))
-                        .build();
+    /**
+     * 주어진 Idempotency-Key로 인증된 POST 요청을 비동기로 실행
+     * 같은 작업을 다시 보낼 때 같은 키를 쓰면 서버가 중복 처리를 걸러낼 수 있음 (대기 요청 재전송 등)
+     */
+    public <T> CompletableFuture<T> postAuthenticatedAsync(String endpoint, Object requestBody, Class<T> responseType,
+            String idempotencyKey) {
+        return sendWithBody("POST", endpoint, requestBody, true, responseType, idempotencyKey);
+    }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
+    /**
+     * PUT 요청을 비동기로 실행
+     */
+    public <T> CompletableFuture<T> putAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return sendWithBody("PUT", endpoint, requestBody, false, responseType, null);
+    }
 
-                    String responseBody = response.body().string();
-                    logger.debug("POST {} 응답: {}", endpoint, responseBody);
+    /**
+     * 인증된 PUT 요청을 비동기로 실행
+     */
+    public <T> CompletableFuture<T> putAuthenticatedAsync(String endpoint, Object requestBody, Class<T> responseType) {
+        return sendWithBody("PUT", endpoint, requestBody, true, responseType, null);
+    }
 
-                    return objectMapper.readValue(responseBody, responseType);
-                }
-            } catch (IOException e) {
-                logger.error("POST {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
-            }
-        });
+    /**
+     * DELETE 요청을 비동기로 실행
+     */
+    public CompletableFuture<Void> deleteAsync(String endpoint) {
+        return delete(endpoint, false, null);
     }
 
     /**
-     * 인증된 POST 요청을 비동기로 실행
+     * 인증된 DELETE 요청을 비동기로 실행
      */
-    public <T> CompletableFuture<T> postAuthenticatedAsync(String endpoint, Object requestBody, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                TokenManager tokenManager = TokenManager.getInstance();
-                if (!tokenManager.isAuthenticated()) {
-                    throw new RuntimeException("인증되지 않은 상태입니다. 로그인이 필요합니다.");
-                }
+    public CompletableFuture<Void> deleteAuthenticatedAsync(String endpoint) {
+        return delete(endpoint, true, null);
+    }
+
+    /**
+     * 주어진 Idempotency-Key로 인증된 DELETE 요청을 비동기로 실행
+     */
+    public CompletableFuture<Void> deleteAuthenticatedAsync(String endpoint, String idempotencyKey) {
+        return delete(endpoint, true, idempotencyKey);
+    }
+
+    /**
+     * GET 요청 실행 (같은 엔드포인트, 인증 여부, 응답 타입의 요청이 진행 중이면 그 결과를 함께 받음)
+     * 병합된 호출자들은 같은 결과 객체를 공유하므로 결과를 수정하지 않아야 함
+     */
+    private <T> CompletableFuture<T> get(String endpoint, boolean authenticated, Type responseType,
+            BodyParser<T> parser) {
+        String key = (authenticated ? "GET(auth) " : "GET ") + endpoint + " " + responseType.getTypeName();
+        return coalesce(key, endpoint, () -> send(endpoint, authenticated, parser));
+    }
 
-                String jsonBody = objectMapper.writeValueAsString(requestBody);
-                logger.debug("POST {} 요청: {}", endpoint, jsonBody);
+    /**
+     * 요청 병합기가 설정되어 있으면 같은 키의 진행 중인 호출에 합류
+     */
+    private <T> CompletableFuture<T> coalesce(String key, String endpoint, Supplier<CompletableFuture<T>> call) {
+        SingleFlight singleFlight = transport.getSingleFlight();
+        if (singleFlight == null) {
+            return call.get();
+        }
+        int query = endpoint.indexOf('?');
+        return singleFlight.execute(key, query >= 0 ? endpoint.substring(0, query) : endpoint, call);
+    }
 
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .addHeader("Authorization", tokenManager.getAuthorizationHeader())
-                        .post(RequestBody.create(jsonBody, JSON))
-                        .build();
+    private <T> CompletableFuture<T> send(String endpoint, boolean authenticated, BodyParser<T> parser) {
+        Request request;
+        try {
+            request = newRequestBuilder(endpoint, authenticated).get().build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        if (response.code() == 401) {
-                            throw new RuntimeException("인증이 만료되었습니다. 다시 로그인해주세요.");
-                        }
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
+        return execute("GET", endpoint, request, response -> {
+            ensureSuccess(response, authenticated);
+            logger.debug("GET {} 응답 수신: {} bytes", endpoint, response.body().contentLength());
 
-                    String responseBody = response.body().string();
-                    logger.debug("POST {} 응답: {}", endpoint, responseBody);
+            return parser.parse(response.body().byteStream());
+        });
+    }
 
-                    return objectMapper.readValue(responseBody, responseType);
+    private <T> CompletableFuture<Long> stream(String endpoint, boolean authenticated, Class<T> elementType,
+            Consumer<? super T> onElement) {
+        Request request;
+        try {
+            request = newRequestBuilder(endpoint, authenticated).get().build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 원소를 받는 즉시 전달하므로 다시 보내면 중복 전달됨 (재시도/헤지 요청 없이 한 번만 실행)
+        return execute("GET", endpoint, request, false, response -> {
+            ensureSuccess(response, authenticated);
+            long count = readArrayElements(response.body().byteStream(), elementType, onElement);
+            logger.debug("GET {} 스트리밍 응답: {}개 원소", endpoint, count);
+            return count;
+        });
+    }
+
+    /**
+     * JSON 배열(또는 content 배열을 가진 객체)의 원소를 하나씩 역직렬화하여 전달
+     */
+    private <T> long readArrayElements(InputStream body, Class<T> elementType, Consumer<? super T> onElement)
+            throws IOException {
+        ObjectReader reader = transport.readerFor(elementType);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = moveToContentArray(parser);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 배열 응답이 아닙니다: " + token);
+            }
+
+            long count = 0;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("JSON 배열이 끝나기 전에 응답이 종료되었습니다");
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
                 }
-            } catch (IOException e) {
-                logger.error("POST {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
+                T element = reader.readValue(parser);
+                onElement.accept(element);
+                count++;
             }
-        });
+            return count;
+        }
     }
 
     /**
-     * PUT 요청을 비동기로 실행
+     * 객체 응답에서 "content" 필드의 배열 시작 위치로 이동 (다른 필드는 건너뜀)
      */
-    public <T> CompletableFuture<T> putAsync(String endpoint, Object requestBody, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String jsonBody = objectMapper.writeValueAsString(requestBody);
-                logger.debug("PUT {} 요청: {}", endpoint, jsonBody);
+    private JsonToken moveToContentArray(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            token = parser.nextToken();
+            if ("content".equals(fieldName)) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        return token;
+    }
 
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .put(RequestBody.create(jsonBody, JSON))
-                        .build();
+    private <T> CompletableFuture<T> sendWithBody(String method, String endpoint, Object requestBody,
+            boolean authenticated, Class<T> responseType, String idempotencyKey) {
+        Request request;
+        try {
+            Request.Builder builder = newWriteRequestBuilder(endpoint, authenticated, idempotencyKey);
+
+            String jsonBody = requestBody != null
+                    ? transport.writerFor(requestBody.getClass()).writeValueAsString(requestBody)
+                    : "null";
+            logger.debug("{} {} 요청: {}", method, endpoint, jsonBody);
+
+            RequestBody body = RequestBody.create(jsonBody, JSON);
+            request = "PUT".equals(method) ? builder.put(body).build() : builder.post(body).build();
+        } catch (IOException e) {
+            logger.error("{} {} 요청 중 오류 발생", method, endpoint, e);
+            return CompletableFuture.failedFuture(new RuntimeException("API 요청 중 오류 발생", e));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return execute(method, endpoint, request, response -> {
+            ensureSuccess(response, authenticated);
+
+            String responseBody = response.body().string();
+            logger.debug("{} {} 응답: {}", method, endpoint, responseBody);
+
+            return transport.readerFor(responseType).readValue(responseBody);
+        });
+    }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
+    private CompletableFuture<Void> delete(String endpoint, boolean authenticated, String idempotencyKey) {
+        Request request;
+        try {
+            request = newWriteRequestBuilder(endpoint, authenticated, idempotencyKey).delete().build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return execute("DELETE", endpoint, request, response -> {
+            ensureSuccess(response, authenticated);
+            logger.debug("DELETE {} 성공", endpoint);
+            return null;
+        });
+    }
+
+    /**
+     * 요청 빌더 생성 (인증 요청이면 Authorization 헤더 추가)
+     */
+    private Request.Builder newRequestBuilder(String endpoint, boolean authenticated) {
+        Request.Builder builder = new Request.Builder().url(baseUrl + endpoint);
+        if (authenticated) {
+            TokenManager tokenManager = TokenManager.getInstance();
+            if (!tokenManager.isAuthenticated()) {
+                throw new RuntimeException("인증되지 않은 상태입니다. 로그인이 필요합니다.");
+            }
+            builder.addHeader("Authorization", tokenManager.getAuthorizationHeader());
+        }
+        return builder;
+    }
 
-                    String responseBody = response.body().string();
-                    logger.debug("PUT {} 응답: {}", endpoint, responseBody);
+    /**
+     * 쓰기 요청 빌더 생성
+     * 호출자가 준 Idempotency-Key가 있으면 그 값을, 없고 쓰기 재시도가 켜져 있으면 모든 시도가 공유할 새 키를 헤더로 추가
+     */
+    private Request.Builder newWriteRequestBuilder(String endpoint, boolean authenticated, String idempotencyKey) {
+        Request.Builder builder = newRequestBuilder(endpoint, authenticated);
+        if (idempotencyKey != null) {
+            builder.header(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        } else if (writeRetryPolicy.isEnabled()) {
+            builder.header(IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+        }
+        return builder;
+    }
 
-                    return objectMapper.readValue(responseBody, responseType);
-                }
-            } catch (IOException e) {
-                logger.error("PUT {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
+    /**
+     * 응답이 실패 상태이면 에러 메시지를 담은 예외를 던짐
+     */
+    private void ensureSuccess(Response response, boolean authenticated) {
+        if (!response.isSuccessful()) {
+            if (authenticated && response.code() == 401) {
+                throw new ApiException(401, "인증이 만료되었습니다. 다시 로그인해주세요.");
             }
-        });
+            String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
+            throw new ApiException(response.code(), errorMessage);
+        }
     }
 
     /**
-     * 인증된 PUT 요청을 비동기로 실행
+     * 마감 시간, 재시도 정책, 서킷 브레이커를 적용하여 요청을 실행
+     * 반환된 future가 취소되거나 마감 시간이 지나면 진행 중인 시도와 예약된 재시도가 모두 취소됨
+     * 호출 수/실패 수/소요 시간은 "api.<메서드> <경로>", 응답 처리(본문 읽기와 역직렬화) 시간은 "json.decode …" 지표로 기록
      */
-    public <T> CompletableFuture<T> putAuthenticatedAsync(String endpoint, Object requestBody, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> {
+    private <T> CompletableFuture<T> execute(String method, String endpoint, Request request,
+            ResponseHandler<T> handler) {
+        return execute(method, endpoint, request, true, handler);
+    }
+
+    /**
+     * @param replayable 같은 요청을 다시 보내도 결과가 같으면 true (false면 재시도와 헤지 요청을 하지 않음)
+     */
+    private <T> CompletableFuture<T> execute(String method, String endpoint, Request request, boolean replayable,
+            ResponseHandler<T> handler) {
+        String metricName = metricName(method, endpoint);
+        TimerMetric requestTimer = MetricsRegistry.getInstance().timer("api." + metricName);
+        TimerMetric decodeTimer = MetricsRegistry.getInstance().timer("json.decode " + metricName);
+        ResponseHandler<T> timedHandler = response -> {
+            long decodeStartedAt = System.nanoTime();
+            boolean failed = true;
             try {
-                TokenManager tokenManager = TokenManager.getInstance();
-                if (!tokenManager.isAuthenticated()) {
-                    throw new RuntimeException("인증되지 않은 상태입니다. 로그인이 필요합니다.");
+                T value = handler.handle(response);
+                failed = false;
+                return value;
+            } finally {
+                decodeTimer.recordSince(decodeStartedAt, failed);
+            }
+        };
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long startedAt = System.nanoTime();
+        result.whenComplete((value, throwable) -> requestTimer.recordSince(startedAt, throwable != null));
+        long deadlineMillis = deadlineFor(method, endpoint, request);
+        if (deadlineMillis > 0) {
+            CompletableFuture.delayedExecutor(deadlineMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                SocketTimeoutException timeout = new SocketTimeoutException(
+                        "요청 시간이 초과되었습니다 (timeout " + deadlineMillis + "ms)");
+                if (result.completeExceptionally(new RuntimeException("API 요청 중 오류 발생", timeout))) {
+                    logger.warn("{} {} 요청이 마감 시간 {}ms를 넘겨 취소됨", method, endpoint, deadlineMillis);
                 }
+            });
+        }
+        RetryPolicy policy = replayable ? retryPolicyFor(method, request) : RetryPolicy.none();
+        attempt(method, endpoint, request, timedHandler, policy, replayable, 1, result);
+        return result;
+    }
 
-                String jsonBody = objectMapper.writeValueAsString(requestBody);
-                logger.debug("PUT {} 요청: {}", endpoint, jsonBody);
+    /**
+     * 경로에 설정된 마감 시간을 찾음 (/api/reservations/batch → /api/reservations → /api 순으로 찾고, 없으면 기본값)
+     * Idempotency-Key가 없는 쓰기 요청에는 적용하지 않음 (서버가 처리 중인 요청을 버리면 결과를 알 수 없게 되므로
+     * 읽기/쓰기 타임아웃까지 기다림)
+     */
+    private long deadlineFor(String method, String endpoint, Request request) {
+        if (!"GET".equals(method) && request.header(IDEMPOTENCY_KEY_HEADER) == null) {
+            return 0;
+        }
+        String path = pathOf(endpoint);
+        while (!path.isEmpty()) {
+            int millis = ApplicationConfig.getEndpointDeadlineMillis(path);
+            if (millis >= 0) {
+                return millis;
+            }
+            int slash = path.lastIndexOf('/');
+            path = slash > 0 ? path.substring(0, slash) : "";
+        }
+        return ApplicationConfig.getDefaultRequestDeadlineMillis();
+    }
 
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .addHeader("Authorization", tokenManager.getAuthorizationHeader())
-                        .put(RequestBody.create(jsonBody, JSON))
-                        .build();
+    private static String metricName(String method, String endpoint) {
+        return method + " " + NUMERIC_SEGMENT.matcher(pathOf(endpoint)).replaceAll("/{id}");
+    }
 
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        if (response.code() == 401) {
-                            throw new RuntimeException("인증이 만료되었습니다. 다시 로그인해주세요.");
-                        }
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
+    private static String pathOf(String endpoint) {
+        int query = endpoint.indexOf('?');
+        return query >= 0 ? endpoint.substring(0, query) : endpoint;
+    }
 
-                    String responseBody = response.body().string();
-                    logger.debug("PUT {} 응답: {}", endpoint, responseBody);
+    /**
+     * GET은 읽기 정책, Idempotency-Key가 붙은 쓰기 요청은 쓰기 정책, 나머지는 재시도하지 않음
+     */
+    private RetryPolicy retryPolicyFor(String method, Request request) {
+        if ("GET".equals(method)) {
+            return readRetryPolicy;
+        }
+        return request.header(IDEMPOTENCY_KEY_HEADER) != null ? writeRetryPolicy : RetryPolicy.none();
+    }
 
-                    return objectMapper.readValue(responseBody, responseType);
+    private <T> void attempt(String method, String endpoint, Request request, ResponseHandler<T> handler,
+            RetryPolicy policy, boolean replayable, int attemptNo, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CircuitBreaker breaker = transport.getCircuitBreaker();
+        if (breaker != null) {
+            try {
+                breaker.acquire();
+            } catch (CircuitOpenException e) {
+                logger.warn("{} {} 요청 차단: {}", method, endpoint, e.getMessage());
+                result.completeExceptionally(new RuntimeException("API 요청 중 오류 발생", e));
+                return;
+            }
+        }
+
+        CompletableFuture<T> call = replayable && "GET".equals(method) && hedgedPaths.contains(pathOf(endpoint))
+                ? executeHedged(method, endpoint, request, handler)
+                : executeTimed(method, endpoint, request, handler);
+        // 취소되거나 마감 시간이 지나 결과가 먼저 정해지면 진행 중인 시도도 취소
+        result.whenComplete((value, throwable) -> call.cancel(true));
+        call.whenComplete((value, throwable) -> {
+            if (breaker != null) {
+                if (result.isCancelled()) {
+                    breaker.onIgnored();
+                } else if (result.isDone()) {
+                    // 마감 시간 안에 응답하지 못한 경우
+                    breaker.onFailure();
+                } else {
+                    breaker.record(throwable);
                 }
-            } catch (IOException e) {
-                logger.error("PUT {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
             }
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+            if (attemptNo < policy.getMaxAttempts() && !result.isDone() && RetryPolicy.isRetryable(throwable)) {
+                long delay = policy.backoffMillis(attemptNo);
+                logger.warn("{} {} 요청 실패 ({}/{}회), {}ms 후 재시도", method, endpoint, attemptNo,
+                        policy.getMaxAttempts(), delay);
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(
+                        () -> attempt(method, endpoint, request, handler, policy, replayable, attemptNo + 1, result));
+                return;
+            }
+            result.completeExceptionally(throwable);
         });
     }
 
     /**
-     * DELETE 요청을 비동기로 실행
+     * 요청을 보내고 p95 응답 시간이 지나도 응답이 없으면 같은 요청을 한 번 더 보내 먼저 성공한 응답을 사용
+     * 응답 시간 표본이 부족하거나 서킷 브레이커가 정상 상태가 아니면 헤지 요청을 보내지 않음
      */
-    public CompletableFuture<Void> deleteAsync(String endpoint) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .delete()
-                        .build();
-
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
-                    logger.debug("DELETE {} 성공", endpoint);
-                }
-            } catch (IOException e) {
-                logger.error("DELETE {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
+    private <T> CompletableFuture<T> executeHedged(String method, String endpoint, Request request,
+            ResponseHandler<T> handler) {
+        long p95 = latencyTracker.percentile(pathOf(endpoint), 95, ApplicationConfig.getHedgeMinSamples());
+        CircuitBreaker breaker = transport.getCircuitBreaker();
+        if (p95 < 0 || (breaker != null && breaker.getState() != CircuitBreaker.State.CLOSED)) {
+            return executeTimed(method, endpoint, request, handler);
+        }
+        long hedgeDelay = Math.max(ApplicationConfig.getHedgeMinDelayMillis(), p95);
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        CompletableFuture<T> primary = executeTimed(method, endpoint, request, handler);
+        primary.whenComplete((value, throwable) -> settle(winner, pending, value, throwable));
+        winner.whenComplete((value, throwable) -> primary.cancel(true));
+
+        CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS).execute(() -> {
+            if (winner.isDone()) {
+                return;
             }
+            pending.incrementAndGet();
+            latencyTracker.recordHedge();
+            logger.debug("{} {} 응답이 {}ms 안에 오지 않아 헤지 요청 전송", method, endpoint, hedgeDelay);
+            CompletableFuture<T> hedge = executeTimed(method, endpoint, request, handler);
+            hedge.whenComplete((value, throwable) -> {
+                if (throwable == null && !winner.isDone()) {
+                    latencyTracker.recordHedgeWin();
+                }
+                settle(winner, pending, value, throwable);
+            });
+            winner.whenComplete((value, throwable) -> hedge.cancel(true));
         });
+        return winner;
     }
 
     /**
-     * 인증된 DELETE 요청을 비동기로 실행
+     * 헤지 요청 중 하나가 끝났을 때 결과 결정 (성공하면 바로, 실패하면 마지막으로 끝난 요청의 실패를 사용)
      */
-    public CompletableFuture<Void> deleteAuthenticatedAsync(String endpoint) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                TokenManager tokenManager = TokenManager.getInstance();
-                if (!tokenManager.isAuthenticated()) {
-                    throw new RuntimeException("인증되지 않은 상태입니다. 로그인이 필요합니다.");
+    private static <T> void settle(CompletableFuture<T> winner, AtomicInteger pending, T value, Throwable throwable) {
+        if (throwable == null) {
+            winner.complete(value);
+        } else if (pending.decrementAndGet() == 0) {
+            winner.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * 요청을 한 번 실행하고 성공한 GET 요청의 응답 시간을 기록
+     */
+    private <T> CompletableFuture<T> executeTimed(String method, String endpoint, Request request,
+            ResponseHandler<T> handler) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> call = executeOnce(method, endpoint, request, handler);
+        if ("GET".equals(method)) {
+            call.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    latencyTracker.record(pathOf(endpoint), elapsedMillis);
+                }
+            });
+        }
+        return call;
+    }
+
+    /**
+     * 설정된 실행 방식으로 요청을 한 번 실행하고 응답을 핸들러로 변환
+     */
+    private <T> CompletableFuture<T> executeOnce(String method, String endpoint, Request request,
+            ResponseHandler<T> handler) {
+        if (transport.getExecutionMode() == HttpTransport.ExecutionMode.VIRTUAL_THREAD) {
+            Call call = client.newCall(request);
+            CompletableFuture<T> future = transport.supplyOnIoThread(() -> {
+                try (Response response = call.execute()) {
+                    return handler.handle(response);
+                } catch (IOException e) {
+                    logFailure(method, endpoint, call, e);
+                    throw new RuntimeException("API 요청 중 오류 발생", e);
+                }
+            });
+            // cancel(true)는 supplyAsync 작업을 중단시키지 않으므로, HTTP 호출을 직접 취소해 소켓과 실행 허가를 바로 반환
+            future.whenComplete((result, throwable) -> {
+                if (future.isCancelled()) {
+                    call.cancel();
                 }
+            });
+            return future;
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Call call = client.newCall(request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                logFailure(method, endpoint, call, e);
+                future.completeExceptionally(new RuntimeException("API 요청 중 오류 발생", e));
+            }
 
-                Request request = new Request.Builder()
-                        .url(baseUrl + endpoint)
-                        .addHeader("Authorization", tokenManager.getAuthorizationHeader())
-                        .delete()
-                        .build();
-
-                try (Response response = client.newCall(request).execute()) {
-                    if (!response.isSuccessful()) {
-                        if (response.code() == 401) {
-                            throw new RuntimeException("인증이 만료되었습니다. 다시 로그인해주세요.");
-                        }
-                        String errorMessage = ErrorMessageUtils.extractApiErrorMessage(response);
-                        throw new RuntimeException(errorMessage);
-                    }
-                    logger.debug("DELETE {} 성공", endpoint);
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    future.complete(handler.handle(response));
+                } catch (IOException e) {
+                    logFailure(method, endpoint, call, e);
+                    future.completeExceptionally(new RuntimeException("API 요청 중 오류 발생", e));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
                 }
-            } catch (IOException e) {
-                logger.error("DELETE {} 요청 중 오류 발생", endpoint, e);
-                throw new RuntimeException("API 요청 중 오류 발생", e);
             }
         });
+
+        // 호출자가 future를 취소하면 진행 중인 HTTP 호출도 함께 취소
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 요청 실패를 로그로 남김
+     * 헤지 요청의 패자나 마감 시간 초과처럼 일부러 취소한 호출의 실패는 예상된 것이므로 debug로만 남김
+     */
+    private void logFailure(String method, String endpoint, Call call, IOException e) {
+        if (call.isCanceled()) {
+            logger.debug("{} {} 요청 취소됨", method, endpoint);
+            return;
+        }
+        logger.error("{} {} 요청 중 오류 발생", method, endpoint, e);
     }
-}
\ No newline at end of file
+}
@@ -20,7 +20,11 @@ public class AuthService {
     private final TokenManager tokenManager;
 
     public AuthService() {
-        this.apiService = new ApiService();
+        this(new ApiService());
+    }
+
+    public AuthService(ApiService apiService) {
+        this.apiService = apiService;
         this.tokenManager = TokenManager.getInstance();
     }
 
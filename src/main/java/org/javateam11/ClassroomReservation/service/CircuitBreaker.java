@@ -0,0 +1,141 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 백엔드가 응답하지 않을 때 요청을 바로 실패시키는 서킷 브레이커
+ * 연속 실패가 기준 횟수에 이르면 OPEN 상태가 되어 정해진 시간 동안 요청을 보내지 않고,
+ * 그 시간이 지나면 HALF_OPEN 상태에서 시험 요청 하나만 보내 성공하면 CLOSED로, 실패하면 다시 OPEN으로 돌아갑니다.
+ * 네트워크 실패와 5xx 응답만 실패로 세며, 4xx 응답은 서버가 살아 있다는 뜻이므로 성공으로 취급합니다.
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * 서킷 브레이커 상태
+     */
+    public enum State {
+        // 정상: 모든 요청을 보냄
+        CLOSED,
+        // 차단: 요청을 보내지 않고 바로 실패
+        OPEN,
+        // 시험: 요청 하나만 보내 서버가 회복되었는지 확인
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(0, openMillis);
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인하고 허용하면 요청 하나를 등록
+     * 허용된 요청은 끝난 뒤 반드시 onSuccess, onFailure, onIgnored 중 하나를 호출해야 함
+     *
+     * @throws CircuitOpenException 차단 중이거나 이미 시험 요청이 진행 중인 경우
+     */
+    public synchronized void acquire() throws CircuitOpenException {
+        if (state == State.OPEN) {
+            long remaining = openedAt + openMillis - System.currentTimeMillis();
+            if (remaining > 0) {
+                rejected.increment();
+                throw new CircuitOpenException(remaining);
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected.increment();
+                throw new CircuitOpenException(0);
+            }
+            probeInFlight = true;
+        }
+    }
+
+    /**
+     * 서버가 응답한 요청을 기록 (시험 요청이었다면 CLOSED로 복귀)
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * 실패한 요청을 기록 (연속 실패가 기준에 이르거나 시험 요청이 실패하면 OPEN으로 전환)
+     */
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = System.currentTimeMillis();
+            opened.increment();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없는 요청(취소 등)을 기록 (시험 요청 자리만 비움)
+     */
+    public synchronized void onIgnored() {
+        probeInFlight = false;
+    }
+
+    /**
+     * 요청 결과를 보고 서버 상태와 관련된 실패인지에 따라 기록
+     */
+    public void record(Throwable throwable) {
+        if (throwable == null) {
+            onSuccess();
+        } else if (isServerFailure(throwable)) {
+            onFailure();
+        } else if (ApiException.find(throwable) != null) {
+            onSuccess();
+        } else {
+            onIgnored();
+        }
+    }
+
+    /**
+     * 서버가 다운되었거나 과부하 상태임을 나타내는 실패인지 확인 (연결 실패/타임아웃 등 전송 실패 또는 5xx 응답)
+     * 응답 본문 파싱 실패는 서버가 응답한 것이므로 실패로 세지 않음 (RetryPolicy.isRetryable과 같은 분류)
+     */
+    public static boolean isServerFailure(Throwable throwable) {
+        ApiException apiException = ApiException.find(throwable);
+        if (apiException != null) {
+            return apiException.getStatusCode() >= 500;
+        }
+        return ApiException.isTransportFailure(throwable) && !ApiException.isCircuitOpen(throwable);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void transitionTo(State next) {
+        logger.info("서킷 브레이커 상태 변경: {} -> {} (연속 실패 {}회)", state, next, consecutiveFailures);
+        state = next;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "state=" + state + ", consecutiveFailures=" + consecutiveFailures
+                + ", opened=" + opened.sum() + ", rejected=" + rejected.sum();
+    }
+}
@@ -0,0 +1,24 @@
+package org.javateam11.ClassroomReservation.service;
+
+import java.io.IOException;
+
+/**
+ * 서킷 브레이커가 열려 있어 요청을 보내지 않고 바로 실패시켰을 때 발생하는 예외
+ * 서버에 연결하지 못한 것과 같게 취급되도록 IOException을 상속하므로,
+ * ApiException.isNetworkFailure가 true가 되어 오프라인 대기열/스냅샷 폴백이 그대로 동작합니다.
+ */
+public class CircuitOpenException extends IOException {
+
+    // 다음 시험 요청을 허용할 때까지 남은 시간(밀리초)
+    private final long retryAfterMillis;
+
+    public CircuitOpenException(long retryAfterMillis) {
+        super("서버 응답이 없어 잠시 요청을 중단했습니다. " + Math.max(1, (retryAfterMillis + 999) / 1000)
+                + "초 후 다시 시도합니다.");
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
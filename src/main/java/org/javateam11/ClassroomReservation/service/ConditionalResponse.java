@@ -0,0 +1,64 @@
+package org.javateam11.ClassroomReservation.service;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 요청의 결과
+ * 서버가 304 Not Modified로 응답하면 본문 없이 notModified만 true로 설정됩니다.
+ */
+public class ConditionalResponse<T> {
+    private final boolean notModified;
+    private final T body;
+    private final String etag;
+    private final String lastModified;
+    private final String syncToken;
+
+    private ConditionalResponse(boolean notModified, T body, String etag, String lastModified, String syncToken) {
+        this.notModified = notModified;
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.syncToken = syncToken;
+    }
+
+    /**
+     * 304 Not Modified 결과 생성
+     */
+    public static <T> ConditionalResponse<T> notModified(String etag, String lastModified) {
+        return new ConditionalResponse<>(true, null, etag, lastModified, null);
+    }
+
+    /**
+     * 새 본문을 받은 결과 생성
+     */
+    public static <T> ConditionalResponse<T> modified(T body, String etag, String lastModified, String syncToken) {
+        return new ConditionalResponse<>(false, body, etag, lastModified, syncToken);
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * 응답의 ETag 헤더 값 (없으면 null)
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * 응답의 Last-Modified 헤더 값 (없으면 null)
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * 증분 동기화에 사용할 서버 동기화 토큰(X-Sync-Token 헤더, 없으면 null)
+     */
+    public String getSyncToken() {
+        return syncToken;
+    }
+}
@@ -0,0 +1,96 @@
+package org.javateam11.ClassroomReservation.service;
+
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * 엔드포인트별 HTTP 디스크 캐시 정책을 적용하고 적중/실패를 집계하는 인터셉터
+ * - 강의실 목록: 서버의 캐시 헤더(또는 Last-Modified 기반 추정)를 따르고, 만료되면 ETag로 재검증
+ * - 예약 스냅샷: 오래된 예약을 보여주지 않도록 항상 재검증 (변경이 없으면 304 + 디스크 본문)
+ * - 그 외, 설정으로 꺼진 엔드포인트, 인증 요청: 디스크에 저장하지 않음
+ */
+class HttpCacheInterceptor implements Interceptor {
+    private static final Logger logger = LoggerFactory.getLogger(HttpCacheInterceptor.class);
+
+    private static final CacheControl ALWAYS_REVALIDATE = new CacheControl.Builder().noCache().build();
+    private static final CacheControl BYPASS = new CacheControl.Builder().noCache().noStore().build();
+
+    private final HttpCacheStats stats;
+    private final boolean roomsEnabled;
+    private final boolean reservationsEnabled;
+
+    /**
+     * @param stats          집계 대상
+     * @param cacheAvailable 디스크 캐시가 설정되어 있으면 true (없으면 모든 요청을 BYPASS로 집계)
+     */
+    HttpCacheInterceptor(HttpCacheStats stats, boolean cacheAvailable) {
+        this.stats = stats;
+        this.roomsEnabled = cacheAvailable && ApplicationConfig.isRoomsHttpCacheEnabled();
+        this.reservationsEnabled = cacheAvailable && ApplicationConfig.isReservationsHttpCacheEnabled();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+
+        HttpCacheStats.Endpoint endpoint = classify(request.url().encodedPath());
+        boolean cacheable = isEnabled(endpoint) && request.header("Authorization") == null;
+        if (!cacheable) {
+            request = request.newBuilder().cacheControl(BYPASS).build();
+        } else if (endpoint == HttpCacheStats.Endpoint.RESERVATIONS) {
+            request = request.newBuilder().cacheControl(ALWAYS_REVALIDATE).build();
+        }
+
+        Response response = chain.proceed(request);
+        HttpCacheStats.Outcome outcome = outcomeOf(response, cacheable);
+        stats.record(endpoint, outcome);
+        logger.debug("GET {} 캐시 결과: {}", request.url().encodedPath(), outcome);
+        return response;
+    }
+
+    private boolean isEnabled(HttpCacheStats.Endpoint endpoint) {
+        switch (endpoint) {
+            case ROOMS:
+                return roomsEnabled;
+            case RESERVATIONS:
+                return reservationsEnabled;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 요청 경로로 캐시 정책 단위 구분
+     */
+    static HttpCacheStats.Endpoint classify(String path) {
+        if (path.equals("/api/rooms") || path.startsWith("/api/rooms/")) {
+            return HttpCacheStats.Endpoint.ROOMS;
+        }
+        if (path.equals("/api/reservations") || path.equals("/api/reservations/classroom")) {
+            return HttpCacheStats.Endpoint.RESERVATIONS;
+        }
+        return HttpCacheStats.Endpoint.OTHER;
+    }
+
+    private static HttpCacheStats.Outcome outcomeOf(Response response, boolean cacheable) {
+        Response network = response.networkResponse();
+        if (network == null) {
+            return HttpCacheStats.Outcome.HIT;
+        }
+        // OkHttp가 캐시로 재검증했거나, 호출자가 직접 보낸 조건부 요청이 304를 받은 경우
+        if (response.cacheResponse() != null || network.code() == 304) {
+            return HttpCacheStats.Outcome.REVALIDATED;
+        }
+        return cacheable ? HttpCacheStats.Outcome.MISS : HttpCacheStats.Outcome.BYPASS;
+    }
+}
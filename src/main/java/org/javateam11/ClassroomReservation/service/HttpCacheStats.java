@@ -0,0 +1,119 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.javateam11.ClassroomReservation.util.metrics.MetricsRegistry;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HTTP 디스크 캐시 적중/실패 통계
+ * 엔드포인트 종류(강의실 / 예약 스냅샷 / 기타)별로 응답이 어디서 왔는지 집계합니다.
+ */
+public class HttpCacheStats {
+
+    /**
+     * 캐시 정책 단위로 구분한 엔드포인트 종류
+     */
+    public enum Endpoint {
+        // /api/rooms
+        ROOMS,
+        // /api/reservations, /api/reservations/classroom (예약 스냅샷)
+        RESERVATIONS,
+        // 그 외 (캐시하지 않음)
+        OTHER
+    }
+
+    /**
+     * 응답 출처
+     */
+    public enum Outcome {
+        // 네트워크 요청 없이 디스크 캐시에서 응답
+        HIT,
+        // 조건부 요청 결과 304 (본문은 캐시 또는 호출자의 스냅샷 사용)
+        REVALIDATED,
+        // 서버가 본문을 새로 보냄
+        MISS,
+        // 캐시 대상이 아님 (설정으로 꺼져 있거나 인증 요청)
+        BYPASS
+    }
+
+    private static final int OUTCOMES = Outcome.values().length;
+
+    private final AtomicLongArray counts = new AtomicLongArray(Endpoint.values().length * OUTCOMES);
+
+    /**
+     * 엔드포인트 종류/응답 출처별 집계를 "cache.http.<종류>.<출처>" 지표로 공개
+     */
+    public HttpCacheStats() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        for (Endpoint endpoint : Endpoint.values()) {
+            for (Outcome outcome : Outcome.values()) {
+                registry.gauge("cache.http." + endpoint.name().toLowerCase(Locale.ROOT) + "."
+                        + outcome.name().toLowerCase(Locale.ROOT), () -> getCount(endpoint, outcome));
+            }
+        }
+    }
+
+    void record(Endpoint endpoint, Outcome outcome) {
+        counts.incrementAndGet(endpoint.ordinal() * OUTCOMES + outcome.ordinal());
+    }
+
+    public long getCount(Endpoint endpoint, Outcome outcome) {
+        return counts.get(endpoint.ordinal() * OUTCOMES + outcome.ordinal());
+    }
+
+    /**
+     * 엔드포인트에서 본문을 다시 받지 않은 응답 수 (HIT + REVALIDATED)
+     */
+    public long getHitCount(Endpoint endpoint) {
+        return getCount(endpoint, Outcome.HIT) + getCount(endpoint, Outcome.REVALIDATED);
+    }
+
+    public long getMissCount(Endpoint endpoint) {
+        return getCount(endpoint, Outcome.MISS);
+    }
+
+    /**
+     * 전체 캐시 적중 수
+     */
+    public long getHitCount() {
+        long total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            total += getHitCount(endpoint);
+        }
+        return total;
+    }
+
+    /**
+     * 전체 캐시 실패 수
+     */
+    public long getMissCount() {
+        long total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            total += getMissCount(endpoint);
+        }
+        return total;
+    }
+
+    /**
+     * 캐시 대상 요청 중 적중 비율 (요청이 없으면 0)
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("HttpCacheStats{");
+        for (Endpoint endpoint : Endpoint.values()) {
+            sb.append(endpoint).append("=[hit=").append(getCount(endpoint, Outcome.HIT))
+                    .append(", revalidated=").append(getCount(endpoint, Outcome.REVALIDATED))
+                    .append(", miss=").append(getCount(endpoint, Outcome.MISS))
+                    .append(", bypass=").append(getCount(endpoint, Outcome.BYPASS))
+                    .append("] ");
+        }
+        return sb.append(String.format("hitRatio=%.2f}", getHitRatio())).toString();
+    }
+}
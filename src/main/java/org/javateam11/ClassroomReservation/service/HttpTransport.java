@@ -0,0 +1,297 @@
+package org.javateam11.ClassroomReservation.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 애플리케이션 전역에서 공유하는 HTTP 전송 계층 싱글톤 클래스
+ * 하나의 Dispatcher, ConnectionPool, ObjectMapper를 모든 ApiService가 함께 사용하여
+ * 화면을 열 때마다 새 TCP 연결과 Jackson 직렬화기 캐시를 만들지 않도록 합니다.
+ */
+public class HttpTransport {
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransport.class);
+    private static HttpTransport instance;
+
+    /**
+     * API 호출 실행 방식
+     */
+    public enum ExecutionMode {
+        // OkHttp의 enqueue 콜백 기반 비동기 호출 (기본값)
+        ENQUEUE,
+        // 동시 실행 수가 제한된 가상 스레드에서 블로킹 execute() 호출
+        VIRTUAL_THREAD;
+
+        static ExecutionMode fromConfig(String value) {
+            if (value != null && value.trim().equalsIgnoreCase("virtual")) {
+                return VIRTUAL_THREAD;
+            }
+            return ENQUEUE;
+        }
+    }
+
+    private final OkHttpClient client;
+    private final Cache cache;
+    private final HttpCacheStats cacheStats = new HttpCacheStats();
+    private final SingleFlight singleFlight;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyTracker latencyTracker = new LatencyTracker();
+    private final ObjectMapper objectMapper;
+    private final ExecutionMode executionMode;
+
+    // 타입별로 한 번만 만들어 재사용하는 ObjectReader / ObjectWriter
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    // 가상 스레드 실행 방식에서 사용하는 I/O 전용 실행기와 동시 실행 제한
+    private final ExecutorService ioExecutor;
+    private final Semaphore ioPermits;
+
+    private HttpTransport() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(ApplicationConfig.getDispatcherMaxRequests());
+        dispatcher.setMaxRequestsPerHost(ApplicationConfig.getDispatcherMaxRequestsPerHost());
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                ApplicationConfig.getPoolMaxIdleConnections(),
+                ApplicationConfig.getPoolKeepAliveSeconds(), TimeUnit.SECONDS);
+
+        this.cache = createCache();
+
+        this.client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .cache(cache)
+                .addInterceptor(new HttpCacheInterceptor(cacheStats, cache != null))
+                .connectTimeout(ApplicationConfig.getConnectTimeoutSeconds(), TimeUnit.SECONDS)
+                .readTimeout(ApplicationConfig.getReadTimeoutSeconds(), TimeUnit.SECONDS)
+                .writeTimeout(ApplicationConfig.getWriteTimeoutSeconds(), TimeUnit.SECONDS)
+                .build();
+
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        warmUpObjectMapper();
+
+        this.singleFlight = ApplicationConfig.isGetCoalescingEnabled() ? new SingleFlight() : null;
+        this.circuitBreaker = ApplicationConfig.isCircuitBreakerEnabled()
+                ? new CircuitBreaker(ApplicationConfig.getCircuitFailureThreshold(),
+                        TimeUnit.SECONDS.toMillis(ApplicationConfig.getCircuitOpenSeconds()))
+                : null;
+        this.executionMode = ExecutionMode.fromConfig(ApplicationConfig.getApiExecutionMode());
+        // 가상 스레드 실행기는 가상 스레드 실행 방식에서만 생성 (enqueue 방식에서는 만들지 않음)
+        if (executionMode == ExecutionMode.VIRTUAL_THREAD) {
+            this.ioExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-io-", 0).factory());
+            this.ioPermits = new Semaphore(Math.max(1, ApplicationConfig.getIoMaxConcurrency()));
+        } else {
+            this.ioExecutor = null;
+            this.ioPermits = null;
+        }
+
+        logger.info("HTTP 전송 계층 초기화 완료: 유휴 연결 {}개, keep-alive {}초, 실행 방식 {}",
+                ApplicationConfig.getPoolMaxIdleConnections(), ApplicationConfig.getPoolKeepAliveSeconds(),
+                executionMode);
+    }
+
+    public static synchronized HttpTransport getInstance() {
+        if (instance == null) {
+            instance = new HttpTransport();
+        }
+        return instance;
+    }
+
+    /**
+     * 공유 OkHttpClient 반환
+     */
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * HTTP 디스크 캐시 적중/실패 통계 반환
+     */
+    public HttpCacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    /**
+     * 동시에 들어온 동일 GET 요청 병합기 반환 (사용하지 않으면 null)
+     */
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 백엔드 전체에 대한 서킷 브레이커 반환 (사용하지 않으면 null)
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * 엔드포인트별 응답 시간 기록기 반환
+     */
+    public LatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    /**
+     * HTTP 디스크 캐시 반환 (사용하지 않으면 null)
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * 디스크 캐시 내용을 기록하고 적중/실패 통계를 로그로 남김 (애플리케이션 종료 시 호출)
+     */
+    public void flushCache() {
+        logger.info("HTTP 캐시 통계: {}", cacheStats);
+        if (singleFlight != null) {
+            logger.info("GET 요청 병합 통계: {}", singleFlight.getStats());
+        }
+        if (circuitBreaker != null) {
+            logger.info("서킷 브레이커 통계: {}", circuitBreaker);
+        }
+        logger.info("응답 시간 통계: {}", latencyTracker);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.flush();
+        } catch (IOException e) {
+            logger.debug("HTTP 캐시 flush 실패", e);
+        }
+    }
+
+    /**
+     * 설정에 따라 HTTP 디스크 캐시 생성 (디렉터리를 만들 수 없으면 캐시 없이 동작)
+     */
+    private static Cache createCache() {
+        if (!ApplicationConfig.isHttpCacheEnabled()) {
+            return null;
+        }
+        File directory = new File(ApplicationConfig.getHttpCacheDirectory());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            logger.warn("HTTP 캐시 디렉터리를 만들 수 없어 캐시 없이 동작합니다: {}", directory);
+            return null;
+        }
+        long maxBytes = Math.max(1, ApplicationConfig.getHttpCacheMaxMegabytes()) * 1024L * 1024L;
+        logger.info("HTTP 디스크 캐시 사용: {} (최대 {}MB)", directory, maxBytes / (1024 * 1024));
+        return new Cache(directory, maxBytes);
+    }
+
+    /**
+     * 공유 ObjectMapper 반환
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * 응답 타입에 대한 ObjectReader 반환 (타입별로 캐시)
+     * 호출마다 TypeReference로 JavaType을 다시 해석하지 않도록 함
+     */
+    public ObjectReader readerFor(Class<?> type) {
+        return readerFor((Type) type);
+    }
+
+    /**
+     * 제네릭 응답 타입에 대한 ObjectReader 반환 (타입별로 캐시)
+     * 같은 제네릭 타입이면 TypeReference 인스턴스가 달라도 같은 ObjectReader를 사용
+     */
+    public ObjectReader readerFor(TypeReference<?> typeReference) {
+        return readerFor(typeReference.getType());
+    }
+
+    private ObjectReader readerFor(Type type) {
+        return readers.computeIfAbsent(type,
+                t -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(t)));
+    }
+
+    /**
+     * 요청 본문 타입에 대한 ObjectWriter 반환 (타입별로 캐시)
+     */
+    public ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * 현재 API 호출 실행 방식 반환
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * 블로킹 작업을 I/O 전용 가상 스레드에서 실행
+     * 공용 ForkJoinPool을 점유하지 않으며, 동시에 실행되는 작업 수는 api.io.max.concurrency로 제한됨
+     * 가상 스레드 실행 방식에서만 사용할 수 있음
+     */
+    public <T> CompletableFuture<T> supplyOnIoThread(Supplier<T> task) {
+        if (ioExecutor == null) {
+            throw new IllegalStateException("가상 스레드 실행 방식이 아닙니다: " + executionMode);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ioPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return task.get();
+            } finally {
+                ioPermits.release();
+            }
+        }, ioExecutor);
+    }
+
+    /**
+     * 자주 사용하는 DTO의 직렬화기/역직렬화기를 미리 만들어 캐시에 올려둠
+     * 첫 API 응답을 처리할 때 리플렉션 비용이 생기지 않도록 하기 위함
+     */
+    private void warmUpObjectMapper() {
+        try {
+            ReservationDto sample = new ReservationDto(0L, 0L, "warmup", LocalDate.now(),
+                    LocalTime.of(9, 0), LocalTime.of(10, 0));
+            String reservationJson = writerFor(List.class).writeValueAsString(List.of(sample));
+            readerFor(new TypeReference<List<ReservationDto>>() {
+            }).readValue(reservationJson);
+            writerFor(ReservationDto.class).writeValueAsString(sample);
+
+            String roomJson = writerFor(List.class).writeValueAsString(List.of(new RoomDto(0L, "warmup", "warmup", 1)));
+            readerFor(new TypeReference<List<RoomDto>>() {
+            }).readValue(roomJson);
+        } catch (Exception e) {
+            // 워밍업 실패는 기능에 영향이 없으므로 로그만 남김
+            logger.debug("ObjectMapper 워밍업 실패", e);
+        }
+    }
+}
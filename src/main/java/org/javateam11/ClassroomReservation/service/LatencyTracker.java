@@ -0,0 +1,92 @@
+package org.javateam11.ClassroomReservation.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 최근 응답 시간을 보관하고 백분위수를 계산하는 클래스
+ * 엔드포인트마다 최근 WINDOW개의 성공 응답 시간만 링 버퍼에 남기므로 메모리가 일정하고,
+ * 서버 상태가 바뀌면 백분위수도 금방 따라갑니다. 헤지 요청의 대기 시간(p95)을 정하고, 헤지 요청 통계를 함께 보관합니다.
+ */
+public class LatencyTracker {
+
+    // 엔드포인트별로 보관할 최근 응답 시간 개수
+    private static final int WINDOW = 128;
+
+    /**
+     * 한 엔드포인트의 최근 응답 시간 링 버퍼
+     */
+    private static final class Samples {
+        private final long[] millis = new long[WINDOW];
+        private int next;
+        private int count;
+
+        synchronized void add(long value) {
+            millis[next] = value;
+            next = (next + 1) % WINDOW;
+            if (count < WINDOW) {
+                count++;
+            }
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(millis, count);
+        }
+    }
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private final LongAdder hedged = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * 성공한 요청의 응답 시간 기록
+     */
+    public void record(String endpoint, long elapsedMillis) {
+        samples.computeIfAbsent(endpoint, e -> new Samples()).add(elapsedMillis);
+    }
+
+    /**
+     * 최근 응답 시간의 백분위수(밀리초) 반환 (표본이 minSamples개 미만이면 -1)
+     *
+     * @param percentile 0보다 크고 100 이하인 백분위
+     */
+    public long percentile(String endpoint, double percentile, int minSamples) {
+        Samples endpointSamples = samples.get(endpoint);
+        if (endpointSamples == null) {
+            return -1;
+        }
+        long[] sorted = endpointSamples.snapshot();
+        if (sorted.length == 0 || sorted.length < minSamples) {
+            return -1;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * 헤지 요청을 보낸 횟수 기록
+     */
+    public void recordHedge() {
+        hedged.increment();
+    }
+
+    /**
+     * 헤지 요청이 원래 요청보다 먼저 응답한 횟수 기록
+     */
+    public void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    @Override
+    public String toString() {
+        Map<String, String> summary = new TreeMap<>();
+        for (String endpoint : samples.keySet()) {
+            summary.put(endpoint, "p50=" + percentile(endpoint, 50, 1) + "ms, p95=" + percentile(endpoint, 95, 1) + "ms");
+        }
+        return "hedged=" + hedged.sum() + ", hedgeWins=" + hedgeWins.sum() + ", latency=" + summary;
+    }
+}
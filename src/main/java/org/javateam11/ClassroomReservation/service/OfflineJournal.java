@@ -0,0 +1,172 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 프레임 단위로 기록하는 추가 전용(append-only) 저널 파일
+ * 프레임 형식: [int 본문 길이][int CRC32][byte 종류][본문]
+ * 기록 도중 프로그램이 종료되어 마지막 프레임이 깨졌으면 읽을 때 그 지점부터 잘라냅니다.
+ * 파일이 커지면 현재 상태만 담은 새 파일로 교체(compact)합니다.
+ */
+class OfflineJournal implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(OfflineJournal.class);
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + 1;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * 저널에 기록되는 한 프레임
+     */
+    static final class Frame {
+        final byte type;
+        final byte[] payload;
+
+        Frame(byte type, byte[] payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+    }
+
+    /**
+     * 저널을 읽을 때 프레임마다 호출되는 콜백
+     */
+    @FunctionalInterface
+    interface FrameHandler {
+        void handle(byte type, byte[] payload) throws IOException;
+    }
+
+    private final Path file;
+    private FileChannel channel;
+
+    OfflineJournal(Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = open(file);
+    }
+
+    /**
+     * 처음부터 모든 프레임을 순서대로 읽음 (깨진 꼬리는 잘라냄)
+     */
+    synchronized void replay(FrameHandler handler) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            byte type = header.get();
+            if (length < 0 || length > MAX_PAYLOAD_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_BYTES);
+            if (checksum(type, payload.array()) != checksum) {
+                break;
+            }
+            handler.handle(type, payload.array());
+            position += HEADER_BYTES + length;
+        }
+
+        if (position < size) {
+            logger.warn("저널 끝부분 {}바이트가 손상되어 잘라냅니다: {}", size - position, file);
+            channel.truncate(position);
+        }
+        channel.position(position);
+    }
+
+    /**
+     * 프레임 하나를 파일 끝에 추가
+     *
+     * @param durable true면 디스크에 기록될 때까지 기다림 (대기열 요청처럼 잃으면 안 되는 기록)
+     */
+    synchronized void append(byte type, byte[] payload, boolean durable) throws IOException {
+        ByteBuffer frame = encode(type, payload);
+        channel.position(channel.size());
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+        if (durable) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * 주어진 프레임만 담은 새 파일로 저널을 교체
+     */
+    synchronized void compact(List<Frame> frames) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Frame frame : frames) {
+                ByteBuffer buffer = encode(frame.type, frame.payload);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            out.force(true);
+        }
+
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(file);
+        channel.position(channel.size());
+    }
+
+    synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("저널을 읽는 중 파일이 끝났습니다: " + file);
+            }
+            offset += read;
+        }
+    }
+
+    private static ByteBuffer encode(byte type, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt(checksum(type, payload));
+        buffer.put(type);
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int checksum(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
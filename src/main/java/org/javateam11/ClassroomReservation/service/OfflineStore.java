@@ -0,0 +1,402 @@
+package org.javateam11.ClassroomReservation.service;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.dto.PendingOperationDto;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 백엔드에 연결할 수 없을 때를 위한 오프라인 저장소 싱글톤 클래스
+ * 마지막으로 동기화한 강의실 목록과 날짜별 예약 목록을 로컬 저널 파일(OfflineJournal)에 기록해 두었다가
+ * 서버가 응답하지 않으면 대신 제공하고, 보내지 못한 예약 생성/삭제 요청은 대기열(outbox)에 저장하여
+ * 연결이 복구되면 ReservationService가 순서대로 다시 전송합니다.
+ */
+public class OfflineStore {
+    private static final Logger logger = LoggerFactory.getLogger(OfflineStore.class);
+    private static OfflineStore instance;
+
+    // 저널 프레임 종류
+    private static final byte RECORD_ROOMS = 1;
+    private static final byte RECORD_RESERVATIONS = 2;
+    private static final byte RECORD_OUTBOX_ADD = 3;
+    private static final byte RECORD_OUTBOX_DONE = 4;
+
+    // 저널 파일이 이 크기를 넘으면 현재 상태만 남기고 다시 씀
+    private static final long COMPACT_THRESHOLD_BYTES = 4L * 1024 * 1024;
+
+    private static final TypeReference<List<RoomDto>> ROOM_LIST = new TypeReference<>() {
+    };
+
+    /**
+     * 날짜별 예약 목록 저널 기록
+     */
+    static class DateRecord {
+        @JsonProperty("date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate date;
+
+        @JsonProperty("reservations")
+        List<ReservationDto> reservations;
+    }
+
+    private final ObjectMapper objectMapper;
+    private final OfflineJournal journal;
+
+    // 마지막으로 동기화한 상태 (저널 내용과 같음)
+    private byte[] roomsPayload;
+    private List<RoomDto> rooms;
+    private final Map<LocalDate, byte[]> reservationPayloads = new HashMap<>();
+    private final Map<LocalDate, List<ReservationDto>> reservationsByDate = new HashMap<>();
+
+    // 아직 서버에 보내지 못한 요청 (저장 순서 유지)
+    private final Map<String, PendingOperationDto> pendingOperations = new LinkedHashMap<>();
+
+    private volatile boolean offline = false;
+    private final AtomicBoolean replaying = new AtomicBoolean(false);
+    private final List<Consumer<String>> conflictListeners = new CopyOnWriteArrayList<>();
+
+    private OfflineStore() {
+        this.objectMapper = HttpTransport.getInstance().getObjectMapper();
+        this.journal = ApplicationConfig.isOfflineStoreEnabled() ? openJournal() : null;
+    }
+
+    public static synchronized OfflineStore getInstance() {
+        if (instance == null) {
+            instance = new OfflineStore();
+        }
+        return instance;
+    }
+
+    /**
+     * 저널 파일을 열고 기록된 상태를 복원 (파일을 열거나 읽을 수 없으면 저널 없이 메모리로만 동작)
+     * 내용을 해석할 수 없는 기록(예: 클래스가 바뀐 예전 기록)은 건너뛰고 나머지 기록은 그대로 복원
+     */
+    private OfflineJournal openJournal() {
+        Path file = Paths.get(ApplicationConfig.getOfflineDirectory(), "offline-journal.bin");
+        OfflineJournal opened = null;
+        try {
+            opened = new OfflineJournal(file);
+            opened.replay(this::applyRecordOrSkip);
+            logger.info("오프라인 저널 로드: 강의실 {}개, 예약 날짜 {}개, 대기 요청 {}개",
+                    rooms != null ? rooms.size() : 0, reservationsByDate.size(), pendingOperations.size());
+            return opened;
+        } catch (IOException e) {
+            // 열어 둔 파일 핸들을 닫아야 Windows에서 파일이 잠긴 채로 남지 않음
+            if (opened != null) {
+                try {
+                    opened.close();
+                } catch (IOException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            logger.warn("오프라인 저널을 열 수 없어 메모리로만 동작합니다: {}", file, e);
+            return null;
+        }
+    }
+
+    private void applyRecordOrSkip(byte type, byte[] payload) {
+        try {
+            applyRecord(type, payload);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("해석할 수 없는 오프라인 저널 기록을 건너뜁니다: 종류={}, {}바이트", type, payload.length, e);
+        }
+    }
+
+    private void applyRecord(byte type, byte[] payload) throws IOException {
+        switch (type) {
+            case RECORD_ROOMS -> {
+                roomsPayload = payload;
+                rooms = objectMapper.readValue(payload, ROOM_LIST);
+            }
+            case RECORD_RESERVATIONS -> {
+                DateRecord record = objectMapper.readValue(payload, DateRecord.class);
+                reservationPayloads.put(record.date, payload);
+                reservationsByDate.put(record.date, record.reservations);
+            }
+            case RECORD_OUTBOX_ADD -> {
+                PendingOperationDto operation = objectMapper.readValue(payload, PendingOperationDto.class);
+                pendingOperations.put(operation.getId(), operation);
+            }
+            case RECORD_OUTBOX_DONE -> pendingOperations.remove(new String(payload, StandardCharsets.UTF_8));
+            default -> logger.warn("알 수 없는 저널 기록 종류: {}", type);
+        }
+    }
+
+    /**
+     * 마지막으로 받은 강의실 목록 기록 (내용이 같으면 다시 쓰지 않음)
+     */
+    public synchronized void recordRooms(List<RoomDto> rooms) {
+        byte[] payload = serialize(rooms);
+        if (payload == null || Arrays.equals(payload, roomsPayload)) {
+            return;
+        }
+        this.roomsPayload = payload;
+        this.rooms = new ArrayList<>(rooms);
+        append(RECORD_ROOMS, payload);
+    }
+
+    /**
+     * 기록된 강의실 목록 반환 (한 번도 받은 적이 없으면 null)
+     */
+    public synchronized List<RoomDto> getRooms() {
+        return rooms != null ? new ArrayList<>(rooms) : null;
+    }
+
+    /**
+     * 특정 날짜의 최신 예약 목록 기록 (내용이 같으면 다시 쓰지 않음)
+     */
+    public synchronized void recordReservations(LocalDate date, List<ReservationDto> reservations) {
+        DateRecord record = new DateRecord();
+        record.date = date;
+        record.reservations = new ArrayList<>(reservations);
+        byte[] payload = serialize(record);
+        if (payload == null || Arrays.equals(payload, reservationPayloads.get(date))) {
+            return;
+        }
+        reservationPayloads.put(date, payload);
+        reservationsByDate.put(date, record.reservations);
+        append(RECORD_RESERVATIONS, payload);
+    }
+
+    /**
+     * 기록된 특정 날짜의 예약 목록에 대기 중인 요청을 반영하여 반환
+     *
+     * @return 예약 목록, 해당 날짜 기록과 대기 요청이 모두 없으면 null
+     */
+    public synchronized List<ReservationDto> getReservations(LocalDate date) {
+        List<ReservationDto> recorded = reservationsByDate.get(date);
+        boolean hasPending = pendingOperations.values().stream().anyMatch(op -> date.equals(op.getDate()));
+        if (recorded == null && !hasPending) {
+            return null;
+        }
+
+        List<ReservationDto> reservations = recorded != null ? new ArrayList<>(recorded) : new ArrayList<>();
+        for (PendingOperationDto operation : pendingOperations.values()) {
+            if (!date.equals(operation.getDate())) {
+                continue;
+            }
+            if (operation.isCreate()) {
+                reservations.add(operation.getReservation());
+            } else {
+                reservations.removeIf(r -> operation.getReservationId().equals(r.getId()));
+            }
+        }
+        return reservations;
+    }
+
+    /**
+     * 예약 생성 요청을 대기열에 저장 (디스크에 기록된 뒤 반환)
+     *
+     * @throws IllegalStateException 저널이 없거나 디스크에 기록하지 못한 경우 (대기열에 넣지 않음)
+     */
+    public synchronized PendingOperationDto enqueueCreate(ReservationDto reservation) {
+        return enqueue(PendingOperationDto.create(reservation));
+    }
+
+    /**
+     * 예약 삭제 요청을 대기열에 저장 (디스크에 기록된 뒤 반환)
+     *
+     * @throws IllegalStateException 저널이 없거나 디스크에 기록하지 못한 경우 (대기열에 넣지 않음)
+     */
+    public synchronized PendingOperationDto enqueueDelete(Long reservationId) {
+        LocalDate date = null;
+        for (Map.Entry<LocalDate, List<ReservationDto>> entry : reservationsByDate.entrySet()) {
+            if (entry.getValue().stream().anyMatch(r -> reservationId.equals(r.getId()))) {
+                date = entry.getKey();
+                break;
+            }
+        }
+        return enqueue(PendingOperationDto.delete(reservationId, date));
+    }
+
+    private PendingOperationDto enqueue(PendingOperationDto operation) {
+        byte[] payload = serialize(operation);
+        if (payload == null) {
+            throw new IllegalStateException("대기 요청을 저장할 수 없습니다: " + operation.describe());
+        }
+        try {
+            appendDurably(RECORD_OUTBOX_ADD, payload);
+        } catch (IOException e) {
+            throw new IllegalStateException("대기 요청을 디스크에 저장할 수 없습니다: " + operation.describe(), e);
+        }
+        pendingOperations.put(operation.getId(), operation);
+        logger.info("오프라인 대기열에 저장: {}", operation.describe());
+        return operation;
+    }
+
+    /**
+     * 전송(또는 충돌로 포기)한 요청을 대기열에서 제거
+     */
+    public synchronized void complete(String operationId) {
+        if (pendingOperations.remove(operationId) != null) {
+            try {
+                appendDurably(RECORD_OUTBOX_DONE, operationId.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // 완료 기록이 없으면 다음 실행 때 같은 Idempotency-Key로 다시 전송됨
+                logger.warn("대기 요청 완료 기록 실패: {}", operationId, e);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 요청 목록 (저장 순서)
+     */
+    public synchronized List<PendingOperationDto> getPendingOperations() {
+        return new ArrayList<>(pendingOperations.values());
+    }
+
+    public synchronized boolean hasPendingOperations() {
+        return !pendingOperations.isEmpty();
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * 서버에 연결할 수 없음을 기록
+     */
+    public void markOffline() {
+        if (!offline) {
+            logger.warn("백엔드에 연결할 수 없어 오프라인 모드로 전환합니다");
+        }
+        offline = true;
+    }
+
+    /**
+     * 서버 응답을 받았음을 기록
+     *
+     * @return 오프라인 상태에서 복구되었으면 true
+     */
+    public boolean markOnline() {
+        if (offline) {
+            offline = false;
+            logger.info("백엔드 연결 복구, 온라인 모드로 전환합니다");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 대기열 재전송 시작 (이미 진행 중이면 false)
+     */
+    boolean tryBeginReplay() {
+        return replaying.compareAndSet(false, true);
+    }
+
+    void endReplay() {
+        replaying.set(false);
+    }
+
+    /**
+     * 재전송 중 서버가 거절한 요청을 보고받을 리스너 등록 (EDT에서 호출됨)
+     */
+    public void addConflictListener(Consumer<String> listener) {
+        conflictListeners.add(listener);
+    }
+
+    public void removeConflictListener(Consumer<String> listener) {
+        conflictListeners.remove(listener);
+    }
+
+    void reportConflict(String message) {
+        logger.warn("대기 요청 충돌: {}", message);
+        SwingUtilities.invokeLater(() -> conflictListeners.forEach(listener -> listener.accept(message)));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            logger.warn("오프라인 저널 기록 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 성격의 기록 추가 (실패해도 로그만 남김)
+     */
+    private void append(byte type, byte[] payload) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.append(type, payload, false);
+        } catch (IOException e) {
+            logger.warn("오프라인 저널 기록 실패", e);
+            return;
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * 잃으면 안 되는 기록 추가 (디스크에 기록될 때까지 기다리고, 실패하면 예외를 던짐)
+     */
+    private void appendDurably(byte type, byte[] payload) throws IOException {
+        if (journal == null) {
+            throw new IOException("오프라인 저널을 사용할 수 없습니다");
+        }
+        journal.append(type, payload, true);
+        compactIfNeeded();
+    }
+
+    /**
+     * 저널이 커졌으면 정리 (이미 기록된 내용은 그대로이므로 실패해도 로그만 남김)
+     */
+    private void compactIfNeeded() {
+        try {
+            if (journal.size() > COMPACT_THRESHOLD_BYTES) {
+                compact();
+            }
+        } catch (IOException e) {
+            logger.warn("오프라인 저널 정리 실패", e);
+        }
+    }
+
+    /**
+     * 현재 상태(강의실, 오늘 이후 날짜의 예약, 대기 요청)만 남기고 저널을 다시 씀
+     */
+    private void compact() throws IOException {
+        LocalDate today = LocalDate.now();
+        reservationsByDate.keySet().removeIf(date -> date.isBefore(today));
+        reservationPayloads.keySet().removeIf(date -> date.isBefore(today));
+
+        List<OfflineJournal.Frame> frames = new ArrayList<>();
+        if (roomsPayload != null) {
+            frames.add(new OfflineJournal.Frame(RECORD_ROOMS, roomsPayload));
+        }
+        for (byte[] payload : reservationPayloads.values()) {
+            frames.add(new OfflineJournal.Frame(RECORD_RESERVATIONS, payload));
+        }
+        for (PendingOperationDto operation : pendingOperations.values()) {
+            byte[] payload = serialize(operation);
+            if (payload != null) {
+                frames.add(new OfflineJournal.Frame(RECORD_OUTBOX_ADD, payload));
+            }
+        }
+        journal.compact(frames);
+        logger.debug("오프라인 저널 정리 완료: {}바이트", journal.size());
+    }
+}
@@ -0,0 +1,188 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 날짜별 예약 목록의 신선도(TTL)와 보관 개수(LRU)를 관리하는 프로세스 전역 캐시 싱글톤 클래스
+ * 실제 예약 데이터는 ReservationStore에 있으며, 이 클래스는 날짜마다 마지막으로 서버와 확인한 시각을 기록하여
+ * - TTL 이내: 메모리에서 바로 응답 (FRESH)
+ * - TTL이 지났지만 stale 허용 시간 이내: 메모리에서 바로 응답하고 백그라운드에서 다시 확인 (STALE)
+ * - 그 외, 또는 무효화된 날짜: 서버 응답을 기다림 (MISSING)
+ * 으로 조회 방식을 정합니다. 이 클라이언트에서 만든 예약 생성/삭제는 ReservationStore에 바로 반영되므로 무효화하지 않습니다.
+ * 보관 날짜 수를 넘으면 가장 오래 사용하지 않은 날짜를 ReservationStore에서 제거합니다.
+ */
+public class ReservationCache {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationCache.class);
+    private static ReservationCache instance;
+
+    /**
+     * 조회 시점의 캐시 상태
+     */
+    public enum Freshness {
+        FRESH, STALE, MISSING
+    }
+
+    private final ReservationStore store;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final int maxDates;
+
+    // 날짜 -> 마지막으로 서버와 확인한 시각 (System.nanoTime, 아직 확인하지 않았으면 null), 접근 순서 유지
+    private final LinkedHashMap<LocalDate, Long> verifiedAt = new LinkedHashMap<>(16, 0.75f, true);
+    // 예약 생성/삭제로 무효화되어 다음 조회는 반드시 서버와 확인해야 하는 날짜
+    private final Set<LocalDate> invalidated = new HashSet<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private ReservationCache() {
+        this.store = ReservationStore.getInstance();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ApplicationConfig.getReservationCacheTtlSeconds()));
+        this.staleNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ApplicationConfig.getReservationCacheStaleSeconds()));
+        this.maxDates = Math.max(1, ApplicationConfig.getReservationCacheMaxDates());
+
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.gauge("cache.reservation.hit", this::getHitCount);
+        registry.gauge("cache.reservation.stale", this::getStaleHitCount);
+        registry.gauge("cache.reservation.miss", this::getMissCount);
+        registry.gauge("cache.reservation.eviction", this::getEvictionCount);
+        registry.gauge("cache.reservation.invalidation", this::getInvalidationCount);
+    }
+
+    public static synchronized ReservationCache getInstance() {
+        if (instance == null) {
+            instance = new ReservationCache();
+        }
+        return instance;
+    }
+
+    /**
+     * 날짜의 캐시 상태를 확인하고 적중/실패를 집계
+     */
+    public synchronized Freshness lookup(LocalDate date) {
+        if (!store.hasSnapshot(date)) {
+            verifiedAt.remove(date);
+            misses.increment();
+            return Freshness.MISSING;
+        }
+        if (invalidated.contains(date)) {
+            misses.increment();
+            return Freshness.MISSING;
+        }
+
+        // 웜 스타트 등으로 들어왔지만 아직 서버와 확인하지 않은 데이터는 STALE로 취급
+        Long verified = verifiedAt.get(date);
+        long age = verified != null ? System.nanoTime() - verified : Long.MAX_VALUE;
+        if (age <= ttlNanos) {
+            hits.increment();
+            return Freshness.FRESH;
+        }
+        if (verified == null || age <= ttlNanos + staleNanos) {
+            staleHits.increment();
+            if (verified == null) {
+                verifiedAt.put(date, null);
+            }
+            return Freshness.STALE;
+        }
+        misses.increment();
+        return Freshness.MISSING;
+    }
+
+    /**
+     * 날짜의 예약 목록 복사본 (없으면 null)
+     */
+    public List<ReservationDto> getReservations(LocalDate date) {
+        return store.getReservations(date);
+    }
+
+    /**
+     * 서버와 확인을 마쳤음을 기록하고, 보관 날짜 수를 넘으면 가장 오래 사용하지 않은 날짜를 제거
+     */
+    public synchronized void markVerified(LocalDate date) {
+        verifiedAt.put(date, System.nanoTime());
+        invalidated.remove(date);
+
+        Iterator<Map.Entry<LocalDate, Long>> iterator = verifiedAt.entrySet().iterator();
+        while (verifiedAt.size() > maxDates && iterator.hasNext()) {
+            LocalDate eldest = iterator.next().getKey();
+            if (eldest.equals(date)) {
+                continue;
+            }
+            iterator.remove();
+            invalidated.remove(eldest);
+            store.invalidate(eldest);
+            evictions.increment();
+            logger.debug("예약 캐시에서 제거 (LRU): {}", eldest);
+        }
+    }
+
+    /**
+     * 날짜를 무효화하여 다음 조회가 서버 응답을 기다리도록 함
+     * 데이터와 ETag는 남겨 두므로 다시 확인할 때 조건부 요청(304)을 그대로 사용할 수 있음
+     */
+    public synchronized void invalidate(LocalDate date) {
+        if (date != null && verifiedAt.containsKey(date) && invalidated.add(date)) {
+            invalidations.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * 메모리에서 바로 응답한 비율 (FRESH + STALE)
+     */
+    public double getHitRatio() {
+        long answered = getHitCount() + getStaleHitCount();
+        long total = answered + getMissCount();
+        return total == 0 ? 0.0 : (double) answered / total;
+    }
+
+    /**
+     * 현재 관리 중인 날짜 수
+     */
+    public synchronized int size() {
+        return verifiedAt.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReservationCache{size=%d, hit=%d, staleHit=%d, miss=%d, eviction=%d, "
+                + "invalidation=%d, hitRatio=%.2f}", size(), getHitCount(), getStaleHitCount(), getMissCount(),
+                getEvictionCount(), getInvalidationCount(), getHitRatio());
+    }
+}
@@ -0,0 +1,321 @@
+package org.javateam11.ClassroomReservation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.dto.ReservationEventDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.SwingUtilities;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 백엔드의 실시간 예약 변경 이벤트를 WebSocket으로 받는 싱글톤 채널
+ * 받은 이벤트는 ReservationStore에 병합한 뒤, 해당 날짜를 구독 중인 리스너에 EDT에서 전달합니다.
+ * 연결이 끊기면 지수 백오프(지터 포함)로 재연결하며, 연결되지 않은 동안에는 기존 폴링이 대신 동작합니다.
+ * 백엔드가 엔드포인트를 지원하지 않으면(업그레이드 요청에 404/405/501 응답) 더 이상 연결을 시도하지 않고 폴링만 사용합니다.
+ */
+public class ReservationEventChannel {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationEventChannel.class);
+    private static ReservationEventChannel instance;
+
+    private static final long INITIAL_RECONNECT_DELAY_MILLIS = 1000;
+
+    /**
+     * 구독 해제 핸들
+     */
+    public interface Subscription {
+        void cancel();
+    }
+
+    private final OkHttpClient client;
+    private final ObjectMapper objectMapper;
+    private final ReservationStore reservationStore;
+    private final String url;
+    private final ScheduledExecutorService scheduler;
+    private final long initialReconnectDelayMillis;
+
+    // 날짜별 구독 리스너
+    private final Map<LocalDate, List<Consumer<List<ReservationDto>>>> listeners = new ConcurrentHashMap<>();
+
+    private WebSocket webSocket;
+    private volatile boolean connected = false;
+
+    // 백엔드가 실시간 이벤트 엔드포인트를 지원하는지 여부 (업그레이드 요청에 404/405/501 응답 시 false로 전환)
+    private volatile boolean pushSupported = true;
+    private boolean reconnectScheduled = false;
+    private long reconnectDelayMillis;
+
+    private ReservationEventChannel() {
+        this(HttpTransport.getInstance(), ReservationStore.getInstance(),
+                ApplicationConfig.getApiBaseUrl().replaceFirst("^http", "ws") + ApplicationConfig.getPushPath(),
+                INITIAL_RECONNECT_DELAY_MILLIS);
+    }
+
+    /**
+     * 접속 주소와 첫 재연결 지연 시간을 지정하여 생성 (테스트용)
+     */
+    ReservationEventChannel(HttpTransport transport, ReservationStore reservationStore, String url,
+            long initialReconnectDelayMillis) {
+        // 같은 연결 풀/디스패처를 공유하되, 끊긴 연결을 감지하기 위해 ping만 추가
+        this.client = transport.getClient().newBuilder()
+                .pingInterval(30, TimeUnit.SECONDS)
+                .build();
+        this.objectMapper = transport.getObjectMapper();
+        this.reservationStore = reservationStore;
+        this.url = url;
+        this.initialReconnectDelayMillis = initialReconnectDelayMillis;
+        this.reconnectDelayMillis = initialReconnectDelayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "reservation-event-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized ReservationEventChannel getInstance() {
+        if (instance == null) {
+            instance = new ReservationEventChannel();
+        }
+        return instance;
+    }
+
+    /**
+     * 특정 날짜의 예약 변경을 구독
+     * 변경이 생기면 병합된 해당 날짜의 전체 예약 목록이 EDT에서 listener로 전달됨
+     *
+     * @return 구독 해제 핸들
+     */
+    public Subscription subscribe(LocalDate date, Consumer<List<ReservationDto>> listener) {
+        listeners.computeIfAbsent(date, d -> new CopyOnWriteArrayList<>()).add(listener);
+        ensureConnected();
+        sendSubscribe(date);
+
+        return () -> {
+            List<Consumer<List<ReservationDto>>> dateListeners = listeners.get(date);
+            if (dateListeners != null) {
+                dateListeners.remove(listener);
+                if (dateListeners.isEmpty()) {
+                    listeners.remove(date);
+                    sendUnsubscribe(date);
+                }
+            }
+            if (listeners.isEmpty()) {
+                disconnect();
+            }
+        };
+    }
+
+    /**
+     * 현재 실시간 이벤트 연결이 살아있는지 확인
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private synchronized void ensureConnected() {
+        if (!ApplicationConfig.isPushEnabled() || !pushSupported || webSocket != null || reconnectScheduled) {
+            return;
+        }
+        connect();
+    }
+
+    private synchronized void connect() {
+        reconnectScheduled = false;
+        if (listeners.isEmpty() || !pushSupported) {
+            return;
+        }
+
+        Request.Builder builder = new Request.Builder().url(url);
+        TokenManager tokenManager = TokenManager.getInstance();
+        if (tokenManager.isAuthenticated()) {
+            builder.addHeader("Authorization", tokenManager.getAuthorizationHeader());
+        }
+
+        logger.debug("실시간 예약 이벤트 연결 시도: {}", url);
+        webSocket = client.newWebSocket(builder.build(), new EventListener());
+    }
+
+    private synchronized void disconnect() {
+        if (webSocket != null) {
+            webSocket.close(1000, "no subscribers");
+            webSocket = null;
+        }
+        connected = false;
+    }
+
+    /**
+     * 연결 실패/종료 시 지수 백오프로 재연결 예약
+     */
+    private synchronized void scheduleReconnect(WebSocket failedSocket) {
+        if (failedSocket != webSocket) {
+            return; // 이미 교체되었거나 의도적으로 닫은 연결
+        }
+        webSocket = null;
+        connected = false;
+        if (listeners.isEmpty() || reconnectScheduled) {
+            return;
+        }
+
+        long maxDelay = TimeUnit.SECONDS.toMillis(ApplicationConfig.getPushReconnectMaxSeconds());
+        long delay = Math.min(reconnectDelayMillis, maxDelay);
+        // 여러 키오스크가 동시에 재연결하지 않도록 지터 적용 (50% ~ 100%)
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        reconnectDelayMillis = Math.min(delay * 2, maxDelay);
+        reconnectScheduled = true;
+
+        logger.info("실시간 예약 이벤트 재연결 예약: {}ms 후", jittered);
+        scheduler.schedule(this::connect, jittered, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 백엔드가 실시간 이벤트를 지원하지 않음을 기록하고 재연결하지 않음 (이후에는 폴링으로만 동기화)
+     */
+    private synchronized void markPushUnsupported(WebSocket failedSocket, int statusCode) {
+        if (failedSocket != webSocket) {
+            return;
+        }
+        webSocket = null;
+        connected = false;
+        if (pushSupported) {
+            logger.info("실시간 예약 이벤트 엔드포인트 미지원(HTTP {}), 폴링으로만 동기화", statusCode);
+        }
+        pushSupported = false;
+    }
+
+    private synchronized void sendSubscribe(LocalDate date) {
+        if (webSocket != null && connected) {
+            webSocket.send("{\"action\":\"subscribe\",\"date\":\"" + date + "\"}");
+        }
+    }
+
+    private synchronized void sendUnsubscribe(LocalDate date) {
+        if (webSocket != null && connected) {
+            webSocket.send("{\"action\":\"unsubscribe\",\"date\":\"" + date + "\"}");
+        }
+    }
+
+    /**
+     * 받은 이벤트를 저장소에 병합하고 구독자에게 알림
+     */
+    private void handleEvent(ReservationEventDto event) {
+        LocalDate date = event.getDate();
+        if (date == null && event.getReservation() != null) {
+            date = event.getReservation().getDate();
+        }
+        if (date == null || event.getType() == null) {
+            logger.debug("처리할 수 없는 예약 이벤트 무시: {}", event);
+            return;
+        }
+
+        // 아직 전체 목록을 받지 않은 날짜는 부분 스냅샷이 되지 않도록 병합하지 않음
+        if (!reservationStore.hasSnapshot(date)) {
+            return;
+        }
+
+        boolean changed;
+        if (event.getType() == ReservationEventDto.Type.DELETED) {
+            Long reservationId = event.getReservationId() != null ? event.getReservationId()
+                    : event.getReservation() != null ? event.getReservation().getId() : null;
+            if (reservationId == null) {
+                return;
+            }
+            changed = reservationStore.applyDelta(date, List.of(), List.of(reservationId), null);
+        } else {
+            if (event.getReservation() == null) {
+                return;
+            }
+            changed = reservationStore.applyDelta(date, List.of(event.getReservation()), List.of(), null);
+        }
+
+        if (changed) {
+            notifyListeners(date);
+        }
+    }
+
+    /**
+     * 해당 날짜의 구독자들에게 현재 스냅샷을 EDT에서 전달
+     */
+    void notifyListeners(LocalDate date) {
+        List<Consumer<List<ReservationDto>>> dateListeners = listeners.get(date);
+        List<ReservationDto> reservations = reservationStore.getReservations(date);
+        if (dateListeners == null || dateListeners.isEmpty() || reservations == null) {
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            for (Consumer<List<ReservationDto>> listener : dateListeners) {
+                listener.accept(reservations);
+            }
+        });
+    }
+
+    private static boolean isUnsupportedStatus(int statusCode) {
+        return statusCode == 404 || statusCode == 405 || statusCode == 501;
+    }
+
+    /**
+     * WebSocket 이벤트 처리
+     */
+    private class EventListener extends WebSocketListener {
+        @Override
+        public void onOpen(WebSocket socket, Response response) {
+            synchronized (ReservationEventChannel.this) {
+                if (socket != webSocket) {
+                    return;
+                }
+                connected = true;
+                reconnectDelayMillis = initialReconnectDelayMillis;
+            }
+            logger.info("실시간 예약 이벤트 연결 성공");
+            // 재연결인 경우 기존 구독을 다시 등록
+            for (LocalDate date : listeners.keySet()) {
+                sendSubscribe(date);
+            }
+        }
+
+        @Override
+        public void onMessage(WebSocket socket, String text) {
+            try {
+                handleEvent(objectMapper.readValue(text, ReservationEventDto.class));
+            } catch (Exception e) {
+                logger.warn("예약 이벤트 파싱 실패: {}", text, e);
+            }
+        }
+
+        @Override
+        public void onClosing(WebSocket socket, int code, String reason) {
+            socket.close(1000, null);
+        }
+
+        @Override
+        public void onClosed(WebSocket socket, int code, String reason) {
+            logger.info("실시간 예약 이벤트 연결 종료: {} {}", code, reason);
+            scheduleReconnect(socket);
+        }
+
+        @Override
+        public void onFailure(WebSocket socket, Throwable t, Response response) {
+            if (response != null && isUnsupportedStatus(response.code())) {
+                markPushUnsupported(socket, response.code());
+                return;
+            }
+            logger.warn("실시간 예약 이벤트 연결 실패: {}", t.getMessage());
+            scheduleReconnect(socket);
+        }
+    }
+}
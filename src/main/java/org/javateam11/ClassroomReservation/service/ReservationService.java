@@ -1,16 +1,38 @@
 package org.javateam11.ClassroomReservation.service;
 
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.model.DateRange;
+import org.javateam11.ClassroomReservation.model.FreeSlot;
+import org.javateam11.ClassroomReservation.model.FreeSlotQuery;
 import org.javateam11.ClassroomReservation.model.Reservation;
+import org.javateam11.ClassroomReservation.model.ReservationResult;
+import org.javateam11.ClassroomReservation.dto.PageResponse;
+import org.javateam11.ClassroomReservation.dto.ReservationDeltaDto;
+import org.javateam11.ClassroomReservation.dto.PendingOperationDto;
 import org.javateam11.ClassroomReservation.dto.ReservationDto;
 import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.javateam11.ClassroomReservation.util.AvailabilityChecker;
+import org.javateam11.ClassroomReservation.util.FreeSlotFinder;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsRegistry;
+import org.javateam11.ClassroomReservation.util.metrics.TimerMetric;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import javax.swing.SwingUtilities;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -20,50 +42,82 @@ import java.util.stream.Collectors;
  */
 public class ReservationService {
     private static final Logger logger = LoggerFactory.getLogger(ReservationService.class);
+
+    // 내 예약 조회 시 무한 루프 방지를 위한 최대 페이지 수
+    private static final int MAX_MY_RESERVATION_PAGES = 50;
+
+    // 응답 타입 (호출마다 익명 TypeReference를 만들지 않도록 재사용)
+    private static final TypeReference<List<ReservationDto>> RESERVATION_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<PageResponse<ReservationDto>> RESERVATION_PAGE = new TypeReference<>() {
+    };
+
+    // 요청이 서버에 도착했는지 알 수 없는 실패(타임아웃 등)일 때 사용자에게 보여줄 메시지
+    private static final String UNKNOWN_CREATE_RESULT_MESSAGE =
+            "서버 응답을 받지 못해 예약 생성 여부를 확인할 수 없습니다. 내 예약 목록에서 확인해주세요.";
+    private static final String UNKNOWN_DELETE_RESULT_MESSAGE =
+            "서버 응답을 받지 못해 예약 삭제 여부를 확인할 수 없습니다. 내 예약 목록에서 확인해주세요.";
+
+    // 서버에 연결할 수 없는데 오프라인 대기열에도 저장하지 못했을 때 사용자에게 보여줄 메시지
+    private static final String OFFLINE_SAVE_FAILED_MESSAGE =
+            "서버에 연결할 수 없고 요청을 저장하지도 못했습니다. 연결 상태를 확인한 뒤 다시 시도해주세요.";
+
+    // 서버 응답 전 로컬에 먼저 반영하는 예약의 임시 ID (서버 ID와 겹치지 않도록 음수 사용)
+    private static final AtomicLong provisionalIds = new AtomicLong();
+
     private final ApiService apiService;
     private final RoomService roomService;
 
-    // 강의실 정보 캐싱을 위한 Map (roomId -> 강의실 전체 이름)
-    private final Map<Long, String> roomNameCache = new ConcurrentHashMap<>();
-    private volatile boolean roomCacheInitialized = false;
+    // 날짜별 예약 스냅샷 저장소 (증분 동기화용, 전역 공유)
+    private final ReservationStore reservationStore;
+
+    // 강의실 식별 정보 (roomId -> 강의실 이름 조회, 전역 공유)
+    private final RoomRegistry roomRegistry = RoomRegistry.getInstance();
+
+    // 날짜별 예약의 신선도/LRU 관리 (전역 공유)
+    private final ReservationCache reservationCache = ReservationCache.getInstance();
+
+    // 마지막 동기화 데이터와 전송 대기 요청 (백엔드 연결 실패 시 사용, 전역 공유)
+    private final OfflineStore offlineStore = OfflineStore.getInstance();
 
     public ReservationService() {
-        this.apiService = new ApiService();
-        this.roomService = new RoomService();
+        this(new ApiService());
+    }
+
+    /**
+     * 같은 ApiService를 RoomService와 공유하여 연결 풀을 하나만 사용
+     */
+    public ReservationService(ApiService apiService) {
+        this(apiService, new RoomService(apiService));
+    }
+
+    public ReservationService(ApiService apiService, RoomService roomService) {
+        this(apiService, roomService, ReservationStore.getInstance());
+    }
+
+    public ReservationService(ApiService apiService, RoomService roomService, ReservationStore reservationStore) {
+        this.apiService = apiService;
+        this.roomService = roomService;
+        this.reservationStore = reservationStore;
         logger.debug("ReservationService 초기화 완료");
         initializeRoomCache();
     }
 
     /**
      * 강의실 캐시 초기화
-     * 애플리케이션 시작 시 모든 강의실 정보를 로드하여 캐싱
+     * 공유 RoomRegistry가 아직 강의실 목록을 받지 않았으면 한 번만 로드
      */
     private void initializeRoomCache() {
-        logger.debug("강의실 캐시 초기화 시작");
-        roomService.getAllRooms(
-                rooms -> {
-                    for (RoomDto room : rooms) {
-                        String fullRoomName = room.getBuilding() + "-" + room.getName();
-                        roomNameCache.put(room.getId(), fullRoomName);
-                    }
-                    roomCacheInitialized = true;
-                    logger.info("강의실 캐시 초기화 완료: {}개 강의실", rooms.size());
-                },
-                error -> {
-                    logger.error("강의실 캐시 초기화 실패: {}", error);
-                    roomCacheInitialized = false;
-                });
+        roomRegistry.ensureLoaded(roomService,
+                () -> logger.debug("강의실 레지스트리 준비 완료: {}개 강의실", roomRegistry.size()),
+                error -> logger.error("강의실 캐시 초기화 실패: {}", error));
     }
 
     /**
      * roomId로 실제 강의실 이름 조회
      */
     private String getRoomName(Long roomId) {
-        if (!roomCacheInitialized || !roomNameCache.containsKey(roomId)) {
-            logger.warn("강의실 캐시 미초기화 또는 roomId {} 없음, 임시 이름 사용", roomId);
-            return "강의실-" + roomId; // 캐시가 없으면 임시 이름 사용
-        }
-        return roomNameCache.get(roomId);
+        return roomRegistry.getDisplayName(roomId);
     }
 
     /**
@@ -72,9 +126,7 @@ public class ReservationService {
      */
     public void refreshRoomCache() {
         logger.debug("강의실 캐시 새로고침 요청");
-        roomNameCache.clear();
-        roomCacheInitialized = false;
-        initializeRoomCache();
+        roomRegistry.refresh(roomService);
     }
 
     /**
@@ -84,8 +136,7 @@ public class ReservationService {
      */
     public void getAllReservations(Consumer<List<Reservation>> onSuccess, Consumer<String> onError) {
         logger.debug("모든 예약 조회 요청 시작");
-        apiService.getAsync("/api/reservations", new TypeReference<List<ReservationDto>>() {
-        })
+        apiService.getAsync("/api/reservations", RESERVATION_LIST)
                 .thenAccept(reservationDtos -> {
                     logger.info("모든 예약 조회 성공: {}개 예약", reservationDtos.size());
 
@@ -104,29 +155,375 @@ public class ReservationService {
                 });
     }
 
+    /**
+     * 특정 학생의 예약만 기간으로 필터링하여 조회 (비동기)
+     * 인증된 페이지 단위 엔드포인트(/api/reservations/me)를 사용하여 전체 예약 목록을 내려받지 않음
+     * 백엔드가 해당 엔드포인트를 지원하지 않으면(404) 전체 목록을 받아 클라이언트에서 필터링
+     *
+     * @param studentId 조회할 학번
+     * @param dateRange 조회 기간 (양 끝 포함)
+     */
+    public void getMyReservations(String studentId, DateRange dateRange,
+            Consumer<List<Reservation>> onSuccess, Consumer<String> onError) {
+        logger.debug("내 예약 조회 요청: 학번={}, 기간={}", studentId, dateRange);
+
+        fetchMyReservationPages(studentId, dateRange, 0, new ArrayList<>())
+                .exceptionallyCompose(throwable -> {
+                    if (ApiException.hasStatus(throwable, 404)) {
+                        logger.warn("내 예약 엔드포인트 미지원, 전체 목록 필터링으로 대체: 학번={}", studentId);
+                        return fetchMyReservationsByFullScan(studentId, dateRange);
+                    }
+                    return CompletableFuture.failedFuture(throwable);
+                })
+                .thenAccept(reservationDtos -> {
+                    logger.info("내 예약 조회 성공: 학번={} - {}개 예약", studentId, reservationDtos.size());
+
+                    List<Reservation> reservations = reservationDtos.stream()
+                            .map(dto -> Reservation.fromDto(dto, getRoomName(dto.getRoomId())))
+                            .collect(Collectors.toList());
+
+                    SwingUtilities.invokeLater(() -> onSuccess.accept(reservations));
+                })
+                .exceptionally(throwable -> {
+                    logger.error("내 예약 조회 실패: 학번={}", studentId, throwable);
+                    SwingUtilities.invokeLater(() -> onError.accept("내 예약 조회 실패: " + throwable.getMessage()));
+                    return null;
+                });
+    }
+
+    /**
+     * 내 예약 엔드포인트를 마지막 페이지까지 순서대로 조회하여 누적
+     */
+    private CompletableFuture<List<ReservationDto>> fetchMyReservationPages(String studentId, DateRange dateRange,
+            int page, List<ReservationDto> accumulated) {
+        return apiService.getAuthenticatedAsync(buildMyReservationsEndpoint(studentId, dateRange, page),
+                RESERVATION_PAGE)
+                .thenCompose(pageResponse -> {
+                    accumulated.addAll(pageResponse.getContent());
+                    boolean hasNext = !pageResponse.isLast() && !pageResponse.getContent().isEmpty();
+                    if (hasNext && page + 1 < MAX_MY_RESERVATION_PAGES) {
+                        return fetchMyReservationPages(studentId, dateRange, page + 1, accumulated);
+                    }
+                    if (hasNext) {
+                        logger.warn("내 예약 조회가 최대 {}페이지에서 중단됨: {}개만 표시 (기간 {})",
+                                MAX_MY_RESERVATION_PAGES, accumulated.size(), dateRange);
+                    }
+                    return CompletableFuture.completedFuture(accumulated);
+                });
+    }
+
+    private String buildMyReservationsEndpoint(String studentId, DateRange dateRange, int page) {
+        StringBuilder endpoint = new StringBuilder("/api/reservations/me?studentId=")
+                .append(URLEncoder.encode(studentId, StandardCharsets.UTF_8));
+        if (dateRange.getFrom() != null) {
+            endpoint.append("&from=").append(dateRange.getFrom());
+        }
+        if (dateRange.getTo() != null) {
+            endpoint.append("&to=").append(dateRange.getTo());
+        }
+        endpoint.append("&page=").append(page)
+                .append("&size=").append(ApplicationConfig.getApiPageSize());
+        return endpoint.toString();
+    }
+
+    /**
+     * 전체 예약 목록을 받아서 학번과 기간으로 필터링 (구버전 백엔드용 대체 경로)
+     * 응답을 스트리밍으로 읽으면서 조건에 맞는 예약만 담아, 전체 목록을 메모리에 올리지 않음
+     */
+    private CompletableFuture<List<ReservationDto>> fetchMyReservationsByFullScan(String studentId,
+            DateRange dateRange) {
+        List<ReservationDto> matched = new ArrayList<>();
+        return apiService.streamAsync("/api/reservations", ReservationDto.class, dto -> {
+            if (studentId.equals(dto.getStudentId()) && dateRange.contains(dto.getDate())) {
+                matched.add(dto);
+            }
+        }).thenApply(scanned -> {
+            logger.debug("전체 예약 {}개 중 {}개가 내 예약", scanned, matched.size());
+            return matched;
+        });
+    }
+
     /**
      * 특정 날짜의 모든 예약 조회 (비동기)
      * 현재 시간 기준으로 강의실 사용 가능 여부 판단을 위해 사용
+     * 로컬 스냅샷의 ETag로 조건부 요청을 보내므로, 변경이 없으면 304 응답과 저장된 목록을 사용
+     * 전역 예약 캐시가 신선하면 서버에 묻지 않고 바로 응답하며, 만료되었지만 stale 허용 시간 이내이면
+     * 캐시로 먼저 응답한 뒤 백그라운드에서 확인하여 바뀐 경우 onSuccess를 한 번 더 호출함
      */
     public void getReservationsByDate(LocalDate date, Consumer<List<ReservationDto>> onSuccess,
             Consumer<String> onError) {
-        String endpoint = "/api/reservations?date=" + date.toString();
+        ReservationCache.Freshness freshness = reservationCache.lookup(date);
+        logger.debug("특정 날짜 예약 조회 요청: {} (캐시 {})", date, freshness);
 
-        logger.debug("특정 날짜 예약 조회 요청: {}", date);
+        // 전송 대기 요청이 있으면 대기열을 겹친 목록이 필요하므로 캐시로 응답하지 않음
+        if (freshness != ReservationCache.Freshness.MISSING && !offlineStore.hasPendingOperations()) {
+            List<ReservationDto> cached = reservationCache.getReservations(date);
+            if (cached != null) {
+                SwingUtilities.invokeLater(() -> onSuccess.accept(cached));
+                if (freshness == ReservationCache.Freshness.STALE) {
+                    revalidateInBackground(date, onSuccess);
+                }
+                return;
+            }
+        }
 
-        apiService.getAsync(endpoint, new TypeReference<List<ReservationDto>>() {
-        })
-                .thenAccept(reservations -> {
-                    logger.info("특정 날짜 예약 조회 성공: {} - {}개 예약", date, reservations.size());
+        fetchFullSnapshot(date)
+                .thenAccept(changed -> {
+                    List<ReservationDto> stored = reservationStore.getReservations(date);
+                    List<ReservationDto> reservations = stored != null ? stored : new ArrayList<>();
+                    logger.info("특정 날짜 예약 조회 성공: {} - {}개 예약{}", date, reservations.size(),
+                            changed ? "" : " (변경 없음)");
+                    onBackendReachable(date, reservations);
                     SwingUtilities.invokeLater(() -> onSuccess.accept(reservations));
                 })
                 .exceptionally(throwable -> {
+                    // 서버에 연결할 수 없으면 오프라인 저널의 마지막 예약 목록 사용
+                    List<ReservationDto> recorded = ApiException.isNetworkFailure(throwable)
+                            ? offlineStore.getReservations(date)
+                            : null;
+                    if (recorded != null) {
+                        offlineStore.markOffline();
+                        logger.warn("특정 날짜 예약 조회 실패, 오프라인 저널 사용: {} - {}개 예약", date, recorded.size());
+                        SwingUtilities.invokeLater(() -> onSuccess.accept(recorded));
+                        return null;
+                    }
                     logger.error("특정 날짜 예약 조회 실패: {}", date, throwable);
                     SwingUtilities.invokeLater(() -> onError.accept("특정 날짜 예약 조회 실패: " + throwable.getMessage()));
                     return null;
                 });
     }
 
+    /**
+     * 캐시로 먼저 응답한 날짜를 백그라운드에서 서버와 확인하고, 바뀐 경우에만 onChanged 호출
+     */
+    private void revalidateInBackground(LocalDate date, Consumer<List<ReservationDto>> onChanged) {
+        fetchFullSnapshot(date)
+                .thenAccept(changed -> {
+                    List<ReservationDto> stored = reservationStore.getReservations(date);
+                    List<ReservationDto> reservations = stored != null ? stored : new ArrayList<>();
+                    onBackendReachable(date, reservations);
+                    if (changed) {
+                        logger.info("예약 캐시 갱신: {} 변경 반영 - {}개 예약", date, reservations.size());
+                        SwingUtilities.invokeLater(() -> onChanged.accept(reservations));
+                    }
+                })
+                .exceptionally(throwable -> {
+                    if (ApiException.isNetworkFailure(throwable)) {
+                        offlineStore.markOffline();
+                    }
+                    logger.warn("예약 캐시 백그라운드 갱신 실패: {}", date, throwable);
+                    return null;
+                });
+    }
+
+    /**
+     * 특정 날짜의 예약을 증분 동기화 (비동기)
+     * 마지막 동기화 이후 변경분만 받아 로컬 스냅샷에 병합하고, 실제로 바뀐 경우에만 onChanged를 호출
+     * 백엔드가 동기화 토큰을 주지 않거나 증분 엔드포인트가 없으면 조건부 전체 조회(ETag/If-Modified-Since)로 대체
+     */
+    public void syncReservationsByDate(LocalDate date, Consumer<List<ReservationDto>> onChanged,
+            Consumer<String> onError) {
+        TimerMetric syncTimer = MetricsRegistry.getInstance().timer("refresh.sync");
+        long startedAt = System.nanoTime();
+        String syncToken = reservationStore.getSyncToken(date);
+        boolean useDelta = reservationStore.isDeltaSyncSupported() && syncToken != null;
+
+        CompletableFuture<Boolean> sync = useDelta
+                ? fetchDelta(date, syncToken).exceptionallyCompose(throwable -> {
+                    if (ApiException.hasStatus(throwable, 404)) {
+                        reservationStore.markDeltaSyncUnsupported();
+                        return fetchFullSnapshot(date);
+                    }
+                    return CompletableFuture.failedFuture(throwable);
+                })
+                : fetchFullSnapshot(date);
+
+        sync.thenAccept(changed -> {
+            List<ReservationDto> stored = reservationStore.getReservations(date);
+            List<ReservationDto> reservations = stored != null ? stored : new ArrayList<>();
+            onBackendReachable(date, reservations);
+            syncTimer.recordSince(startedAt, false);
+            if (!changed) {
+                logger.debug("예약 동기화: {} 변경 없음", date);
+                return;
+            }
+            logger.info("예약 동기화: {} 변경 반영 - {}개 예약", date, reservations.size());
+            SwingUtilities.invokeLater(() -> onChanged.accept(reservations));
+        }).exceptionally(throwable -> {
+            syncTimer.recordSince(startedAt, true);
+            if (ApiException.isNetworkFailure(throwable)) {
+                offlineStore.markOffline();
+            }
+            logger.warn("예약 동기화 실패: {}", date, throwable);
+            SwingUtilities.invokeLater(() -> onError.accept("예약 동기화 실패: " + throwable.getMessage()));
+            return null;
+        });
+    }
+
+    /**
+     * 특정 날짜의 실시간 예약 변경(생성/삭제)을 구독
+     * 이벤트가 로컬 스냅샷에 병합될 때마다 해당 날짜의 전체 예약 목록이 EDT에서 listener로 전달됨
+     * 실시간 연결이 끊긴 동안에는 호출 측의 폴링(syncReservationsByDate)이 대신 최신 상태를 유지해야 함
+     *
+     * @return 구독 해제 핸들
+     */
+    public ReservationEventChannel.Subscription subscribe(LocalDate date, Consumer<List<ReservationDto>> listener) {
+        logger.debug("실시간 예약 변경 구독: {}", date);
+        return ReservationEventChannel.getInstance().subscribe(date, listener);
+    }
+
+    /**
+     * 실시간 예약 이벤트 연결이 살아있는지 확인
+     */
+    public boolean isLiveUpdateConnected() {
+        return ReservationEventChannel.getInstance().isConnected();
+    }
+
+    /**
+     * 로컬 스냅샷에 저장된 특정 날짜의 예약 목록 반환 (아직 조회한 적이 없으면 null)
+     */
+    public List<ReservationDto> getStoredReservationsByDate(LocalDate date) {
+        return reservationStore.getReservations(date);
+    }
+
+    /**
+     * 백엔드에서 예약 목록을 받았을 때 오프라인 저널을 갱신하고,
+     * 오프라인 상태에서 막 복구되었다면 대기 중인 요청을 재전송
+     */
+    private void onBackendReachable(LocalDate date, List<ReservationDto> reservations) {
+        reservationCache.markVerified(date);
+        offlineStore.recordReservations(date, reservations);
+        if (offlineStore.markOnline()) {
+            replayPendingOperations();
+        }
+    }
+
+    /**
+     * 오프라인 동안 대기열에 쌓인 예약 생성/삭제 요청을 저장된 순서대로 서버에 전송
+     * 서버가 거절한 요청(다른 예약과 겹침 등)은 대기열에서 제거하고 충돌로 보고하며,
+     * 다시 연결이 끊기거나 인증이 만료되면 남은 요청은 다음 복구 시점에 이어서 전송
+     */
+    public void replayPendingOperations() {
+        if (!offlineStore.hasPendingOperations() || !TokenManager.getInstance().isAuthenticated()
+                || !offlineStore.tryBeginReplay()) {
+            return;
+        }
+        List<PendingOperationDto> operations = offlineStore.getPendingOperations();
+        logger.info("대기 요청 재전송 시작: {}개", operations.size());
+
+        CompletableFuture<Boolean> chain = CompletableFuture.completedFuture(true);
+        for (PendingOperationDto operation : operations) {
+            chain = chain.thenCompose(proceed -> proceed
+                    ? replay(operation)
+                    : CompletableFuture.completedFuture(false));
+        }
+        chain.whenComplete((finished, throwable) -> {
+            offlineStore.endReplay();
+            if (throwable != null) {
+                logger.error("대기 요청 재전송 중 오류", throwable);
+            } else {
+                logger.info("대기 요청 재전송 {}: 남은 요청 {}개", finished ? "완료" : "중단",
+                        offlineStore.getPendingOperations().size());
+            }
+        });
+    }
+
+    /**
+     * 대기 요청 하나를 전송
+     *
+     * @return 다음 요청을 계속 전송해도 되면 true
+     */
+    private CompletableFuture<Boolean> replay(PendingOperationDto operation) {
+        CompletableFuture<?> request = operation.isCreate()
+                ? apiService.postAuthenticatedAsync("/api/reservations", operation.getReservation(),
+                        ReservationDto.class, operation.getId())
+                : apiService.deleteAuthenticatedAsync("/api/reservations/" + operation.getReservationId(),
+                        operation.getId());
+
+        return request.handle((result, throwable) -> {
+            if (throwable == null) {
+                logger.info("대기 요청 전송 성공: {}", operation.describe());
+                offlineStore.complete(operation.getId());
+                invalidateSnapshot(operation.getDate());
+                return true;
+            }
+            if (ApiException.isNetworkFailure(throwable)) {
+                offlineStore.markOffline();
+                return false;
+            }
+            if (ApiException.isTransportFailure(throwable)) {
+                // 서버가 처리했는지 알 수 없으므로 대기열에 남겨두고, 다음 재전송 때 같은 Idempotency-Key로 다시 보냄
+                logger.warn("대기 요청 전송 결과를 확인할 수 없어 중단: {}", operation.describe(), throwable);
+                return false;
+            }
+            if (ApiException.hasStatus(throwable, 401)) {
+                logger.warn("대기 요청 전송 중단: 인증 만료");
+                return false;
+            }
+            offlineStore.complete(operation.getId());
+            invalidateSnapshot(operation.getDate());
+            if (!operation.isCreate() && ApiException.hasStatus(throwable, 404)) {
+                // 이미 삭제된 예약
+                logger.info("대기 중이던 삭제 요청의 예약이 이미 없음: {}", operation.describe());
+                return true;
+            }
+            ApiException apiException = ApiException.find(throwable);
+            offlineStore.reportConflict(operation.describe() + " - "
+                    + (apiException != null ? apiException.getMessage() : throwable.getMessage()));
+            return true;
+        });
+    }
+
+    private void invalidateSnapshot(LocalDate date) {
+        if (date != null) {
+            reservationCache.invalidate(date);
+        }
+    }
+
+    /**
+     * 조건부 전체 조회 후 스냅샷 교체
+     *
+     * @return 스냅샷 내용이 바뀌었으면 true
+     */
+    private CompletableFuture<Boolean> fetchFullSnapshot(LocalDate date) {
+        String endpoint = "/api/reservations?date=" + date.toString();
+        boolean hasSnapshot = reservationStore.hasSnapshot(date);
+        String etag = hasSnapshot ? reservationStore.getEtag(date) : null;
+        String lastModified = hasSnapshot ? reservationStore.getLastModified(date) : null;
+
+        return apiService.getConditionalAsync(endpoint, RESERVATION_LIST, etag, lastModified)
+                .thenCompose(response -> {
+                    if (response.isNotModified()) {
+                        // 요청 도중 스냅샷이 폐기되었다면 조건 없이 다시 조회
+                        return reservationStore.hasSnapshot(date)
+                                ? CompletableFuture.completedFuture(false)
+                                : fetchFullSnapshot(date);
+                    }
+                    List<ReservationDto> reservations = response.getBody() != null ? response.getBody()
+                            : new ArrayList<>();
+                    return CompletableFuture.completedFuture(reservationStore.replace(date, reservations,
+                            response.getEtag(), response.getLastModified(), response.getSyncToken()));
+                });
+    }
+
+    /**
+     * 동기화 토큰 이후의 변경분을 받아 스냅샷에 병합
+     *
+     * @return 스냅샷 내용이 바뀌었으면 true
+     */
+    private CompletableFuture<Boolean> fetchDelta(LocalDate date, String syncToken) {
+        String endpoint = "/api/reservations/changes?date=" + date
+                + "&since=" + URLEncoder.encode(syncToken, StandardCharsets.UTF_8);
+
+        return apiService.getAsync(endpoint, ReservationDeltaDto.class)
+                .thenApply(delta -> {
+                    logger.debug("증분 동기화 응답: {} - 추가/수정 {}개, 삭제 {}개", date,
+                            delta.getUpserts().size(), delta.getDeletedIds().size());
+                    return reservationStore.applyDelta(date, delta.getUpserts(), delta.getDeletedIds(),
+                            delta.getSyncToken());
+                });
+    }
+
     /**
      * 특정 강의실의 예약 조회 (비동기)
      */
@@ -137,8 +534,7 @@ public class ReservationService {
 
         logger.debug("강의실 예약 조회 요청: {} {}층 {}호", buildingName, floor, roomNumber);
 
-        apiService.getAsync(endpoint, new TypeReference<List<ReservationDto>>() {
-        })
+        apiService.getAsync(endpoint, RESERVATION_LIST)
                 .thenAccept(reservationDtos -> {
                     logger.info("강의실 예약 조회 성공: {} {}층 {}호 - {}개 예약",
                             buildingName, floor, roomNumber, reservationDtos.size());
@@ -157,37 +553,336 @@ public class ReservationService {
                 });
     }
 
+    /**
+     * 기간 안에서 조건에 맞는 빈 강의실 시간대를 모든 강의실에 걸쳐 검색 (비동기)
+     * 기간의 예약을 한 번의 요청으로 받고, 순위 계산은 EDT가 아닌 공용 스레드 풀에서 수행
+     *
+     * @param onSuccess 순위순 검색 결과 (EDT)
+     */
+    public void findFreeSlots(FreeSlotQuery query, Consumer<List<FreeSlot>> onSuccess, Consumer<String> onError) {
+        logger.debug("빈 강의실 검색 요청: {}", query);
+
+        roomRegistry.ensureLoaded(roomService, () -> fetchReservationsInRange(query.getDates())
+                .thenApplyAsync(reservations -> {
+                    long startNanos = System.nanoTime();
+                    List<RoomDto> rooms = roomRegistry.getBackendRooms();
+                    List<FreeSlot> slots = FreeSlotFinder.find(query, rooms, reservations, LocalDateTime.now());
+                    logger.info("빈 강의실 검색 완료: 강의실 {}개, 예약 {}개, 결과 {}개 ({}ms)", rooms.size(),
+                            reservations.size(), slots.size(), (System.nanoTime() - startNanos) / 1_000_000);
+                    return slots;
+                })
+                .thenAccept(slots -> SwingUtilities.invokeLater(() -> onSuccess.accept(slots)))
+                .exceptionally(throwable -> {
+                    logger.error("빈 강의실 검색 실패: {}", query, throwable);
+                    SwingUtilities.invokeLater(() -> onError.accept("빈 강의실 검색 실패: " + throwable.getMessage()));
+                    return null;
+                }), onError);
+    }
+
+    /**
+     * 기간에 속한 모든 예약을 기간 조회 엔드포인트(/api/reservations/range) 한 번으로 조회
+     * 백엔드가 해당 엔드포인트를 지원하지 않으면(404) 전체 목록을 받아 클라이언트에서 필터링
+     * 어느 쪽이든 응답을 스트리밍으로 읽으면서 기간 안의 예약만 담음
+     */
+    private CompletableFuture<List<ReservationDto>> fetchReservationsInRange(DateRange dateRange) {
+        if (!reservationStore.isRangeFetchSupported()) {
+            return fetchReservationsInRangeByFullScan(dateRange);
+        }
+        String endpoint = "/api/reservations/range?from=" + dateRange.getFrom() + "&to=" + dateRange.getTo();
+        List<ReservationDto> matched = new ArrayList<>();
+        return apiService.streamAsync(endpoint, ReservationDto.class, dto -> {
+            if (dateRange.contains(dto.getDate())) {
+                matched.add(dto);
+            }
+        }).<List<ReservationDto>>thenApply(count -> {
+            logger.debug("기간 {} 예약 {}개 조회", dateRange, matched.size());
+            return matched;
+        }).exceptionallyCompose(throwable -> {
+            if (ApiException.hasStatus(throwable, 404)) {
+                reservationStore.markRangeFetchUnsupported();
+                return fetchReservationsInRangeByFullScan(dateRange);
+            }
+            return CompletableFuture.failedFuture(throwable);
+        });
+    }
+
+    /**
+     * 전체 예약 목록을 받아서 기간으로 필터링 (구버전 백엔드용 대체 경로)
+     */
+    private CompletableFuture<List<ReservationDto>> fetchReservationsInRangeByFullScan(DateRange dateRange) {
+        List<ReservationDto> matched = new ArrayList<>();
+        return apiService.streamAsync("/api/reservations", ReservationDto.class, dto -> {
+            if (dateRange.contains(dto.getDate())) {
+                matched.add(dto);
+            }
+        }).thenApply(scanned -> {
+            logger.debug("전체 예약 {}개 중 {}개가 검색 기간 {}에 포함", scanned, matched.size(), dateRange);
+            return matched;
+        });
+    }
+
     /**
      * 새 예약 생성 (비동기)
+     * 요청을 보내기 전에 로컬 스냅샷에 임시 ID로 먼저 반영하여 구독 중인 화면이 바로 갱신되도록 하고,
+     * 서버 응답을 받으면 서버가 준 예약으로 교체하거나 실패 시 되돌림 (추가 조회 없음)
+     * 서버에 연결할 수 없으면 요청을 오프라인 대기열에 저장하고, ID가 없는(전송 대기) 예약으로 onSuccess를 호출
      */
     public void createReservation(Reservation reservation,
             Consumer<Reservation> onSuccess, Consumer<String> onError) {
+        submitCreate(reservation).thenAccept(result -> SwingUtilities.invokeLater(() -> {
+            switch (result.getStatus()) {
+                case CREATED -> onSuccess.accept(result.getCreated());
+                case QUEUED -> onSuccess.accept(reservation);
+                default -> onError.accept("예약 생성 실패: " + result.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * 여러 예약을 한 번에 생성 (반복 예약, 비동기)
+     * 1. 로컬 스냅샷이 있는 날짜는 저장된 예약 및 같은 요청 안의 다른 예약과 겹치는지 먼저 확인하여 서버에 보내지 않음
+     * 2. 백엔드가 일괄 생성(/api/reservations/batch)을 지원하면 한 번의 요청으로 전송
+     * 3. 지원하지 않거나 일괄 요청이 서버에 닿지 않았으면 건별 요청을 설정된 개수만큼 동시에 전송하여 예약별 결과를 받음
+     *
+     * @param onComplete 요청 순서와 같은 순서의 예약별 처리 결과 (EDT)
+     */
+    public void createReservations(List<Reservation> reservations, Consumer<List<ReservationResult>> onComplete) {
+        ReservationResult[] results = new ReservationResult[reservations.size()];
+        List<Integer> pending = precheckLocally(reservations, results);
+        logger.info("일괄 예약 생성 요청: {}건 (로컬 충돌 {}건 제외)", reservations.size(),
+                reservations.size() - pending.size());
+
+        submitBatch(reservations, pending, results)
+                .thenCompose(submitted -> submitted
+                        ? CompletableFuture.<Void>completedFuture(null)
+                        : submitInParallel(reservations, pending, results))
+                .whenComplete((ignored, throwable) -> {
+                    for (int i = 0; i < results.length; i++) {
+                        if (results[i] == null) {
+                            results[i] = ReservationResult.failed(reservations.get(i),
+                                    throwable != null ? throwable.getMessage() : "요청이 처리되지 않았습니다.");
+                        }
+                    }
+                    List<ReservationResult> resultList = Arrays.asList(results);
+                    logger.info("일괄 예약 생성 완료: 성공 {}건 / 전체 {}건",
+                            resultList.stream().filter(ReservationResult::isAccepted).count(), results.length);
+                    SwingUtilities.invokeLater(() -> onComplete.accept(resultList));
+                });
+    }
+
+    /**
+     * 로컬 스냅샷과 요청 목록 안에서 겹치는 예약을 걸러냄
+     * 스냅샷이 없는 날짜는 서버가 판단하도록 그대로 보냄
+     *
+     * @return 서버에 보낼 예약의 인덱스 목록 (걸러진 예약은 results에 CONFLICT로 기록)
+     */
+    private List<Integer> precheckLocally(List<Reservation> reservations, ReservationResult[] results) {
+        Map<LocalDate, List<Reservation>> acceptedByDate = new HashMap<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            List<ReservationDto> stored = reservationStore.getReservations(reservation.getDate());
+            List<Reservation> accepted = acceptedByDate.computeIfAbsent(reservation.getDate(),
+                    date -> new ArrayList<>());
+
+            if (stored != null && !AvailabilityChecker.isAvailableForReservation(reservation.getRoomId(),
+                    reservation.getDate(), reservation.getStartTime(), reservation.getEndTime(), stored)) {
+                results[i] = ReservationResult.conflict(reservation, "이미 예약된 시간과 겹칩니다.");
+            } else if (accepted.stream().anyMatch(other -> overlaps(reservation, other))) {
+                results[i] = ReservationResult.conflict(reservation, "같은 요청의 다른 예약과 겹칩니다.");
+            } else {
+                accepted.add(reservation);
+                pending.add(i);
+            }
+        }
+        return pending;
+    }
+
+    private static boolean overlaps(Reservation a, Reservation b) {
+        return Objects.equals(a.getRoomId(), b.getRoomId()) && a.getDate().equals(b.getDate())
+                && a.getStartTime().isBefore(b.getEndTime()) && a.getEndTime().isAfter(b.getStartTime());
+    }
+
+    /**
+     * 백엔드 일괄 생성 엔드포인트로 한 번에 전송
+     *
+     * 백엔드가 엔드포인트를 지원하지 않거나(404/405/501) 요청이 서버에 닿지 않은 경우에만 건별 요청으로 전환하고,
+     * 그 밖의 실패는 서버가 일부를 처리했을 수 있으므로 모든 예약을 FAILED로 기록
+     *
+     * @return 일괄 요청으로 결과가 모두 정해졌으면 true, 건별 요청이 필요하면 false
+     */
+    private CompletableFuture<Boolean> submitBatch(List<Reservation> reservations, List<Integer> pending,
+            ReservationResult[] results) {
+        if (pending.size() < 2 || !ApplicationConfig.isBatchReservationEnabled()
+                || !reservationStore.isBatchCreateSupported()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        List<ReservationDto> dtos = pending.stream()
+                .map(index -> reservations.get(index).toDto())
+                .collect(Collectors.toList());
+        return apiService.postAuthenticatedAsync("/api/reservations/batch", dtos, ReservationDto[].class)
+                .thenApply(created -> {
+                    applyBatchResponse(reservations, pending, results,
+                            created != null ? Arrays.asList(created) : List.of());
+                    return true;
+                })
+                .exceptionally(throwable -> {
+                    if (ApiException.hasStatus(throwable, 404) || ApiException.hasStatus(throwable, 405)
+                            || ApiException.hasStatus(throwable, 501)) {
+                        reservationStore.markBatchCreateUnsupported();
+                        return false;
+                    }
+                    if (ApiException.hasStatus(throwable, 413) || ApiException.isNetworkFailure(throwable)) {
+                        // 서버가 요청을 처리하지 않은 것이 확실하므로 건별 요청으로 다시 보내도 중복되지 않음
+                        logger.warn("일괄 예약 요청이 처리되지 않음, 건별 요청으로 전환", throwable);
+                        return false;
+                    }
+                    // 일부가 이미 생성되었을 수 있으므로 건별로 다시 보내지 않고 모두 실패로 알림
+                    logger.error("일괄 예약 요청 실패: {}건", pending.size(), throwable);
+                    String message = ApiException.isTransportFailure(throwable)
+                            ? UNKNOWN_CREATE_RESULT_MESSAGE
+                            : throwable.getMessage();
+                    for (int index : pending) {
+                        Reservation reservation = reservations.get(index);
+                        reservationCache.invalidate(reservation.getDate());
+                        results[index] = ReservationResult.failed(reservation, message);
+                    }
+                    return true;
+                });
+    }
+
+    /**
+     * 일괄 생성 응답의 예약을 (강의실, 날짜, 시작/종료 시각)으로 요청과 짝지어 결과를 기록
+     * 응답 개수가 요청과 달라도 서버가 요청을 받아들였으므로, 짝이 맞는 예약은 CREATED로,
+     * 짝이 없는 예약은 생성 여부를 알 수 없다는 메시지로 기록 (중복 생성을 막기 위해 건별 요청으로 다시 보내지 않음)
+     */
+    private void applyBatchResponse(List<Reservation> reservations, List<Integer> pending,
+            ReservationResult[] results, List<ReservationDto> created) {
+        if (created.size() != pending.size()) {
+            logger.warn("일괄 예약 응답 개수가 요청과 다릅니다: {} / {}", created.size(), pending.size());
+        }
+
+        List<Integer> unmatched = new ArrayList<>(pending);
+        for (ReservationDto dto : created) {
+            applyLocalChange(dto.getDate(), List.of(dto), List.of());
+            for (Iterator<Integer> it = unmatched.iterator(); it.hasNext(); ) {
+                int index = it.next();
+                if (isSameSlot(reservations.get(index), dto)) {
+                    it.remove();
+                    results[index] = ReservationResult.created(reservations.get(index),
+                            Reservation.fromDto(dto, getRoomName(dto.getRoomId())));
+                    break;
+                }
+            }
+        }
+
+        for (int index : unmatched) {
+            Reservation reservation = reservations.get(index);
+            reservationCache.invalidate(reservation.getDate());
+            results[index] = ReservationResult.failed(reservation, UNKNOWN_CREATE_RESULT_MESSAGE);
+        }
+    }
+
+    private static boolean isSameSlot(Reservation requested, ReservationDto created) {
+        return Objects.equals(requested.getRoomId(), created.getRoomId())
+                && Objects.equals(requested.getDate(), created.getDate())
+                && Objects.equals(requested.getStartTime(), created.getStartTime())
+                && Objects.equals(requested.getEndTime(), created.getEndTime());
+    }
+
+    /**
+     * 건별 생성 요청을 최대 설정 개수만큼 동시에 전송
+     * 작업자마다 하나의 요청이 끝나면 다음 예약을 이어서 보내므로 동시에 진행 중인 요청 수가 제한됨
+     */
+    private CompletableFuture<Void> submitInParallel(List<Reservation> reservations, List<Integer> pending,
+            ReservationResult[] results) {
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(pending.size(), Math.max(1, ApplicationConfig.getBulkReservationConcurrency()));
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[workers];
+        for (int w = 0; w < workers; w++) {
+            lanes[w] = submitNext(reservations, pending, results, next);
+        }
+        return CompletableFuture.allOf(lanes);
+    }
+
+    private CompletableFuture<Void> submitNext(List<Reservation> reservations, List<Integer> pending,
+            ReservationResult[] results, AtomicInteger next) {
+        int k = next.getAndIncrement();
+        if (k >= pending.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int index = pending.get(k);
+        return submitCreate(reservations.get(index))
+                .thenCompose(result -> {
+                    results[index] = result;
+                    return submitNext(reservations, pending, results, next);
+                });
+    }
+
+    /**
+     * 예약 하나를 서버에 생성 요청 (실패해도 예외 대신 결과로 반환)
+     * 서버에 연결할 수 없으면 요청을 오프라인 대기열에 저장하고 QUEUED 결과를 반환 (디스크에 저장하지 못하면 FAILED)
+     * 타임아웃처럼 서버가 요청을 처리했는지 알 수 없는 실패는 대기열에 넣지 않고 FAILED로 반환 (중복 예약 방지)
+     */
+    private CompletableFuture<ReservationResult> submitCreate(Reservation reservation) {
         logger.debug("예약 생성 요청: 예약자={}, 장소={}, 날짜={}, 시간={}-{}",
                 reservation.getStudentId(), reservation.getRoomName(),
                 reservation.getDate(), reservation.getStartTime(), reservation.getEndTime());
 
         // Reservation을 ReservationDto로 변환하여 전송
         ReservationDto dto = reservation.toDto();
-        apiService.postAuthenticatedAsync("/api/reservations", dto, ReservationDto.class)
-                .thenAccept(createdReservationDto -> {
+        Long provisionalId = applyOptimisticCreate(dto);
+
+        return apiService.postAuthenticatedAsync("/api/reservations", dto, ReservationDto.class)
+                .thenApply(createdReservationDto -> {
                     logger.info("예약 생성 성공: 예약자={}, 장소={}",
                             reservation.getStudentId(), reservation.getRoomName());
 
+                    applyLocalChange(dto.getDate(), List.of(createdReservationDto),
+                            provisionalId != null ? List.of(provisionalId) : List.of());
                     // 응답받은 DTO를 다시 Reservation으로 변환
-                    Reservation createdReservation = Reservation.fromDto(createdReservationDto,
-                            getRoomName(createdReservationDto.getRoomId()));
-                    SwingUtilities.invokeLater(() -> onSuccess.accept(createdReservation));
+                    return ReservationResult.created(reservation, Reservation.fromDto(createdReservationDto,
+                            getRoomName(createdReservationDto.getRoomId())));
                 })
                 .exceptionally(throwable -> {
+                    // 서버에 연결할 수 없으면 대기열에 저장하고 연결이 복구되면 전송
+                    if (ApiException.isNetworkFailure(throwable)) {
+                        offlineStore.markOffline();
+                        try {
+                            offlineStore.enqueueCreate(dto);
+                            logger.warn("예약 생성 요청을 오프라인 대기열에 저장: 예약자={}, 장소={}",
+                                    reservation.getStudentId(), reservation.getRoomName());
+                            return ReservationResult.queued(reservation);
+                        } catch (IllegalStateException e) {
+                            // 저장되지 않은 요청을 대기 중으로 알리지 않음
+                            logger.error("예약 생성 요청을 오프라인 대기열에 저장하지 못함: 예약자={}, 장소={}",
+                                    reservation.getStudentId(), reservation.getRoomName(), e);
+                            if (provisionalId != null) {
+                                applyLocalChange(dto.getDate(), List.of(), List.of(provisionalId));
+                            }
+                            return ReservationResult.failed(reservation, OFFLINE_SAVE_FAILED_MESSAGE);
+                        }
+                    }
                     logger.error("예약 생성 실패: 예약자={}, 장소={}",
                             reservation.getStudentId(), reservation.getRoomName(), throwable);
-                    SwingUtilities.invokeLater(() -> onError.accept("예약 생성 실패: " + throwable.getMessage()));
-                    return null;
+                    if (provisionalId != null) {
+                        applyLocalChange(dto.getDate(), List.of(), List.of(provisionalId));
+                    }
+                    if (ApiException.isTransportFailure(throwable)) {
+                        // 요청이 서버에서 처리되었을 수 있으므로 대기열에 넣지 않고, 다음 조회 때 서버 상태를 다시 확인
+                        reservationCache.invalidate(dto.getDate());
+                        return ReservationResult.failed(reservation, UNKNOWN_CREATE_RESULT_MESSAGE);
+                    }
+                    return ReservationResult.failed(reservation, throwable.getMessage());
                 });
     }
 
     /**
      * 예약 삭제 (비동기)
+     * 요청을 보내기 전에 로컬 스냅샷에서 먼저 제거하고, 서버가 거절하면 다시 넣음
+     * 서버에 연결할 수 없으면 요청을 오프라인 대기열에 저장하고 onSuccess를 호출 (디스크에 저장하지 못하면 onError)
+     * 타임아웃처럼 서버가 삭제했는지 알 수 없는 실패는 대기열에 넣지 않고 onError로 알림
      */
     public void deleteReservation(Long reservationId,
             Runnable onSuccess, Consumer<String> onError) {
@@ -195,15 +890,75 @@ public class ReservationService {
 
         logger.debug("예약 삭제 요청: reservationId={}", reservationId);
 
+        ReservationDto removed = reservationStore.find(reservationId);
+        if (removed != null) {
+            applyLocalChange(removed.getDate(), List.of(), List.of(reservationId));
+        }
+
         apiService.deleteAuthenticatedAsync(endpoint)
                 .thenRun(() -> {
                     logger.info("예약 삭제 성공: reservationId={}", reservationId);
                     SwingUtilities.invokeLater(onSuccess);
                 })
                 .exceptionally(throwable -> {
+                    // 서버에 연결할 수 없으면 대기열에 저장하고 연결이 복구되면 전송
+                    if (ApiException.isNetworkFailure(throwable)) {
+                        offlineStore.markOffline();
+                        try {
+                            offlineStore.enqueueDelete(reservationId);
+                            logger.warn("예약 삭제 요청을 오프라인 대기열에 저장: reservationId={}", reservationId);
+                            SwingUtilities.invokeLater(onSuccess);
+                        } catch (IllegalStateException e) {
+                            // 저장되지 않은 요청을 대기 중으로 알리지 않고 로컬 삭제를 되돌림
+                            logger.error("예약 삭제 요청을 오프라인 대기열에 저장하지 못함: reservationId={}",
+                                    reservationId, e);
+                            if (removed != null) {
+                                applyLocalChange(removed.getDate(), List.of(removed), List.of());
+                            }
+                            SwingUtilities.invokeLater(() -> onError.accept(OFFLINE_SAVE_FAILED_MESSAGE));
+                        }
+                        return null;
+                    }
                     logger.error("예약 삭제 실패: reservationId={}", reservationId, throwable);
+                    // 이미 삭제된 예약(404)이면 되돌리지 않음
+                    if (removed != null && !ApiException.hasStatus(throwable, 404)) {
+                        applyLocalChange(removed.getDate(), List.of(removed), List.of());
+                    }
+                    if (ApiException.isTransportFailure(throwable)) {
+                        // 서버에서 이미 삭제되었을 수 있으므로 다음 조회 때 서버 상태를 다시 확인
+                        if (removed != null) {
+                            reservationCache.invalidate(removed.getDate());
+                        }
+                        SwingUtilities.invokeLater(() -> onError.accept(UNKNOWN_DELETE_RESULT_MESSAGE));
+                        return null;
+                    }
                     SwingUtilities.invokeLater(() -> onError.accept("예약 삭제 실패: " + throwable.getMessage()));
                     return null;
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * 예약 생성 요청을 임시 ID로 로컬 스냅샷에 먼저 반영
+     *
+     * @return 임시 예약 ID, 해당 날짜의 스냅샷이 없어 반영하지 않았으면 null
+     */
+    private Long applyOptimisticCreate(ReservationDto dto) {
+        Long provisionalId = -provisionalIds.incrementAndGet();
+        ReservationDto provisional = new ReservationDto(provisionalId, dto.getRoomId(), dto.getStudentId(),
+                dto.getDate(), dto.getStartTime(), dto.getEndTime());
+        return applyLocalChange(dto.getDate(), List.of(provisional), List.of()) ? provisionalId : null;
+    }
+
+    /**
+     * 로컬 스냅샷에 변경분을 병합하고, 바뀌었으면 해당 날짜를 구독 중인 화면에 알림
+     *
+     * @return 실제로 내용이 바뀌었으면 true
+     */
+    private boolean applyLocalChange(LocalDate date, List<ReservationDto> upserts, List<Long> deletedIds) {
+        boolean changed = reservationStore.applyIfPresent(date, upserts, deletedIds);
+        if (changed) {
+            ReservationEventChannel.getInstance().notifyListeners(date);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,211 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 날짜별 예약 스냅샷을 보관하는 로컬 저장소 싱글톤 클래스
+ * 마지막 동기화 시점의 ETag / Last-Modified / 동기화 토큰을 함께 기억하여
+ * 자동 새로고침 시 변경된 부분만 받아 병합할 수 있도록 합니다.
+ */
+public class ReservationStore {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationStore.class);
+    private static ReservationStore instance;
+
+    /**
+     * 특정 날짜의 예약 스냅샷과 동기화 메타데이터
+     */
+    private static class DateSnapshot {
+        // 예약 ID -> 예약 정보 (서버 응답 순서 유지)
+        private final Map<Long, ReservationDto> reservationsById = new LinkedHashMap<>();
+        private String etag;
+        private String lastModified;
+        private String syncToken;
+    }
+
+    private final Map<LocalDate, DateSnapshot> snapshots = new HashMap<>();
+
+    // 백엔드가 증분 동기화 엔드포인트를 지원하는지 여부 (404 응답 시 false로 전환)
+    private volatile boolean deltaSyncSupported = true;
+
+    // 백엔드가 예약 일괄 생성 엔드포인트를 지원하는지 여부 (404/405/501 응답 시 false로 전환)
+    private volatile boolean batchCreateSupported = true;
+
+    // 백엔드가 기간 조회 엔드포인트를 지원하는지 여부 (404 응답 시 false로 전환)
+    private volatile boolean rangeFetchSupported = true;
+
+    private ReservationStore() {
+    }
+
+    public static synchronized ReservationStore getInstance() {
+        if (instance == null) {
+            instance = new ReservationStore();
+        }
+        return instance;
+    }
+
+    /**
+     * 해당 날짜의 스냅샷이 있는지 확인
+     */
+    public synchronized boolean hasSnapshot(LocalDate date) {
+        return snapshots.containsKey(date);
+    }
+
+    /**
+     * 해당 날짜의 예약 목록 복사본 반환 (스냅샷이 없으면 null)
+     */
+    public synchronized List<ReservationDto> getReservations(LocalDate date) {
+        DateSnapshot snapshot = snapshots.get(date);
+        return snapshot != null ? new ArrayList<>(snapshot.reservationsById.values()) : null;
+    }
+
+    public synchronized String getEtag(LocalDate date) {
+        DateSnapshot snapshot = snapshots.get(date);
+        return snapshot != null ? snapshot.etag : null;
+    }
+
+    public synchronized String getLastModified(LocalDate date) {
+        DateSnapshot snapshot = snapshots.get(date);
+        return snapshot != null ? snapshot.lastModified : null;
+    }
+
+    public synchronized String getSyncToken(LocalDate date) {
+        DateSnapshot snapshot = snapshots.get(date);
+        return snapshot != null ? snapshot.syncToken : null;
+    }
+
+    /**
+     * 전체 목록으로 스냅샷을 교체
+     *
+     * @return 기존 스냅샷과 내용이 달라졌으면 true
+     */
+    public synchronized boolean replace(LocalDate date, List<ReservationDto> reservations,
+            String etag, String lastModified, String syncToken) {
+        DateSnapshot previous = snapshots.get(date);
+        DateSnapshot snapshot = new DateSnapshot();
+        for (ReservationDto reservation : reservations) {
+            if (reservation.getId() != null) {
+                snapshot.reservationsById.put(reservation.getId(), reservation);
+            }
+        }
+        snapshot.etag = etag;
+        snapshot.lastModified = lastModified;
+        snapshot.syncToken = syncToken;
+        snapshots.put(date, snapshot);
+
+        return previous == null || !previous.reservationsById.equals(snapshot.reservationsById);
+    }
+
+    /**
+     * 변경분(추가/수정, 삭제)을 기존 스냅샷에 병합
+     *
+     * @return 실제로 내용이 바뀌었으면 true
+     */
+    public synchronized boolean applyDelta(LocalDate date, List<ReservationDto> upserts, List<Long> deletedIds,
+            String syncToken) {
+        DateSnapshot snapshot = snapshots.computeIfAbsent(date, d -> new DateSnapshot());
+        boolean changed = false;
+
+        for (ReservationDto reservation : upserts) {
+            if (reservation.getId() == null || !date.equals(reservation.getDate())) {
+                continue;
+            }
+            ReservationDto previous = snapshot.reservationsById.put(reservation.getId(), reservation);
+            changed |= !Objects.equals(previous, reservation);
+        }
+        for (Long deletedId : deletedIds) {
+            changed |= snapshot.reservationsById.remove(deletedId) != null;
+        }
+
+        if (syncToken != null) {
+            snapshot.syncToken = syncToken;
+        }
+        // 증분 병합 후에는 이전 ETag가 현재 내용과 맞지 않으므로 폐기
+        if (changed) {
+            snapshot.etag = null;
+            snapshot.lastModified = null;
+        }
+        return changed;
+    }
+
+    /**
+     * 스냅샷이 있는 날짜에만 변경분을 병합 (예약 생성/삭제의 낙관적 반영과 롤백에 사용)
+     * 아직 전체 목록을 받지 않은 날짜는 부분 스냅샷이 되지 않도록 건드리지 않음
+     *
+     * @return 실제로 내용이 바뀌었으면 true
+     */
+    public synchronized boolean applyIfPresent(LocalDate date, List<ReservationDto> upserts, List<Long> deletedIds) {
+        return date != null && snapshots.containsKey(date) && applyDelta(date, upserts, deletedIds, null);
+    }
+
+    /**
+     * 예약 ID로 저장된 예약 찾기 (어느 날짜 스냅샷에도 없으면 null)
+     */
+    public synchronized ReservationDto find(Long reservationId) {
+        for (DateSnapshot snapshot : snapshots.values()) {
+            ReservationDto reservation = snapshot.reservationsById.get(reservationId);
+            if (reservation != null) {
+                return reservation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 해당 날짜의 스냅샷 폐기 (다음 조회 시 전체 목록을 다시 받음)
+     */
+    public synchronized void invalidate(LocalDate date) {
+        snapshots.remove(date);
+    }
+
+    public boolean isDeltaSyncSupported() {
+        return deltaSyncSupported;
+    }
+
+    /**
+     * 백엔드가 증분 동기화를 지원하지 않음을 기록
+     */
+    public void markDeltaSyncUnsupported() {
+        if (deltaSyncSupported) {
+            logger.info("증분 동기화 엔드포인트 미지원, 조건부 전체 조회로 전환");
+        }
+        deltaSyncSupported = false;
+    }
+
+    public boolean isBatchCreateSupported() {
+        return batchCreateSupported;
+    }
+
+    /**
+     * 백엔드가 예약 일괄 생성을 지원하지 않음을 기록
+     */
+    public void markBatchCreateUnsupported() {
+        if (batchCreateSupported) {
+            logger.info("예약 일괄 생성 엔드포인트 미지원, 건별 병렬 요청으로 전환");
+        }
+        batchCreateSupported = false;
+    }
+
+    public boolean isRangeFetchSupported() {
+        return rangeFetchSupported;
+    }
+
+    /**
+     * 백엔드가 기간 조회를 지원하지 않음을 기록
+     */
+    public void markRangeFetchUnsupported() {
+        if (rangeFetchSupported) {
+            logger.info("예약 기간 조회 엔드포인트 미지원, 전체 목록 필터링으로 전환");
+        }
+        rangeFetchSupported = false;
+    }
+}
@@ -0,0 +1,75 @@
+package org.javateam11.ClassroomReservation.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일시적인 실패를 다시 시도하는 정책 (최대 시도 횟수와 지수 백오프 대기 시간)
+ * 대기 시간은 "full jitter" 방식으로 [0, min(maxDelay, baseDelay × 2^재시도번호)] 구간에서 무작위로 고르므로,
+ * 여러 키오스크가 동시에 실패해도 같은 순간에 몰려서 다시 요청하지 않습니다.
+ */
+public class RetryPolicy {
+
+    private static final RetryPolicy NONE = new RetryPolicy(1, 0, 0);
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(0, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * 다시 시도하지 않는 정책
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * 첫 시도를 포함한 최대 시도 횟수
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 재시도를 하는 정책인지 여부
+     */
+    public boolean isEnabled() {
+        return maxAttempts > 1;
+    }
+
+    /**
+     * attempt번째 시도(1부터 시작)가 실패한 뒤 다음 시도까지 기다릴 시간(밀리초)
+     */
+    public long backoffMillis(int attempt) {
+        int exponent = Math.min(Math.max(0, attempt - 1), 20);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 다시 시도하면 성공할 가능성이 있는 실패인지 확인
+     * 연결 실패/타임아웃과 429, 502, 503, 504 응답만 해당하며, 응답 파싱 실패나 서킷 브레이커의 차단은 제외
+     */
+    public static boolean isRetryable(Throwable throwable) {
+        ApiException apiException = ApiException.find(throwable);
+        if (apiException != null) {
+            int status = apiException.getStatusCode();
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return ApiException.isTransportFailure(throwable) && !ApiException.isCircuitOpen(throwable);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", baseDelayMillis=" + baseDelayMillis +
+                ", maxDelayMillis=" + maxDelayMillis +
+                '}';
+    }
+}
@@ -0,0 +1,246 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.javateam11.ClassroomReservation.model.Building;
+import org.javateam11.ClassroomReservation.model.Room;
+import org.javateam11.ClassroomReservation.model.RoomKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 강의실 식별 정보를 관리하는 싱글톤 레지스트리
+ * 로컬 강의실(도면 좌표 포함)을 (건물, 층, 이름) 키로 등록해 두고, 백엔드 강의실 목록과 매칭하여
+ * 키 -> roomId, roomId -> 강의실 조회를 모두 O(1)로 제공합니다.
+ * 화면, 컨트롤러, ReservationService, AvailabilityChecker가 이 레지스트리 하나를 함께 사용합니다.
+ */
+public class RoomRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(RoomRegistry.class);
+    private static RoomRegistry instance;
+
+    // 로컬 강의실 (등록 순서 유지, 폴백 ID 할당 순서에 사용)
+    private final Map<RoomKey, Room> localRooms = new LinkedHashMap<>();
+
+    // 조회용 매핑
+    private final Map<RoomKey, Long> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Long, Room> roomsById = new ConcurrentHashMap<>();
+    private final Map<Long, String> displayNamesById = new ConcurrentHashMap<>();
+
+    // 마지막으로 받은 백엔드 강의실 목록 (로컬 강의실이 나중에 등록되면 다시 매칭)
+    private List<RoomDto> backendRooms;
+
+    // 백엔드 강의실 목록 로드 상태 (여러 화면이 동시에 요청해도 한 번만 조회)
+    private volatile boolean loaded = false;
+    private boolean loading = false;
+    private final List<Runnable> pendingOnLoaded = new ArrayList<>();
+    private final List<Consumer<String>> pendingOnError = new ArrayList<>();
+
+    private RoomRegistry() {
+    }
+
+    public static synchronized RoomRegistry getInstance() {
+        if (instance == null) {
+            instance = new RoomRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * 로컬 건물 데이터의 강의실을 등록
+     */
+    public synchronized void registerLocalRooms(List<Building> buildings) {
+        for (Building building : buildings) {
+            for (Room room : building.getRooms()) {
+                localRooms.putIfAbsent(room.getKey(), room);
+            }
+        }
+        if (backendRooms != null) {
+            registerBackendRooms(backendRooms);
+        }
+    }
+
+    /**
+     * 백엔드 강의실 목록을 로드 (이미 로드되었으면 바로 onLoaded 실행)
+     * 로드 중에 다시 호출되면 같은 요청의 결과를 함께 기다림
+     *
+     * @param roomService 강의실 API 서비스
+     * @param onLoaded    로드 완료 시 실행 (EDT)
+     * @param onError     로드 실패 시 실행 (EDT)
+     */
+    public void ensureLoaded(RoomService roomService, Runnable onLoaded, Consumer<String> onError) {
+        boolean alreadyLoaded;
+        synchronized (this) {
+            alreadyLoaded = loaded;
+            if (!alreadyLoaded) {
+                pendingOnLoaded.add(onLoaded);
+                pendingOnError.add(onError);
+                if (loading) {
+                    return;
+                }
+                loading = true;
+            }
+        }
+        if (alreadyLoaded) {
+            onLoaded.run();
+            return;
+        }
+
+        roomService.getAllRooms(
+                rooms -> {
+                    registerBackendRooms(rooms);
+                    List<Runnable> callbacks;
+                    synchronized (this) {
+                        loaded = true;
+                        loading = false;
+                        callbacks = new ArrayList<>(pendingOnLoaded);
+                        pendingOnLoaded.clear();
+                        pendingOnError.clear();
+                    }
+                    callbacks.forEach(Runnable::run);
+                },
+                errorMessage -> {
+                    List<Consumer<String>> callbacks;
+                    synchronized (this) {
+                        loading = false;
+                        callbacks = new ArrayList<>(pendingOnError);
+                        pendingOnLoaded.clear();
+                        pendingOnError.clear();
+                    }
+                    callbacks.forEach(callback -> callback.accept(errorMessage));
+                });
+    }
+
+    /**
+     * 백엔드 강의실 목록을 다시 로드
+     */
+    public void refresh(RoomService roomService) {
+        synchronized (this) {
+            loaded = false;
+        }
+        ensureLoaded(roomService, () -> {
+        }, errorMessage -> logger.error("강의실 목록 새로고침 실패: {}", errorMessage));
+    }
+
+    /**
+     * 백엔드 강의실 목록을 로컬 강의실과 매칭하여 등록
+     */
+    public synchronized void registerBackendRooms(List<RoomDto> backendRooms) {
+        this.backendRooms = backendRooms;
+        idsByKey.clear();
+        roomsById.clear();
+        displayNamesById.clear();
+
+        for (RoomDto dto : backendRooms) {
+            if (dto.getId() == null) {
+                continue;
+            }
+            displayNamesById.put(dto.getId(), dto.getBuilding() + "-" + dto.getName());
+
+            Room local = findLocalRoom(dto);
+            if (local != null) {
+                idsByKey.put(local.getKey(), dto.getId());
+                roomsById.put(dto.getId(), local);
+                logger.debug("강의실 매핑: {} -> roomId {}", local.getKey(), dto.getId());
+            } else if (dto.getFloor() != null) {
+                idsByKey.put(new RoomKey(dto.getBuilding(), dto.getFloor(), dto.getName()), dto.getId());
+            }
+        }
+
+        for (RoomKey key : localRooms.keySet()) {
+            if (!idsByKey.containsKey(key)) {
+                logger.warn("백엔드에서 매칭되지 않은 로컬 강의실: {}", key);
+            }
+        }
+        logger.info("강의실 레지스트리 매핑 완료: 백엔드 {}개, 로컬 매칭 {}개", backendRooms.size(), roomsById.size());
+    }
+
+    /**
+     * 백엔드 연결 실패 시 로컬 강의실에 임시 ID를 할당 (등록 순서대로 1부터)
+     */
+    public synchronized void assignFallbackIds() {
+        long currentId = 1L;
+        for (Room room : localRooms.values()) {
+            Long id = currentId++;
+            idsByKey.putIfAbsent(room.getKey(), id);
+            roomsById.putIfAbsent(id, room);
+        }
+        logger.info("폴백 매핑 완료: 강의실 {}개", localRooms.size());
+    }
+
+    /**
+     * 백엔드 강의실에 대응하는 로컬 강의실 찾기
+     * 층 정보가 없거나 층이 일치하지 않으면 같은 건물의 같은 이름 강의실로 매칭
+     */
+    private Room findLocalRoom(RoomDto dto) {
+        if (dto.getFloor() != null) {
+            Room exact = localRooms.get(new RoomKey(dto.getBuilding(), dto.getFloor(), dto.getName()));
+            if (exact != null) {
+                return exact;
+            }
+        }
+        for (Room room : localRooms.values()) {
+            if (room.getBuildingName().equals(dto.getBuilding()) && room.getName().equals(dto.getName())) {
+                return room;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 마지막으로 등록된 백엔드 강의실 목록 복사본 (없으면 빈 목록)
+     */
+    public synchronized List<RoomDto> getBackendRooms() {
+        return backendRooms != null ? new ArrayList<>(backendRooms) : new ArrayList<>();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 강의실의 백엔드 roomId 조회 (매핑되지 않았으면 null)
+     */
+    public Long getRoomId(Room room) {
+        return room != null ? idsByKey.get(room.getKey()) : null;
+    }
+
+    public Long getRoomId(RoomKey key) {
+        return idsByKey.get(key);
+    }
+
+    /**
+     * roomId에 대응하는 로컬 강의실 조회 (없으면 null)
+     */
+    public Room getRoom(Long roomId) {
+        return roomId != null ? roomsById.get(roomId) : null;
+    }
+
+    /**
+     * roomId로 "건물-강의실" 형태의 표시 이름 조회 (모르면 임시 이름)
+     */
+    public String getDisplayName(Long roomId) {
+        String name = roomId != null ? displayNamesById.get(roomId) : null;
+        if (name != null) {
+            return name;
+        }
+        Room room = getRoom(roomId);
+        if (room != null) {
+            return room.getBuildingName() + "-" + room.getName();
+        }
+        logger.warn("강의실 목록 미로드 또는 roomId {} 없음, 임시 이름 사용", roomId);
+        return "강의실-" + roomId;
+    }
+
+    /**
+     * 매핑된 강의실 수
+     */
+    public int size() {
+        return idsByKey.size();
+    }
+}
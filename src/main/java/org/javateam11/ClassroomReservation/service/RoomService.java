@@ -13,10 +13,16 @@ import java.util.function.Consumer;
  */
 public class RoomService {
     private static final Logger logger = LoggerFactory.getLogger(RoomService.class);
+    private static final TypeReference<List<RoomDto>> ROOM_LIST = new TypeReference<>() {
+    };
     private final ApiService apiService;
 
     public RoomService() {
-        this.apiService = new ApiService();
+        this(new ApiService());
+    }
+
+    public RoomService(ApiService apiService) {
+        this.apiService = apiService;
         logger.debug("RoomService 초기화 완료");
     }
 
@@ -27,13 +33,23 @@ public class RoomService {
     public void getAllRooms(Consumer<List<RoomDto>> onSuccess, Consumer<String> onError) {
         logger.debug("모든 강의실 조회 요청 시작");
 
-        apiService.getAsync("/api/rooms", new TypeReference<List<RoomDto>>() {
-        })
+        apiService.getAsync("/api/rooms", ROOM_LIST)
                 .thenAccept(rooms -> {
                     logger.info("모든 강의실 조회 성공: {}개 강의실", rooms.size());
+                    OfflineStore.getInstance().recordRooms(rooms);
                     SwingUtilities.invokeLater(() -> onSuccess.accept(rooms));
                 })
                 .exceptionally(throwable -> {
+                    // 서버에 연결할 수 없으면 마지막으로 받은 강의실 목록 사용
+                    List<RoomDto> recorded = ApiException.isNetworkFailure(throwable)
+                            ? OfflineStore.getInstance().getRooms()
+                            : null;
+                    if (recorded != null) {
+                        OfflineStore.getInstance().markOffline();
+                        logger.warn("강의실 목록 조회 실패, 오프라인 저널의 {}개 강의실 사용", recorded.size());
+                        SwingUtilities.invokeLater(() -> onSuccess.accept(recorded));
+                        return null;
+                    }
                     logger.error("모든 강의실 조회 실패", throwable);
                     SwingUtilities.invokeLater(() -> onError.accept("강의실 목록 조회 실패: " + throwable.getMessage()));
                     return null;
@@ -0,0 +1,133 @@
+package org.javateam11.ClassroomReservation.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 요청이 동시에 여러 번 들어오면 네트워크 호출을 한 번만 하고 결과를 모든 호출자에게 나눠주는 클래스
+ * (single-flight). 먼저 온 요청이 실제 호출을 하고, 진행 중에 같은 키로 들어온 요청은 그 결과를 기다립니다.
+ * 호출이 끝나면 키가 제거되므로 캐시가 아니며, 결과 객체는 호출자들이 공유하므로 읽기 전용으로 다뤄야 합니다.
+ */
+public class SingleFlight {
+
+    /**
+     * 엔드포인트별 병합 통계
+     */
+    public static final class EndpointStats {
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+
+        /**
+         * 실제로 네트워크 호출을 한 횟수
+         */
+        public long getExecutedCount() {
+            return executed.sum();
+        }
+
+        /**
+         * 진행 중인 호출에 합류하여 네트워크 호출을 생략한 횟수
+         */
+        public long getCoalescedCount() {
+            return coalesced.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "executed=" + getExecutedCount() + ", coalesced=" + getCoalescedCount();
+        }
+    }
+
+    /**
+     * 진행 중인 호출 하나와 그 결과를 기다리는 호출자 수
+     */
+    private static final class Flight<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private volatile CompletableFuture<T> call;
+    }
+
+    private final Map<String, Flight<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키의 호출이 진행 중이면 합류하고, 없으면 call로 새 호출을 시작
+     * 모든 호출자가 취소하면 실제 호출도 취소됨 (일부만 취소하면 나머지는 그대로 결과를 받음)
+     *
+     * @param key      요청 식별 키 (메서드, URL, 인증 여부, 응답 타입 등 결과를 결정하는 모든 값)
+     * @param endpoint 통계용 엔드포인트 이름
+     * @param call     실제 호출
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, String endpoint, Supplier<CompletableFuture<T>> call) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, e -> new EndpointStats());
+
+        Flight<T> flight = new Flight<>();
+        Flight<T> existing = (Flight<T>) inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            endpointStats.coalesced.increment();
+            return join(key, existing);
+        }
+
+        endpointStats.executed.increment();
+        CompletableFuture<T> future = join(key, flight);
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        flight.call = started;
+        started.whenComplete((value, throwable) -> {
+            inFlight.remove(key, flight);
+            if (throwable != null) {
+                flight.result.completeExceptionally(throwable);
+            } else {
+                flight.result.complete(value);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 호출자마다 별도의 future를 돌려주어, 한 호출자의 취소가 다른 호출자에게 전파되지 않도록 함
+     */
+    private <T> CompletableFuture<T> join(String key, Flight<T> flight) {
+        flight.waiters.incrementAndGet();
+        CompletableFuture<T> copy = flight.result.copy();
+        copy.whenComplete((value, throwable) -> {
+            if (copy.isCancelled() && flight.waiters.decrementAndGet() == 0) {
+                // 기다리는 호출자가 없으면 새 요청이 합류하지 않도록 먼저 제거한 뒤 실제 호출 취소
+                inFlight.remove(key, flight);
+                CompletableFuture<T> call = flight.call;
+                if (call != null) {
+                    call.cancel(true);
+                }
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 엔드포인트별 병합 통계 (엔드포인트 이름순)
+     */
+    public Map<String, EndpointStats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight" + getStats();
+    }
+}
@@ -0,0 +1,242 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 웜 스타트 스냅샷을 관리하는 싱글톤 클래스
+ * 종료 시 강의실 목록(roomId 포함), 오늘/내일 예약, 마지막으로 보던 건물/층을 작은 바이너리 파일로 저장하고,
+ * 다음 실행 때 메인 화면을 만들기 전에 불러와 RoomRegistry와 ReservationStore를 채웁니다.
+ * 첫 화면은 이 스냅샷으로 바로 그리고, 최신 데이터는 평소처럼 백그라운드에서 받아 맞춥니다.
+ */
+public class WarmStartSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(WarmStartSnapshot.class);
+    private static WarmStartSnapshot instance;
+
+    private static final int MAGIC = 0x43525753; // "CRWS"
+    private static final int VERSION = 1;
+    private static final String FILE_NAME = "warm-start.bin";
+
+    // 복원된 상태 (복원하지 않았으면 false / null)
+    private boolean restored = false;
+    private String restoredBuilding;
+    private Integer restoredFloor;
+
+    private WarmStartSnapshot() {
+    }
+
+    public static synchronized WarmStartSnapshot getInstance() {
+        if (instance == null) {
+            instance = new WarmStartSnapshot();
+        }
+        return instance;
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 RoomRegistry와 ReservationStore에 반영
+     * 오늘 이전 날짜의 예약은 버리며, 파일이 없거나 형식이 맞지 않으면 아무것도 하지 않음
+     *
+     * @return 복원했으면 true
+     */
+    public synchronized boolean restore() {
+        if (!ApplicationConfig.isWarmStartEnabled()) {
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        Path file = getFile();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                logger.warn("웜 스타트 스냅샷 형식이 맞지 않아 무시합니다: {}", file);
+                return false;
+            }
+            long savedAt = in.readLong();
+            String building = readNullableString(in);
+            int floor = in.readInt();
+
+            List<RoomDto> rooms = new ArrayList<>();
+            int roomCount = in.readInt();
+            for (int i = 0; i < roomCount; i++) {
+                long id = in.readLong();
+                String roomBuilding = in.readUTF();
+                String name = in.readUTF();
+                int roomFloor = in.readInt();
+                rooms.add(new RoomDto(id, roomBuilding, name, roomFloor == Integer.MIN_VALUE ? null : roomFloor));
+            }
+
+            Map<LocalDate, List<ReservationDto>> reservationsByDate = new LinkedHashMap<>();
+            int dateCount = in.readInt();
+            for (int i = 0; i < dateCount; i++) {
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                int count = in.readInt();
+                List<ReservationDto> reservations = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    long id = in.readLong();
+                    long roomId = in.readLong();
+                    String studentId = readNullableString(in);
+                    LocalTime startTime = LocalTime.ofSecondOfDay(in.readInt());
+                    LocalTime endTime = LocalTime.ofSecondOfDay(in.readInt());
+                    reservations.add(new ReservationDto(id, roomId, studentId, date, startTime, endTime));
+                }
+                reservationsByDate.put(date, reservations);
+            }
+
+            apply(rooms, reservationsByDate);
+            restored = true;
+            restoredBuilding = building;
+            restoredFloor = floor == Integer.MIN_VALUE ? null : floor;
+            logger.info("웜 스타트 스냅샷 복원: 강의실 {}개, 예약 날짜 {}개, 저장 시각 {} ({}ms)",
+                    rooms.size(), reservationsByDate.size(), Instant.ofEpochMilli(savedAt),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+            return true;
+        } catch (NoSuchFileException e) {
+            logger.debug("웜 스타트 스냅샷 없음: {}", file);
+            return false;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("웜 스타트 스냅샷을 읽을 수 없어 무시합니다: {}", file, e);
+            return false;
+        }
+    }
+
+    private void apply(List<RoomDto> rooms, Map<LocalDate, List<ReservationDto>> reservationsByDate) {
+        if (!rooms.isEmpty()) {
+            // 백엔드 목록이 도착하면 RoomRegistry가 다시 매핑하므로 여기서는 loaded로 표시하지 않음
+            RoomRegistry.getInstance().registerBackendRooms(rooms);
+        }
+        LocalDate today = LocalDate.now();
+        ReservationStore store = ReservationStore.getInstance();
+        for (Map.Entry<LocalDate, List<ReservationDto>> entry : reservationsByDate.entrySet()) {
+            // ETag 없이 넣어 두므로 첫 동기화 때 전체 목록으로 교체됨
+            if (!entry.getKey().isBefore(today) && !store.hasSnapshot(entry.getKey())) {
+                store.replace(entry.getKey(), entry.getValue(), null, null, null);
+            }
+        }
+    }
+
+    /**
+     * 현재 강의실 목록, 오늘/내일 예약, 선택된 건물/층을 스냅샷 파일로 저장
+     * 임시 파일에 쓴 뒤 교체하므로 저장 도중 종료되어도 이전 스냅샷이 깨지지 않음
+     */
+    public synchronized void save(String selectedBuilding, Integer selectedFloor) {
+        if (!ApplicationConfig.isWarmStartEnabled()) {
+            return;
+        }
+        List<RoomDto> rooms = RoomRegistry.getInstance().getBackendRooms();
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, List<ReservationDto>> reservationsByDate = new LinkedHashMap<>();
+        for (LocalDate date : new LocalDate[] { today, today.plusDays(1) }) {
+            List<ReservationDto> reservations = ReservationStore.getInstance().getReservations(date);
+            if (reservations != null) {
+                reservationsByDate.put(date, reservations);
+            }
+        }
+
+        Path file = getFile();
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                writeNullableString(out, selectedBuilding);
+                out.writeInt(selectedFloor != null ? selectedFloor : Integer.MIN_VALUE);
+
+                List<RoomDto> validRooms = new ArrayList<>();
+                for (RoomDto room : rooms) {
+                    if (room.getId() != null && room.getBuilding() != null && room.getName() != null) {
+                        validRooms.add(room);
+                    }
+                }
+                out.writeInt(validRooms.size());
+                for (RoomDto room : validRooms) {
+                    out.writeLong(room.getId());
+                    out.writeUTF(room.getBuilding());
+                    out.writeUTF(room.getName());
+                    out.writeInt(room.getFloor() != null ? room.getFloor() : Integer.MIN_VALUE);
+                }
+
+                out.writeInt(reservationsByDate.size());
+                for (Map.Entry<LocalDate, List<ReservationDto>> entry : reservationsByDate.entrySet()) {
+                    List<ReservationDto> valid = new ArrayList<>();
+                    for (ReservationDto reservation : entry.getValue()) {
+                        if (reservation.getId() != null && reservation.getRoomId() != null
+                                && reservation.getStartTime() != null && reservation.getEndTime() != null) {
+                            valid.add(reservation);
+                        }
+                    }
+                    out.writeLong(entry.getKey().toEpochDay());
+                    out.writeInt(valid.size());
+                    for (ReservationDto reservation : valid) {
+                        out.writeLong(reservation.getId());
+                        out.writeLong(reservation.getRoomId());
+                        writeNullableString(out, reservation.getStudentId());
+                        out.writeInt(reservation.getStartTime().toSecondOfDay());
+                        out.writeInt(reservation.getEndTime().toSecondOfDay());
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("웜 스타트 스냅샷 저장: 강의실 {}개, 예약 날짜 {}개 ({}바이트)",
+                    rooms.size(), reservationsByDate.size(), Files.size(file));
+        } catch (IOException e) {
+            logger.warn("웜 스타트 스냅샷 저장 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 이번 실행에서 스냅샷을 복원했는지 여부
+     */
+    public synchronized boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * 스냅샷에 저장된 마지막 선택 건물 (없으면 null)
+     */
+    public synchronized String getRestoredBuilding() {
+        return restoredBuilding;
+    }
+
+    /**
+     * 스냅샷에 저장된 마지막 선택 층 (없으면 null)
+     */
+    public synchronized Integer getRestoredFloor() {
+        return restoredFloor;
+    }
+
+    private static Path getFile() {
+        return Paths.get(ApplicationConfig.getOfflineDirectory(), FILE_NAME);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
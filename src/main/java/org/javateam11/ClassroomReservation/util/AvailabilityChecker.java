@@ -2,6 +2,7 @@ package org.javateam11.ClassroomReservation.util;
 
 import org.javateam11.ClassroomReservation.dto.ReservationDto;
 import org.javateam11.ClassroomReservation.model.Room;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -11,19 +12,38 @@ import java.util.stream.Collectors;
 
 /**
  * 예약 정보를 바탕으로 강의실의 현재 사용 가능 여부를 판단하는 유틸리티 클래스
+ * 모든 조회는 AvailabilityIndex를 통해 처리되며, 같은 예약 목록으로 연속 호출하면
+ * 마지막으로 만든 인덱스를 재사용하여 강의실마다 전체 목록을 다시 훑지 않습니다.
  */
 public class AvailabilityChecker {
 
+    // 마지막으로 인덱스를 만든 예약 목록과 그 인덱스 (목록 객체 동일성으로 재사용 여부 판단)
+    private static List<ReservationDto> lastIndexedReservations;
+    private static AvailabilityIndex lastIndex;
+
+    /**
+     * 예약 목록에 대한 인덱스 반환 (직전과 같은 목록이면 재사용)
+     * 인덱스를 만든 뒤에는 목록을 수정하지 않는다는 전제 (ReservationStore는 매번 새 복사본을 반환)
+     *
+     * @param reservations 예약 정보
+     * @return 가용성 인덱스
+     */
+    public static synchronized AvailabilityIndex indexOf(List<ReservationDto> reservations) {
+        if (reservations != lastIndexedReservations || lastIndex == null) {
+            lastIndex = AvailabilityIndex.of(reservations);
+            lastIndexedReservations = reservations;
+        }
+        return lastIndex;
+    }
+
     /**
      * 현재 시간 기준으로 특정 강의실이 사용 가능한지 판단
      * 
      * @param room         확인할 강의실
      * @param reservations 현재 날짜의 모든 예약 정보
-     * @param roomIdMap    강의실 이름과 roomId 매핑 정보
      * @return true: 사용 가능, false: 사용 중
      */
-    public static boolean isCurrentlyAvailable(Room room, List<ReservationDto> reservations,
-            Map<String, Long> roomIdMap) {
+    public static boolean isCurrentlyAvailable(Room room, List<ReservationDto> reservations) {
         if (reservations == null || reservations.isEmpty()) {
             return true; // 예약이 없으면 사용 가능
         }
@@ -31,26 +51,16 @@ public class AvailabilityChecker {
         LocalDate today = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        // 강의실 이름으로 roomId 찾기
-        Long roomId = roomIdMap.get(room.getName());
+        // (건물, 층, 이름)으로 roomId 찾기
+        Long roomId = RoomRegistry.getInstance().getRoomId(room);
         if (roomId == null) {
             // roomId를 찾을 수 없으면 기본적으로 사용 가능으로 판단
             return true;
         }
 
-        // 오늘 날짜에 해당하는 예약 중에서 현재 시간과 겹치는 예약이 있는지 확인
-        boolean isOccupied = reservations.stream()
-                .filter(reservation -> reservation.getRoomId().equals(roomId))
-                .filter(reservation -> reservation.getDate().equals(today))
-                .anyMatch(reservation -> {
-                    LocalTime startTime = reservation.getStartTime();
-                    LocalTime endTime = reservation.getEndTime();
-
-                    // 현재 시간이 예약 시간 범위에 포함되는지 확인
-                    // 시작 시간 이상이고 종료 시간 미만인 경우 사용 중으로 판단
-                    return currentTime.isAfter(startTime) && currentTime.isBefore(endTime) ||
-                            currentTime.equals(startTime);
-                });
+        // 오늘 날짜에 해당하는 예약 중에서 현재 시간이 포함된 예약이 있는지 확인
+        // 시작 시간 이상이고 종료 시간 미만인 경우 사용 중으로 판단
+        boolean isOccupied = indexOf(reservations).isOccupiedAt(roomId, today, currentTime);
 
         return !isOccupied; // 점유되지 않았으면 사용 가능
     }
@@ -83,18 +93,9 @@ public class AvailabilityChecker {
         }
 
         // 같은 강의실, 같은 날짜의 예약 중에서 시간이 겹치는 예약이 있는지 확인
-        return reservations.stream()
-                .filter(reservation -> reservation.getRoomId().equals(roomId))
-                .filter(reservation -> reservation.getDate().equals(date))
-                .noneMatch(reservation -> {
-                    LocalTime existingStart = reservation.getStartTime();
-                    LocalTime existingEnd = reservation.getEndTime();
-
-                    // 시간 겹침 검사
-                    // 새로운 예약의 시작 시간이 기존 예약의 종료 시간 이전이고,
-                    // 새로운 예약의 종료 시간이 기존 예약의 시작 시간 이후인 경우 겹침
-                    return startTime.isBefore(existingEnd) && endTime.isAfter(existingStart);
-                });
+        // 새로운 예약의 시작 시간이 기존 예약의 종료 시간 이전이고,
+        // 새로운 예약의 종료 시간이 기존 예약의 시작 시간 이후인 경우 겹침
+        return !indexOf(reservations).hasConflict(roomId, date, startTime, endTime);
     }
 
     /**
@@ -102,12 +103,10 @@ public class AvailabilityChecker {
      * 
      * @param room         확인할 강의실
      * @param reservations 현재 날짜의 모든 예약 정보
-     * @param roomIdMap    강의실 이름과 roomId 매핑 정보
      * @return 상태 문자열 ("사용 가능" 또는 "사용 중")
      */
-    public static String getAvailabilityStatus(Room room, List<ReservationDto> reservations,
-            Map<String, Long> roomIdMap) {
-        return isCurrentlyAvailable(room, reservations, roomIdMap) ? "사용 가능" : "사용 중";
+    public static String getAvailabilityStatus(Room room, List<ReservationDto> reservations) {
+        return isCurrentlyAvailable(room, reservations) ? "사용 가능" : "사용 중";
     }
 
     /**
@@ -115,35 +114,28 @@ public class AvailabilityChecker {
      * 
      * @param room         확인할 강의실
      * @param reservations 현재 날짜의 모든 예약 정보
-     * @param roomIdMap    강의실 이름과 roomId 매핑 정보
      * @return 다음 예약까지의 시간 정보 (분 단위) 또는 null (다음 예약이 없는 경우)
      */
-    public static Integer getMinutesToNextReservation(Room room, List<ReservationDto> reservations,
-            Map<String, Long> roomIdMap) {
+    public static Integer getMinutesToNextReservation(Room room, List<ReservationDto> reservations) {
         if (reservations == null || reservations.isEmpty()) {
             return null;
         }
 
         LocalDate today = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
-        Long roomId = roomIdMap.get(room.getName());
+        Long roomId = RoomRegistry.getInstance().getRoomId(room);
 
         if (roomId == null) {
             return null;
         }
 
         // 현재 시간 이후의 가장 가까운 예약 찾기
-        return reservations.stream()
-                .filter(reservation -> reservation.getRoomId().equals(roomId))
-                .filter(reservation -> reservation.getDate().equals(today))
-                .filter(reservation -> reservation.getStartTime().isAfter(currentTime))
-                .map(reservation -> {
-                    int currentMinutes = currentTime.getHour() * 60 + currentTime.getMinute();
-                    int reservationMinutes = reservation.getStartTime().getHour() * 60
-                            + reservation.getStartTime().getMinute();
-                    return reservationMinutes - currentMinutes;
-                })
-                .min(Integer::compareTo)
-                .orElse(null);
+        ReservationDto next = indexOf(reservations).nextReservationAfter(roomId, today, currentTime);
+        if (next == null) {
+            return null;
+        }
+        int currentMinutes = currentTime.getHour() * 60 + currentTime.getMinute();
+        int reservationMinutes = next.getStartTime().getHour() * 60 + next.getStartTime().getMinute();
+        return reservationMinutes - currentMinutes;
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package org.javateam11.ClassroomReservation.util;
+
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 스냅샷 하나로부터 한 번 만들어 두고 반복 조회하는 강의실 가용성 인덱스
+ * 예약을 (roomId, 날짜)별로 묶어 시작 시간순으로 정렬해 두고,
+ * 이진 탐색으로 "t 시점 사용 중", "[s, e) 구간 충돌", "t 이후 다음 예약 시작"을 조회합니다.
+ * 도면을 그릴 때 강의실마다 전체 예약 목록을 다시 훑지 않도록 하기 위한 클래스입니다.
+ */
+public class AvailabilityIndex {
+
+    private static final AvailabilityIndex EMPTY = new AvailabilityIndex(Collections.emptyList());
+
+    /**
+     * 한 강의실의 하루치 예약 (시작 시간순 정렬, 초 단위)
+     */
+    private static class RoomDay {
+        private final ReservationDto[] reservations;
+        private final int[] starts;
+        // ends[0..i] 중 최댓값 (겹치는 예약이 있어도 구간 질의가 정확하도록)
+        private final int[] maxEnds;
+
+        private RoomDay(List<ReservationDto> dayReservations) {
+            dayReservations.sort(Comparator.comparing(ReservationDto::getStartTime));
+            int size = dayReservations.size();
+            this.reservations = dayReservations.toArray(new ReservationDto[0]);
+            this.starts = new int[size];
+            this.maxEnds = new int[size];
+            int maxEnd = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                starts[i] = reservations[i].getStartTime().toSecondOfDay();
+                maxEnd = Math.max(maxEnd, reservations[i].getEndTime().toSecondOfDay());
+                maxEnds[i] = maxEnd;
+            }
+        }
+
+        /**
+         * 시작 시간이 limit 이하(inclusive) 또는 미만(!inclusive)인 마지막 예약의 인덱스 (없으면 -1)
+         */
+        private int lastStartingBefore(int limit, boolean inclusive) {
+            int low = 0;
+            int high = starts.length - 1;
+            int result = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                boolean before = inclusive ? starts[mid] <= limit : starts[mid] < limit;
+                if (before) {
+                    result = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return result;
+        }
+
+        private boolean isOccupiedAt(int second) {
+            int index = lastStartingBefore(second, true);
+            return index >= 0 && maxEnds[index] > second;
+        }
+
+        private boolean conflicts(int start, int end) {
+            int index = lastStartingBefore(end, false);
+            return index >= 0 && maxEnds[index] > start;
+        }
+
+        private ReservationDto nextStartingAfter(int second) {
+            int index = lastStartingBefore(second, true) + 1;
+            return index < reservations.length ? reservations[index] : null;
+        }
+    }
+
+    // roomId -> 날짜 -> 하루치 예약
+    private final Map<Long, Map<LocalDate, RoomDay>> index = new HashMap<>();
+
+    private AvailabilityIndex(List<ReservationDto> reservations) {
+        Map<Long, Map<LocalDate, List<ReservationDto>>> grouped = new HashMap<>();
+        for (ReservationDto reservation : reservations) {
+            if (reservation.getRoomId() == null || reservation.getDate() == null
+                    || reservation.getStartTime() == null || reservation.getEndTime() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(reservation.getRoomId(), id -> new HashMap<>())
+                    .computeIfAbsent(reservation.getDate(), d -> new ArrayList<>())
+                    .add(reservation);
+        }
+        grouped.forEach((roomId, byDate) -> {
+            Map<LocalDate, RoomDay> days = new HashMap<>();
+            byDate.forEach((date, dayReservations) -> days.put(date, new RoomDay(dayReservations)));
+            index.put(roomId, days);
+        });
+    }
+
+    /**
+     * 예약 목록으로부터 인덱스를 생성
+     *
+     * @param reservations 예약 정보 (null이면 빈 인덱스)
+     */
+    public static AvailabilityIndex of(List<ReservationDto> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return EMPTY;
+        }
+        return new AvailabilityIndex(reservations);
+    }
+
+    private RoomDay roomDay(Long roomId, LocalDate date) {
+        Map<LocalDate, RoomDay> days = index.get(roomId);
+        return days != null ? days.get(date) : null;
+    }
+
+    /**
+     * 해당 시점에 강의실이 사용 중인지 확인 (시작 시각 포함, 종료 시각 미포함)
+     */
+    public boolean isOccupiedAt(Long roomId, LocalDate date, LocalTime time) {
+        RoomDay day = roomDay(roomId, date);
+        return day != null && day.isOccupiedAt(time.toSecondOfDay());
+    }
+
+    /**
+     * [startTime, endTime) 구간이 기존 예약과 겹치는지 확인
+     */
+    public boolean hasConflict(Long roomId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        RoomDay day = roomDay(roomId, date);
+        return day != null && day.conflicts(startTime.toSecondOfDay(), endTime.toSecondOfDay());
+    }
+
+    /**
+     * 해당 시점 이후(초과)에 시작하는 가장 가까운 예약 반환 (없으면 null)
+     */
+    public ReservationDto nextReservationAfter(Long roomId, LocalDate date, LocalTime time) {
+        RoomDay day = roomDay(roomId, date);
+        return day != null ? day.nextStartingAfter(time.toSecondOfDay()) : null;
+    }
+
+    /**
+     * 강의실의 하루치 예약을 시작 시간순으로 반환
+     */
+    public List<ReservationDto> getReservations(Long roomId, LocalDate date) {
+        RoomDay day = roomDay(roomId, date);
+        return day != null ? Arrays.asList(day.reservations) : Collections.emptyList();
+    }
+}
@@ -0,0 +1,192 @@
+package org.javateam11.ClassroomReservation.util;
+
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsRegistry;
+import org.javateam11.ClassroomReservation.util.metrics.TimerMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InputEvent;
+import java.awt.event.InvocationEvent;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event Dispatch Thread(EDT)의 응답성을 측정하는 모니터
+ * 시스템 이벤트 큐 위에 측정용 EventQueue를 push하여 모든 이벤트(invokeLater 작업, 입력, repaint 포함)의
+ * 큐 대기 시간과 실행 시간을 지표로 남기고, 한 프레임(기본 16ms)을 넘긴 이벤트는 "ui.edt.stall" 히스토그램에 따로 기록합니다.
+ * 감시 스레드가 긴 작업(기본 100ms 초과)을 실행 중에 발견하면 그 순간의 EDT 스택을 로그로 남기므로,
+ * 어떤 코드가 화면을 멈추게 했는지 바로 확인할 수 있습니다.
+ */
+public class EdtMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(EdtMonitor.class);
+
+    // 로그에 남길 이벤트 설명의 최대 길이
+    private static final int MAX_EVENT_DESCRIPTION = 200;
+
+    private static EdtMonitor instance;
+
+    private final long stallNanos;
+    private final long longTaskNanos;
+    private final TimerMetric dispatchTimer;
+    private final TimerMetric queueLatencyTimer;
+    private final TimerMetric stallTimer;
+    private final TimerMetric longTaskTimer;
+
+    // 아래 필드는 EDT가 쓰고 감시 스레드가 읽음
+    private volatile Thread edtThread;
+    private volatile long dispatchStartedAt;
+    private volatile long dispatchSequence;
+
+    // 감시 스레드가 마지막으로 스택을 남긴 이벤트 번호 (같은 이벤트는 한 번만 남김)
+    private long sampledSequence = -1;
+
+    private ScheduledExecutorService watchdog;
+
+    private EdtMonitor() {
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ApplicationConfig.getEdtStallMillis()));
+        this.longTaskNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ApplicationConfig.getEdtLongTaskMillis()));
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        this.dispatchTimer = registry.timer("ui.edt.dispatch");
+        this.queueLatencyTimer = registry.timer("ui.edt.queue.latency");
+        this.stallTimer = registry.timer("ui.edt.stall");
+        this.longTaskTimer = registry.timer("ui.edt.long.task");
+    }
+
+    /**
+     * 설정이 켜져 있으면 측정용 이벤트 큐를 설치하고 감시 스레드를 시작 (한 번만 설치됨)
+     * 첫 화면을 띄우기 전에 호출해야 모든 이벤트가 측정됨
+     */
+    public static synchronized void install() {
+        if (instance != null || !ApplicationConfig.isEdtMonitorEnabled()) {
+            return;
+        }
+        instance = new EdtMonitor();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(instance.new MonitoredEventQueue());
+        instance.startWatchdog();
+        logger.info("EDT 응답성 모니터 설치: 프레임 기준 {}ms, 긴 작업 기준 {}ms",
+                TimeUnit.NANOSECONDS.toMillis(instance.stallNanos), TimeUnit.NANOSECONDS.toMillis(instance.longTaskNanos));
+    }
+
+    /**
+     * 지금까지의 EDT 응답성 요약 반환 (모니터가 설치되지 않았으면 null)
+     */
+    public static synchronized String getSummary() {
+        if (instance == null) {
+            return null;
+        }
+        long events = instance.dispatchTimer.getCount();
+        long stalls = instance.stallTimer.getCount();
+        return String.format("events=%d, stalls=%d (%.2f%%), longTasks=%d, dispatch p99=%.1fms, queue p99=%.1fms",
+                events, stalls, events == 0 ? 0.0 : stalls * 100.0 / events, instance.longTaskTimer.getCount(),
+                instance.dispatchTimer.getP99Millis(), instance.queueLatencyTimer.getP99Millis());
+    }
+
+    private void startWatchdog() {
+        long periodMillis = Math.max(5, TimeUnit.NANOSECONDS.toMillis(longTaskNanos) / 2);
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "edt-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleAtFixedRate(this::checkLongTask, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 실행 중인 이벤트가 긴 작업 기준을 넘겼으면 EDT 스택을 한 번 남김 (감시 스레드에서 실행)
+     */
+    private void checkLongTask() {
+        long startedAt = dispatchStartedAt;
+        long sequence = dispatchSequence;
+        Thread thread = edtThread;
+        if (startedAt == 0 || thread == null || sequence == sampledSequence) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        if (elapsed < longTaskNanos) {
+            return;
+        }
+        sampledSequence = sequence;
+
+        StringBuilder stack = new StringBuilder();
+        for (StackTraceElement element : thread.getStackTrace()) {
+            stack.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+        logger.warn("EDT 작업이 {}ms 넘게 실행 중입니다. 현재 스택:{}", TimeUnit.NANOSECONDS.toMillis(elapsed), stack);
+    }
+
+    /**
+     * 이벤트를 처리하기 전후 시간을 재는 이벤트 큐
+     */
+    private class MonitoredEventQueue extends EventQueue {
+
+        // 처리 중인 이벤트 깊이 (모달 대화상자는 이벤트 처리 중에 다음 이벤트를 중첩해서 처리함)
+        private int depth;
+
+        // 현재 이벤트를 처리하는 동안 중첩 처리가 있었는지 여부
+        private boolean nested;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            edtThread = Thread.currentThread();
+            recordQueueLatency(event);
+
+            boolean outerNested = nested;
+            if (depth > 0) {
+                outerNested = true;
+            }
+            depth++;
+            nested = false;
+            long startedAt = System.nanoTime();
+            dispatchSequence++;
+            dispatchStartedAt = startedAt;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                dispatchStartedAt = 0;
+                depth--;
+                // 모달 루프를 돌며 다른 이벤트를 처리한 시간은 이 이벤트가 EDT를 막은 시간이 아니므로 제외
+                if (!nested) {
+                    recordDispatch(event, elapsed);
+                }
+                nested = outerNested;
+            }
+        }
+
+        private void recordQueueLatency(AWTEvent event) {
+            long postedAt;
+            if (event instanceof InvocationEvent invocationEvent) {
+                postedAt = invocationEvent.getWhen();
+            } else if (event instanceof InputEvent inputEvent) {
+                postedAt = inputEvent.getWhen();
+            } else {
+                return;
+            }
+            long waited = System.currentTimeMillis() - postedAt;
+            if (waited >= 0) {
+                queueLatencyTimer.record(TimeUnit.MILLISECONDS.toNanos(waited), false);
+            }
+        }
+
+        private void recordDispatch(AWTEvent event, long elapsed) {
+            dispatchTimer.record(elapsed, false);
+            if (elapsed < stallNanos) {
+                return;
+            }
+            stallTimer.record(elapsed, false);
+            if (elapsed >= longTaskNanos) {
+                longTaskTimer.record(elapsed, false);
+                String description = String.valueOf(event);
+                if (description.length() > MAX_EVENT_DESCRIPTION) {
+                    description = description.substring(0, MAX_EVENT_DESCRIPTION) + "…";
+                }
+                logger.warn("EDT 긴 작업 감지: {}ms - {}", TimeUnit.NANOSECONDS.toMillis(elapsed), description);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.javateam11.ClassroomReservation.util;
+
+import org.javateam11.ClassroomReservation.model.Building;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 건물 층별 구조도(/images/&lt;건물&gt;_&lt;층&gt;F.png) 이미지를 한 번만 디코딩해 보관하는 싱글톤 캐시
+ * 로그인 직후 백그라운드 스레드에서 미리 읽어 두고, 현재 화면의 GraphicsConfiguration에 맞는
+ * 호환 이미지로 변환하여 EDT에서 PNG 디코딩이나 그릴 때마다의 픽셀 포맷 변환이 일어나지 않도록 합니다.
+ */
+public class FloorPlanImageCache {
+    private static final Logger logger = LoggerFactory.getLogger(FloorPlanImageCache.class);
+    private static FloorPlanImageCache instance;
+
+    // "건물_층" -> 구조도 (이미지가 없는 층은 Optional.empty로 기록하여 반복 조회하지 않음)
+    private final Map<String, Optional<BufferedImage>> images = new ConcurrentHashMap<>();
+
+    private FloorPlanImageCache() {
+    }
+
+    public static synchronized FloorPlanImageCache getInstance() {
+        if (instance == null) {
+            instance = new FloorPlanImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * 모든 건물/층의 구조도를 백그라운드 스레드에서 미리 로드
+     *
+     * @param buildings 건물 목록
+     */
+    public void preloadAsync(List<Building> buildings) {
+        Thread thread = new Thread(() -> {
+            long startNanos = System.nanoTime();
+            int count = 0;
+            for (Building building : buildings) {
+                for (Integer floor : building.getFloors()) {
+                    if (get(building.getName(), floor) != null) {
+                        count++;
+                    }
+                }
+            }
+            logger.info("구조도 이미지 {}개 미리 로드 완료 ({}ms)", count,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }, "floor-plan-preload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 건물 층의 구조도 반환 (캐시에 없으면 이 자리에서 로드)
+     *
+     * @return 구조도 이미지, 해당 층의 이미지가 없으면 null
+     */
+    public BufferedImage get(String building, int floor) {
+        String key = building + "_" + floor;
+        return images.computeIfAbsent(key, k -> Optional.ofNullable(load(building, floor))).orElse(null);
+    }
+
+    private BufferedImage load(String building, int floor) {
+        String imageFileName = building + "_" + floor + "F.png";
+        URL imageUrl = getClass().getResource("/images/" + imageFileName);
+        if (imageUrl == null) {
+            return null;
+        }
+        try {
+            BufferedImage decoded = ImageIO.read(imageUrl);
+            return decoded != null ? toCompatibleImage(decoded) : null;
+        } catch (IOException e) {
+            logger.warn("구조도 이미지 로드 실패: {}", imageFileName, e);
+            return null;
+        }
+    }
+
+    /**
+     * 현재 기본 화면 장치와 같은 픽셀 포맷의 이미지로 변환
+     * 호환 이미지는 Java2D가 가속(managed) 이미지로 다룰 수 있어 매 그리기마다 변환 비용이 들지 않음
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage source) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return source;
+        }
+        GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        if (source.getColorModel().equals(configuration.getColorModel())) {
+            return source;
+        }
+
+        BufferedImage compatible = configuration.createCompatibleImage(
+                source.getWidth(), source.getHeight(), source.getTransparency());
+        Graphics2D g2d = compatible.createGraphics();
+        try {
+            g2d.drawImage(source, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return compatible;
+    }
+}
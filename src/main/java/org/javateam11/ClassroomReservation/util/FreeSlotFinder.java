@@ -0,0 +1,138 @@
+package org.javateam11.ClassroomReservation.util;
+
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.dto.RoomDto;
+import org.javateam11.ClassroomReservation.model.FreeSlot;
+import org.javateam11.ClassroomReservation.model.FreeSlotQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 여러 강의실의 예약 목록에서 조건에 맞는 빈 시간대를 찾는 검색 엔진
+ * 기간 전체의 예약으로 AvailabilityIndex를 한 번 만든 뒤, (강의실, 날짜)마다 시작 시간순 예약을 한 번 훑어
+ * 검색 시간대 안의 빈 구간을 구합니다. 이용 시간 이상인 구간마다 구간 시작 시각을 추천 구간으로 삼고,
+ * 상위 maxResults개만 힙에 유지하므로 강의실 1,000개 × 14일도 예약 수에 비례하는 시간에 끝납니다.
+ * EDT가 아닌 스레드에서 호출해야 합니다.
+ */
+public class FreeSlotFinder {
+
+    // 오늘 날짜의 검색 시작 시각을 이 간격(분)으로 올림
+    private static final int ALIGN_MINUTES = 10;
+
+    /**
+     * 결과 정렬 기준: 빠른 날짜 → 빠른 시작 시각 → 남는 시간이 적은 구간(긴 빈 시간은 다른 사람에게 남김) → 건물/강의실 이름
+     */
+    public static final Comparator<FreeSlot> RANKING = Comparator
+            .comparing(FreeSlot::getDate)
+            .thenComparing(FreeSlot::getStart)
+            .thenComparingInt(FreeSlot::getSpareMinutes)
+            .thenComparing(FreeSlot::getBuilding, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(FreeSlot::getRoomName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * 조건에 맞는 빈 시간대를 순위순으로 반환
+     *
+     * @param query        검색 조건
+     * @param rooms        검색 대상 강의실 (건물/층 조건은 여기서 적용)
+     * @param reservations 검색 기간의 예약 (다른 날짜가 섞여 있어도 무방)
+     * @param now          현재 시각 (지난 날짜와 오늘의 지난 시간은 제외)
+     */
+    public static List<FreeSlot> find(FreeSlotQuery query, List<RoomDto> rooms, List<ReservationDto> reservations,
+            LocalDateTime now) {
+        AvailabilityIndex index = AvailabilityIndex.of(reservations);
+        int duration = query.getDurationMinutes() * 60;
+        int windowStart = query.getWindowStart().toSecondOfDay();
+        int windowEnd = query.getWindowEnd().toSecondOfDay();
+        LocalDate today = now.toLocalDate();
+
+        // 순위가 가장 낮은 결과가 맨 앞에 오는 힙 (상위 maxResults개만 유지)
+        int limit = query.getMaxResults();
+        PriorityQueue<FreeSlot> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+
+        LocalDate from = query.getDates().getFrom().isBefore(today) ? today : query.getDates().getFrom();
+        for (LocalDate date = from; !date.isAfter(query.getDates().getTo()); date = date.plusDays(1)) {
+            // 날짜가 첫 번째 정렬 기준이므로 결과가 찼고 가장 낮은 순위보다 늦은 날짜면 더 볼 필요 없음
+            if (best.size() >= limit && date.isAfter(best.peek().getDate())) {
+                break;
+            }
+            int dayStart = windowStart;
+            if (date.equals(today)) {
+                dayStart = Math.max(dayStart, alignUp(now.toLocalTime().toSecondOfDay()));
+            }
+            if (windowEnd - dayStart < duration) {
+                continue;
+            }
+
+            for (RoomDto room : rooms) {
+                if (room.getId() == null || !matches(query, room)) {
+                    continue;
+                }
+                collectFreeRuns(index.getReservations(room.getId(), date), room, date, dayStart, windowEnd,
+                        duration, best, limit);
+            }
+        }
+
+        List<FreeSlot> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    private static boolean matches(FreeSlotQuery query, RoomDto room) {
+        if (query.getBuilding() != null && !query.getBuilding().equals(room.getBuilding())) {
+            return false;
+        }
+        return query.getFloor() == null || query.getFloor().equals(room.getFloor());
+    }
+
+    /**
+     * 시작 시간순 예약 사이의 빈 구간 중 이용 시간 이상인 구간을 결과 후보로 추가
+     */
+    private static void collectFreeRuns(List<ReservationDto> dayReservations, RoomDto room, LocalDate date,
+            int windowStart, int windowEnd, int duration, PriorityQueue<FreeSlot> best, int limit) {
+        int cursor = windowStart;
+        for (ReservationDto reservation : dayReservations) {
+            int start = reservation.getStartTime().toSecondOfDay();
+            int end = reservation.getEndTime().toSecondOfDay();
+            if (start >= windowEnd) {
+                break;
+            }
+            if (start - cursor >= duration) {
+                offer(best, limit, room, date, cursor, start, duration);
+            }
+            cursor = Math.max(cursor, end);
+            if (windowEnd - cursor < duration) {
+                return;
+            }
+        }
+        if (windowEnd - cursor >= duration) {
+            offer(best, limit, room, date, cursor, windowEnd, duration);
+        }
+    }
+
+    private static void offer(PriorityQueue<FreeSlot> best, int limit, RoomDto room, LocalDate date,
+            int freeFrom, int freeUntil, int duration) {
+        FreeSlot slot = new FreeSlot(room.getId(), room.getBuilding(), room.getFloor(), room.getName(), date,
+                LocalTime.ofSecondOfDay(freeFrom), LocalTime.ofSecondOfDay(freeFrom + duration),
+                LocalTime.ofSecondOfDay(freeUntil));
+        if (best.size() < limit) {
+            best.add(slot);
+        } else if (RANKING.compare(slot, best.peek()) < 0) {
+            best.poll();
+            best.add(slot);
+        }
+    }
+
+    private static int alignUp(int second) {
+        int step = ALIGN_MINUTES * 60;
+        return Math.min(LocalTime.MAX.toSecondOfDay(), (second + step - 1) / step * step);
+    }
+}
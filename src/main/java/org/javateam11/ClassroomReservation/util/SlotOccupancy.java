@@ -0,0 +1,141 @@
+package org.javateam11.ClassroomReservation.util;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 한 강의실의 하루 예약 점유 상태를 슬롯 단위 비트맵으로 표현하는 클래스
+ * 내 예약(mine)과 다른 사람의 예약(others)을 별도의 long[] 마스크로 관리하며,
+ * 구간 표시/검사는 워드 단위 비트 연산으로 처리하여 슬롯마다 객체를 만들지 않습니다.
+ * 슬롯 i는 [startMinute + i * intervalMinutes, startMinute + (i + 1) * intervalMinutes) 구간을 의미합니다.
+ */
+public class SlotOccupancy {
+    private static final long ALL_BITS = -1L;
+
+    private final int startMinute;
+    private final int intervalMinutes;
+    private final int slotCount;
+    private final long[] mine;
+    private final long[] others;
+
+    /**
+     * @param startHour       첫 슬롯의 시작 시각 (시)
+     * @param endHour         마지막 슬롯의 종료 시각 (시)
+     * @param intervalMinutes 슬롯 간격 (분)
+     */
+    public SlotOccupancy(int startHour, int endHour, int intervalMinutes) {
+        if (intervalMinutes <= 0 || endHour <= startHour) {
+            throw new IllegalArgumentException("잘못된 슬롯 범위입니다: " + startHour + "~" + endHour
+                    + "시, " + intervalMinutes + "분 간격");
+        }
+        this.startMinute = startHour * 60;
+        this.intervalMinutes = intervalMinutes;
+        this.slotCount = (endHour - startHour) * 60 / intervalMinutes;
+        int words = (slotCount + 63) >>> 6;
+        this.mine = new long[words];
+        this.others = new long[words];
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public int getIntervalMinutes() {
+        return intervalMinutes;
+    }
+
+    /**
+     * 슬롯 시작 시각 (자정 기준 분)
+     */
+    public int slotStartMinute(int slot) {
+        return startMinute + slot * intervalMinutes;
+    }
+
+    /**
+     * 슬롯 종료 시각 (자정 기준 분)
+     */
+    public int slotEndMinute(int slot) {
+        return startMinute + (slot + 1) * intervalMinutes;
+    }
+
+    /**
+     * 모든 예약 표시 제거
+     */
+    public void clear() {
+        Arrays.fill(mine, 0L);
+        Arrays.fill(others, 0L);
+    }
+
+    /**
+     * 예약 시간 [startTime, endTime)과 겹치는 모든 슬롯을 점유로 표시
+     *
+     * @param isMine 현재 로그인한 사용자의 예약이면 true
+     */
+    public void mark(LocalTime startTime, LocalTime endTime, boolean isMine) {
+        int from = firstSlotOverlapping(toMinute(startTime));
+        int to = endSlotOverlapping(toMinute(endTime));
+        setRange(isMine ? mine : others, from, to);
+    }
+
+    public boolean isMine(int slot) {
+        return testBit(mine, slot);
+    }
+
+    public boolean isOthers(int slot) {
+        return testBit(others, slot);
+    }
+
+    public boolean isOccupied(int slot) {
+        return testBit(mine, slot) || testBit(others, slot);
+    }
+
+    private void setRange(long[] bits, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int fromWord = from >>> 6;
+        int toWord = (to - 1) >>> 6;
+        for (int w = fromWord; w <= toWord; w++) {
+            bits[w] |= rangeMask(w, from, to);
+        }
+    }
+
+    /**
+     * w번째 워드에서 [from, to) 범위에 해당하는 비트 마스크
+     */
+    private static long rangeMask(int w, int from, int to) {
+        int wordStart = w << 6;
+        long mask = ALL_BITS;
+        if (from > wordStart) {
+            mask &= ALL_BITS << (from - wordStart);
+        }
+        if (to < wordStart + 64) {
+            mask &= ALL_BITS >>> (wordStart + 64 - to);
+        }
+        return mask;
+    }
+
+    private boolean testBit(long[] bits, int slot) {
+        return slot >= 0 && slot < slotCount && (bits[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * 해당 시각에 끝나지 않는(시각을 포함하거나 그 이후의) 첫 슬롯
+     */
+    private int firstSlotOverlapping(int minute) {
+        int slot = Math.floorDiv(minute - startMinute, intervalMinutes);
+        return Math.max(0, Math.min(slotCount, slot));
+    }
+
+    /**
+     * 해당 시각 이전에 시작하는 마지막 슬롯 + 1
+     */
+    private int endSlotOverlapping(int minute) {
+        int slot = Math.floorDiv(minute - startMinute + intervalMinutes - 1, intervalMinutes);
+        return Math.max(0, Math.min(slotCount, slot));
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
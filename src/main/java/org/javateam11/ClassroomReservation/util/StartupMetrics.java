@@ -0,0 +1,44 @@
+package org.javateam11.ClassroomReservation.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * 메인 애플리케이션 시작부터 첫 유효 화면(실제 예약 상태가 반영된 도면)까지의 시간을 측정하는 유틸리티 클래스
+ */
+public class StartupMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(StartupMetrics.class);
+
+    private static volatile long mainStartNanos = 0;
+    private static volatile boolean firstPaintRecorded = false;
+
+    /**
+     * 로그인 성공 후 메인 애플리케이션 시작 시점 기록
+     */
+    public static void markMainApplicationStart() {
+        mainStartNanos = System.nanoTime();
+        firstPaintRecorded = false;
+    }
+
+    /**
+     * 첫 유효 화면 표시 시점을 한 번만 기록 (EDT에서 호출)
+     * 버튼 상태를 바꾸면서 요청된 repaint가 먼저 처리된 뒤 측정되도록 invokeLater로 한 번 미룸
+     *
+     * @param source 화면을 그린 데이터 출처 (예: "웜 스타트 스냅샷", "네트워크")
+     */
+    public static void markFirstUsefulPaint(String source) {
+        if (firstPaintRecorded || mainStartNanos == 0) {
+            return;
+        }
+        firstPaintRecorded = true;
+        long startNanos = mainStartNanos;
+        SwingUtilities.invokeLater(() -> logger.info("첫 유효 화면 표시까지 {}ms (데이터 출처: {})",
+                (System.nanoTime() - startNanos) / 1_000_000, source));
+    }
+
+    private StartupMetrics() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+}
@@ -0,0 +1,31 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 다른 객체가 이미 세고 있는 값(예: 캐시 적중 수)을 읽을 때마다 그대로 보여주는 지표
+ */
+public class GaugeMetric implements GaugeMetricMBean {
+
+    private final String name;
+    private final LongSupplier supplier;
+
+    GaugeMetric(String name, LongSupplier supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getValue() {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return "value=" + getValue();
+    }
+}
@@ -0,0 +1,9 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+/**
+ * GaugeMetric의 JMX 관리 인터페이스
+ */
+public interface GaugeMetricMBean {
+
+    long getValue();
+}
@@ -0,0 +1,114 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표를 주기적으로 파일에 기록하는 클래스 (싱글톤)
+ * metrics.log에 덧붙여 쓰다가 최대 크기를 넘으면 metrics.log.1, metrics.log.2 … 로 밀어내고 정해진 개수만 남깁니다.
+ * 각 기록의 첫 줄에 프로세스/호스트 이름을 남기므로 여러 키오스크의 파일을 모아 비교할 수 있습니다.
+ */
+public class MetricsFileReporter {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsFileReporter.class);
+
+    private static final String FILE_NAME = "metrics.log";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static MetricsFileReporter instance;
+
+    private final Path file;
+    private final long maxBytes;
+    private final int keepFiles;
+    private ScheduledExecutorService scheduler;
+
+    private MetricsFileReporter() {
+        this.file = Paths.get(ApplicationConfig.getMetricsFileDirectory(), FILE_NAME);
+        this.maxBytes = Math.max(1, ApplicationConfig.getMetricsFileMaxKb()) * 1024L;
+        this.keepFiles = Math.max(1, ApplicationConfig.getMetricsFileKeep());
+    }
+
+    public static synchronized MetricsFileReporter getInstance() {
+        if (instance == null) {
+            instance = new MetricsFileReporter();
+        }
+        return instance;
+    }
+
+    /**
+     * 설정이 켜져 있으면 주기적 기록 시작 (이미 시작했으면 무시)
+     */
+    public synchronized void start() {
+        if (scheduler != null || !ApplicationConfig.isMetricsFileEnabled()) {
+            return;
+        }
+        int interval = Math.max(1, ApplicationConfig.getMetricsFileIntervalSeconds());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.SECONDS);
+        logger.info("지표 파일 기록 시작: {} ({}초 간격)", file, interval);
+    }
+
+    /**
+     * 주기적 기록을 멈추고 마지막으로 한 번 더 기록
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        report();
+    }
+
+    /**
+     * 현재 지표를 파일에 덧붙여 기록 (실패해도 애플리케이션 동작에는 영향 없음)
+     */
+    void report() {
+        String header = "=== " + LocalDateTime.now().format(TIMESTAMP) + " "
+                + ManagementFactory.getRuntimeMXBean().getName() + " ===" + System.lineSeparator();
+        try {
+            Files.createDirectories(file.getParent());
+            rollIfNeeded();
+            Files.writeString(file, header + MetricsRegistry.getInstance().dump(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.debug("지표 파일 기록 실패: {}", file, e);
+        }
+    }
+
+    private void rollIfNeeded() throws IOException {
+        if (!Files.exists(file) || Files.size(file) < maxBytes) {
+            return;
+        }
+        Files.deleteIfExists(rolled(keepFiles));
+        for (int i = keepFiles - 1; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(FILE_NAME + "." + index);
+    }
+}
@@ -0,0 +1,111 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+import org.javateam11.ClassroomReservation.config.ApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 애플리케이션 전역 지표 저장소 (싱글톤)
+ * 이름별로 TimerMetric과 GaugeMetric을 한 번만 만들고, 설정이 켜져 있으면 만들 때 플랫폼 MBean 서버에 등록하므로
+ * JConsole/VisualVM에서 "org.javateam11.ClassroomReservation" 도메인 아래로 바로 볼 수 있습니다.
+ * 지표 이름에는 예약 ID처럼 값이 계속 바뀌는 부분을 넣지 않아야 지표 수가 일정하게 유지됩니다.
+ */
+public class MetricsRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    // JMX ObjectName 도메인
+    public static final String JMX_DOMAIN = "org.javateam11.ClassroomReservation";
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, TimerMetric> timers = new ConcurrentHashMap<>();
+    private final Map<String, GaugeMetric> gauges = new ConcurrentHashMap<>();
+    private final MBeanServer mbeanServer;
+
+    private MetricsRegistry() {
+        this.mbeanServer = ApplicationConfig.isMetricsJmxEnabled() ? ManagementFactory.getPlatformMBeanServer() : null;
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * 이름에 해당하는 타이머 반환 (없으면 새로 만들어 등록)
+     */
+    public TimerMetric timer(String name) {
+        TimerMetric timer = timers.get(name);
+        if (timer != null) {
+            return timer;
+        }
+        TimerMetric created = new TimerMetric(name);
+        TimerMetric existing = timers.putIfAbsent(name, created);
+        if (existing != null) {
+            return existing;
+        }
+        register("Timer", name, created);
+        return created;
+    }
+
+    /**
+     * 읽을 때마다 supplier 값을 보여주는 게이지 등록 (같은 이름이 이미 있으면 기존 게이지 유지)
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        GaugeMetric created = new GaugeMetric(name, supplier);
+        if (gauges.putIfAbsent(name, created) == null) {
+            register("Gauge", name, created);
+        }
+    }
+
+    /**
+     * 이름순으로 정렬한 타이머 목록 반환
+     */
+    public Map<String, TimerMetric> getTimers() {
+        return new TreeMap<>(timers);
+    }
+
+    /**
+     * 이름순으로 정렬한 게이지 목록 반환
+     */
+    public Map<String, GaugeMetric> getGauges() {
+        return new TreeMap<>(gauges);
+    }
+
+    /**
+     * 모든 지표를 한 줄에 하나씩 나열한 문자열 반환
+     */
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        getTimers().forEach((name, timer) -> builder.append("timer ").append(name).append(": ").append(timer)
+                .append(System.lineSeparator()));
+        getGauges().forEach((name, gauge) -> builder.append("gauge ").append(name).append(": ").append(gauge)
+                .append(System.lineSeparator()));
+        return builder.toString();
+    }
+
+    private void register(String type, String name, Object metric) {
+        if (mbeanServer == null) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (!mbeanServer.isRegistered(objectName)) {
+                mbeanServer.registerMBean(metric, objectName);
+            }
+        } catch (JMException e) {
+            logger.debug("지표 JMX 등록 실패: {}", name, e);
+        }
+    }
+}
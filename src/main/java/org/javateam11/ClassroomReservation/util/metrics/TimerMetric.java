@@ -0,0 +1,91 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 종류의 작업(예: 엔드포인트별 API 호출)의 호출 수, 실패 수, 소요 시간 분포를 기록하는 지표
+ * JMX에는 밀리초 단위의 평균/백분위수로 공개됩니다.
+ */
+public class TimerMetric implements TimerMetricMBean {
+
+    private final String name;
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    TimerMetric(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 작업 한 번의 소요 시간 기록
+     *
+     * @param elapsedNanos 소요 시간 (System.nanoTime 차이)
+     * @param failed       작업이 실패했으면 true
+     */
+    public void record(long elapsedNanos, boolean failed) {
+        histogram.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * startNanos(System.nanoTime)부터 지금까지의 시간을 기록
+     */
+    public void recordSince(long startNanos, boolean failed) {
+        record(System.nanoTime() - startNanos, failed);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return histogram.getMeanMicros() / 1000.0;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return histogram.getPercentileMicros(50) / 1000.0;
+    }
+
+    @Override
+    public double getP95Millis() {
+        return histogram.getPercentileMicros(95) / 1000.0;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return histogram.getPercentileMicros(99) / 1000.0;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return histogram.getMaxMicros() / 1000.0;
+    }
+
+    @Override
+    public void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, errors=%d, mean=%.1fms, p50=%.1fms, p95=%.1fms, p99=%.1fms, max=%.1fms",
+                getCount(), getErrorCount(), getMeanMillis(), getP50Millis(), getP95Millis(), getP99Millis(),
+                getMaxMillis());
+    }
+}
@@ -0,0 +1,26 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+/**
+ * TimerMetric의 JMX 관리 인터페이스 (시간 단위는 밀리초)
+ */
+public interface TimerMetricMBean {
+
+    long getCount();
+
+    long getErrorCount();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    /**
+     * 지금까지의 기록 삭제
+     */
+    void reset();
+}
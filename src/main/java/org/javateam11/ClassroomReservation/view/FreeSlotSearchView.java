@@ -0,0 +1,287 @@
+package org.javateam11.ClassroomReservation.view;
+
+import org.javateam11.ClassroomReservation.controller.ControllerFactory;
+import org.javateam11.ClassroomReservation.model.Building;
+import org.javateam11.ClassroomReservation.model.FreeSlot;
+import org.javateam11.ClassroomReservation.model.FreeSlotQuery;
+import org.javateam11.ClassroomReservation.model.Room;
+import org.javateam11.ClassroomReservation.service.ReservationService;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
+import org.javateam11.ClassroomReservation.view.components.StyleManager;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모든 강의실에서 원하는 시간만큼 비어 있는 시간대를 찾는 검색 화면
+ * 이용 시간, 하루 중 시간대, 기간, 건물/층을 입력하면 순위순으로 빈 시간대를 보여주고,
+ * 결과를 더블클릭하면 해당 강의실 예약 화면을 그 시간으로 채워서 엽니다.
+ */
+public class FreeSlotSearchView extends JFrame {
+    private static final String ALL = "전체";
+    private static final int[] DURATION_MINUTES = { 30, 60, 90, 120, 180, 240 };
+
+    private final List<Building> buildings;
+    private final ReservationService reservationService;
+    private final List<FreeSlot> results = new ArrayList<>();
+
+    private JComboBox<String> durationCombo;
+    private JTextField windowStartField;
+    private JTextField windowEndField;
+    private JTextField fromField;
+    private JTextField toField;
+    private JComboBox<String> buildingCombo;
+    private JComboBox<String> floorCombo;
+    private JButton searchButton;
+    private DefaultTableModel tableModel;
+    private JTable resultTable;
+    private JLabel statusLabel;
+
+    public FreeSlotSearchView(List<Building> buildings, ReservationService reservationService) {
+        this.buildings = buildings;
+        this.reservationService = reservationService;
+
+        setTitle("빈 강의실 찾기");
+        setSize(760, 620);
+        setLocationRelativeTo(null);
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        initializeUI();
+    }
+
+    private void initializeUI() {
+        setLayout(new BorderLayout());
+        getContentPane().setBackground(StyleManager.getBackgroundColor());
+
+        add(createConditionPanel(), BorderLayout.NORTH);
+        add(createResultPanel(), BorderLayout.CENTER);
+
+        statusLabel = new JLabel("조건을 입력하고 검색을 누르세요.");
+        statusLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        statusLabel.setForeground(StyleManager.getTextColor());
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(10, 20, 15, 20));
+        add(statusLabel, BorderLayout.SOUTH);
+    }
+
+    private JPanel createConditionPanel() {
+        JPanel panel = new JPanel(new GridBagLayout());
+        panel.setBackground(StyleManager.getTopbarColor());
+        panel.setBorder(BorderFactory.createEmptyBorder(15, 20, 15, 20));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 6, 4, 6);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        durationCombo = StyleManager.createStyledComboBox();
+        for (int minutes : DURATION_MINUTES) {
+            durationCombo.addItem(formatDuration(minutes));
+        }
+        durationCombo.setSelectedIndex(3);
+
+        windowStartField = createField("09:00");
+        windowEndField = createField("22:00");
+        fromField = createField(LocalDate.now().toString());
+        toField = createField(LocalDate.now().plusDays(13).toString());
+
+        buildingCombo = StyleManager.createStyledComboBox();
+        buildingCombo.addItem(ALL);
+        for (Building building : buildings) {
+            buildingCombo.addItem(building.getName());
+        }
+        floorCombo = StyleManager.createStyledComboBox();
+        buildingCombo.addActionListener(e -> updateFloorCombo());
+        updateFloorCombo();
+
+        searchButton = StyleManager.createStyledButton("검색", StyleManager.getPrimaryColor());
+        searchButton.addActionListener(e -> performSearch());
+
+        addCell(panel, gbc, 0, 0, "이용 시간:", durationCombo);
+        addCell(panel, gbc, 2, 0, "시간대:", createRangePanel(windowStartField, windowEndField));
+        addCell(panel, gbc, 0, 1, "기간:", createRangePanel(fromField, toField));
+        addCell(panel, gbc, 2, 1, "건물/층:", createRangePanel(buildingCombo, floorCombo));
+
+        gbc.gridx = 4;
+        gbc.gridy = 0;
+        gbc.gridheight = 2;
+        gbc.fill = GridBagConstraints.VERTICAL;
+        panel.add(searchButton, gbc);
+        return panel;
+    }
+
+    private JPanel createResultPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(StyleManager.getBackgroundColor());
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 20, 0, 20));
+
+        String[] header = { "날짜", "추천 시간", "강의실", "비어 있는 시간" };
+        tableModel = new DefaultTableModel(header, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        resultTable = new JTable(tableModel);
+        resultTable.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        resultTable.setRowHeight(30);
+        resultTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultTable.getTableHeader().setReorderingAllowed(false);
+        resultTable.getTableHeader().setFont(new Font("맑은 고딕", Font.BOLD, 12));
+
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
+        for (int column = 0; column < header.length; column++) {
+            resultTable.getColumnModel().getColumn(column).setCellRenderer(centerRenderer);
+        }
+
+        // 더블클릭하면 해당 시간으로 예약 화면 열기
+        resultTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int row = resultTable.getSelectedRow();
+                if (e.getClickCount() == 2 && row >= 0 && row < results.size()) {
+                    openReservationView(results.get(row));
+                }
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(resultTable);
+        scrollPane.getViewport().setBackground(Color.WHITE);
+        scrollPane.setBorder(BorderFactory.createTitledBorder(
+                BorderFactory.createLineBorder(StyleManager.getComboBorder(), 1),
+                "검색 결과 (더블클릭하여 예약)",
+                0, 0,
+                new Font("맑은 고딕", Font.BOLD, 12),
+                StyleManager.getTextColor()));
+        panel.add(scrollPane, BorderLayout.CENTER);
+        return panel;
+    }
+
+    private void performSearch() {
+        FreeSlotQuery query;
+        try {
+            String building = ALL.equals(buildingCombo.getSelectedItem()) ? null
+                    : (String) buildingCombo.getSelectedItem();
+            Object floorItem = floorCombo.getSelectedItem();
+            Integer floor = floorItem == null || ALL.equals(floorItem) ? null
+                    : Integer.valueOf(((String) floorItem).replace("층", ""));
+
+            query = FreeSlotQuery.builder()
+                    .durationMinutes(DURATION_MINUTES[durationCombo.getSelectedIndex()])
+                    .window(LocalTime.parse(windowStartField.getText().trim()),
+                            LocalTime.parse(windowEndField.getText().trim()))
+                    .dates(LocalDate.parse(fromField.getText().trim()), LocalDate.parse(toField.getText().trim()))
+                    .building(building)
+                    .floor(floor)
+                    .build();
+        } catch (Exception e) {
+            showStatus("입력값 오류: " + e.getMessage(), StyleManager.getDangerColor());
+            return;
+        }
+
+        searchButton.setEnabled(false);
+        showStatus("검색 중...", StyleManager.getWarningColor());
+        reservationService.findFreeSlots(query,
+                slots -> {
+                    searchButton.setEnabled(true);
+                    updateTable(slots);
+                    if (slots.isEmpty()) {
+                        showStatus("조건에 맞는 빈 강의실이 없습니다.", StyleManager.getTextColor());
+                    } else {
+                        showStatus("빈 시간대 " + slots.size() + "개를 찾았습니다.", StyleManager.getTextColor());
+                    }
+                },
+                errorMessage -> {
+                    searchButton.setEnabled(true);
+                    showStatus(errorMessage, StyleManager.getDangerColor());
+                });
+    }
+
+    private void updateTable(List<FreeSlot> slots) {
+        results.clear();
+        results.addAll(slots);
+        tableModel.setRowCount(0);
+        for (FreeSlot slot : slots) {
+            tableModel.addRow(new Object[] {
+                    slot.getDate().toString(),
+                    slot.getStart() + " - " + slot.getEnd(),
+                    slot.getBuilding() + " " + slot.getRoomName(),
+                    slot.getStart() + " ~ " + slot.getFreeUntil()
+            });
+        }
+    }
+
+    private void openReservationView(FreeSlot slot) {
+        Room room = RoomRegistry.getInstance().getRoom(slot.getRoomId());
+        if (room == null) {
+            JOptionPane.showMessageDialog(this,
+                    "도면에 없는 강의실이라 이 화면에서 예약할 수 없습니다.",
+                    "알림", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        ReservationView reservationView = ControllerFactory.getInstance().createReservationView(room, null, this);
+        reservationView.prefill(slot.getDate(), slot.getStart(), slot.getEnd());
+        reservationView.setVisible(true);
+    }
+
+    private void updateFloorCombo() {
+        floorCombo.removeAllItems();
+        floorCombo.addItem(ALL);
+        Object selected = buildingCombo.getSelectedItem();
+        for (Building building : buildings) {
+            if (building.getName().equals(selected)) {
+                for (Integer floor : building.getFloors()) {
+                    floorCombo.addItem(floor + "층");
+                }
+            }
+        }
+    }
+
+    private void addCell(JPanel panel, GridBagConstraints gbc, int x, int y, String labelText, JComponent field) {
+        gbc.gridx = x;
+        gbc.gridy = y;
+        gbc.gridheight = 1;
+        gbc.fill = GridBagConstraints.NONE;
+        panel.add(StyleManager.createStyledLabel(labelText), gbc);
+
+        gbc.gridx = x + 1;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        panel.add(field, gbc);
+    }
+
+    private JPanel createRangePanel(JComponent first, JComponent second) {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 0));
+        panel.setOpaque(false);
+        panel.add(first);
+        panel.add(new JLabel("~"));
+        panel.add(second);
+        return panel;
+    }
+
+    private JTextField createField(String text) {
+        JTextField field = StyleManager.createStyledTextField();
+        field.setText(text);
+        field.setColumns(8);
+        return field;
+    }
+
+    private static String formatDuration(int minutes) {
+        int hours = minutes / 60;
+        int rest = minutes % 60;
+        if (hours == 0) {
+            return rest + "분";
+        }
+        return rest == 0 ? hours + "시간" : hours + "시간 " + rest + "분";
+    }
+
+    private void showStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+}
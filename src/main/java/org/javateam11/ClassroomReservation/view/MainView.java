@@ -3,12 +3,22 @@ package org.javateam11.ClassroomReservation.view;
 import org.javateam11.ClassroomReservation.controller.MainController;
 import org.javateam11.ClassroomReservation.controller.ControllerFactory;
 import org.javateam11.ClassroomReservation.model.*;
+import org.javateam11.ClassroomReservation.service.HttpTransport;
+import org.javateam11.ClassroomReservation.service.OfflineStore;
+import org.javateam11.ClassroomReservation.service.ReservationCache;
 import org.javateam11.ClassroomReservation.service.TokenManager;
+import org.javateam11.ClassroomReservation.service.ReservationEventChannel;
 import org.javateam11.ClassroomReservation.service.ReservationService;
+import org.javateam11.ClassroomReservation.service.RoomRegistry;
 import org.javateam11.ClassroomReservation.service.RoomService;
+import org.javateam11.ClassroomReservation.service.WarmStartSnapshot;
 import org.javateam11.ClassroomReservation.dto.ReservationDto;
-import org.javateam11.ClassroomReservation.dto.RoomDto;
 import org.javateam11.ClassroomReservation.util.AvailabilityChecker;
+import org.javateam11.ClassroomReservation.util.EdtMonitor;
+import org.javateam11.ClassroomReservation.util.FloorPlanImageCache;
+import org.javateam11.ClassroomReservation.util.StartupMetrics;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsFileReporter;
+import org.javateam11.ClassroomReservation.util.metrics.MetricsRegistry;
 import org.javateam11.ClassroomReservation.view.components.*;
 
 import org.slf4j.Logger;
@@ -17,12 +27,10 @@ import org.slf4j.LoggerFactory;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.net.URL;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -52,6 +60,7 @@ public class MainView extends JFrame {
 
     // 내 예약창
     private MyReservationView myResView;
+    private FreeSlotSearchView freeSlotSearchView;
 
     // 예약 서비스 (백엔드 API 호출용)
     private ReservationService reservationService;
@@ -59,8 +68,8 @@ public class MainView extends JFrame {
     // 강의실 서비스 (백엔드 강의실 정보 API 호출용)
     private RoomService roomService;
 
-    // 강의실 이름과 roomId 매핑 (백엔드에서 받아와서 로컬 데이터와 매핑)
-    private Map<String, Long> roomIdMap;
+    // 강의실 (건물, 층, 이름)과 roomId 매핑 (백엔드에서 받아와서 로컬 데이터와 매핑, 전역 공유)
+    private final RoomRegistry roomRegistry = RoomRegistry.getInstance();
 
     // 로컬 건물 데이터 (x, y 좌표 포함)
     private List<Building> localBuildings;
@@ -68,6 +77,25 @@ public class MainView extends JFrame {
     // 자동 새로고침을 위한 타이머
     private Timer refreshTimer;
 
+    // 현재 도면에 반영된 예약 정보와 다음 상태 변화 시각 (변경이 없을 때 재렌더링 여부 판단용)
+    private List<ReservationDto> displayedReservations;
+    private LocalTime nextAvailabilityChange;
+
+    // 강의실별로 한 번만 생성해 재사용하는 도면 버튼과, 현재 도면에 배치된 건물/층
+    private final Map<Room, RoomButton> roomButtons = new HashMap<>();
+    private String displayedFloorKey;
+
+    // 실시간 예약 이벤트 구독 (연결되어 있는 동안에는 폴링 주기를 늘림)
+    private ReservationEventChannel.Subscription liveSubscription;
+    private LocalDate liveSubscriptionDate;
+    private int refreshTick = 0;
+
+    // 오프라인 대기 요청이 재전송 중 서버에서 거절되었을 때 알림
+    private final java.util.function.Consumer<String> conflictListener = this::showOutboxConflict;
+
+    // 실시간 연결이 살아있을 때 안전망으로 폴링하는 주기 (타이머 틱 단위, 10초 x 6 = 1분)
+    private static final int LIVE_POLL_EVERY_TICKS = 6;
+
     /**
      * MainView 생성자
      * 
@@ -97,16 +125,63 @@ public class MainView extends JFrame {
         // 백엔드에서 강의실 목록을 가져와서 로컬 데이터와 매핑
         initializeRoomIdMappingFromBackend();
 
-        // 초기화: 첫 건물/층 선택 (프로그램 시작 시 자동으로 첫 건물/층 표시)
+        // 이전 실행에서 보내지 못한 예약 요청이 있으면 재전송
+        OfflineStore.getInstance().addConflictListener(conflictListener);
+        reservationService.replayPendingOperations();
+
+        // 초기화: 마지막으로 보던 건물/층 (없으면 첫 건물/층) 선택
         if (!buildings.isEmpty()) {
-            topPanel.getBuildingCombo().setSelectedIndex(0);
-            updateFloors(buildings);
+            selectInitialFloor(buildings);
+        }
+
+        // 웜 스타트 스냅샷으로 그린 화면을 백그라운드에서 최신 예약과 맞춤
+        if (WarmStartSnapshot.getInstance().isRestored()) {
+            if (displayedReservations != null) {
+                StartupMetrics.markFirstUsefulPaint("웜 스타트 스냅샷");
+            }
+            reconcileWarmStart(buildings);
         }
 
         // 자동 새로고침 타이머 시작 (30초마다 예약 정보 갱신)
         startAutoRefresh(buildings);
     }
 
+    /**
+     * 웜 스타트 스냅샷에 저장된 건물/층을 선택하고, 없거나 더 이상 존재하지 않으면 첫 건물/층을 선택
+     */
+    private void selectInitialFloor(List<Building> buildings) {
+        WarmStartSnapshot snapshot = WarmStartSnapshot.getInstance();
+        String building = snapshot.getRestoredBuilding();
+        Integer floor = snapshot.getRestoredFloor();
+        Building restored = buildings.stream().filter(b -> b.getName().equals(building)).findFirst().orElse(null);
+
+        if (restored == null) {
+            topPanel.getBuildingCombo().setSelectedIndex(0);
+            updateFloors(buildings);
+            return;
+        }
+        topPanel.getBuildingCombo().setSelectedItem(restored.getName());
+        updateFloors(buildings);
+        if (floor != null && restored.getFloors().contains(floor)) {
+            topPanel.getFloorCombo().setSelectedItem(floor);
+        }
+    }
+
+    /**
+     * 스냅샷으로 그린 오늘 예약을 백엔드의 최신 목록으로 교체하고, 바뀐 경우에만 도면을 다시 그림
+     */
+    private void reconcileWarmStart(List<Building> buildings) {
+        reservationService.syncReservationsByDate(LocalDate.now(),
+                reservations -> {
+                    String selectedBuilding = (String) topPanel.getBuildingCombo().getSelectedItem();
+                    Integer selectedFloor = (Integer) topPanel.getFloorCombo().getSelectedItem();
+                    if (selectedBuilding != null && selectedFloor != null) {
+                        updateMapWithReservations(buildings, selectedBuilding, selectedFloor, reservations);
+                    }
+                },
+                errorMessage -> logger.warn("웜 스타트 스냅샷 갱신 실패: {}", errorMessage));
+    }
+
     /**
      * TokenManager에서 현재 사용자 정보를 가져와서 User 객체 생성
      */
@@ -130,116 +205,135 @@ public class MainView extends JFrame {
     }
 
     /**
-     * 백엔드에서 강의실 목록을 가져와서 로컬 데이터와 매핑하여 roomIdMap 초기화
+     * 백엔드에서 강의실 목록을 가져와서 로컬 데이터와 매핑하여 RoomRegistry 초기화
      */
     private void initializeRoomIdMappingFromBackend() {
-        this.roomIdMap = new HashMap<>();
+        // 로컬 강의실을 (건물, 층, 이름) 키로 등록
+        roomRegistry.registerLocalRooms(localBuildings);
 
-        // 백엔드에서 모든 강의실 목록 조회
-        roomService.getAllRooms(
+        // 백엔드에서 모든 강의실 목록 조회 (이미 로드되었으면 재사용)
+        roomRegistry.ensureLoaded(roomService,
                 // 성공 시 콜백
-                backendRooms -> {
-                    logger.info("백엔드에서 강의실 목록 조회 성공: {}개 강의실", backendRooms.size());
-
-                    // 백엔드 데이터와 로컬 데이터 매핑
-                    mapBackendRoomsToLocal(backendRooms);
-
-                    logger.info("roomIdMap 매핑 완료: {}개 항목", roomIdMap.size());
-
-                    // 매핑 완료 후 로그 출력
-                    roomIdMap.forEach((name, id) -> logger.debug("매핑: {} -> roomId {}", name, id));
-                },
+                () -> logger.info("강의실 매핑 완료: {}개 항목", roomRegistry.size()),
                 // 오류 시 콜백
                 errorMessage -> {
                     logger.error("백엔드 강의실 목록 조회 실패: {}", errorMessage);
                     // 폴백: 임시 매핑 데이터 사용
-                    initializeFallbackMapping();
-                    logger.warn("폴백 매핑 사용: {}개 항목", roomIdMap.size());
+                    roomRegistry.assignFallbackIds();
+                    logger.warn("폴백 매핑 사용: {}개 항목", roomRegistry.size());
                 });
     }
 
     /**
-     * 백엔드 강의실 데이터를 로컬 강의실 데이터와 매핑
+     * 자동 새로고침 타이머를 시작합니다.
+     * 10초마다 마지막 동기화 이후 변경된 예약만 받아오고, 실제로 바뀐 경우에만 버튼 색상을 업데이트합니다.
+     * 변경이 없더라도 예약 시작/종료 시각이 지나면 현재 시간 기준 상태를 다시 계산합니다.
      */
-    private void mapBackendRoomsToLocal(List<RoomDto> backendRooms) {
-        // 백엔드 룸을 매핑키로 인덱싱
-        Map<String, RoomDto> backendRoomMap = new HashMap<>();
-        for (RoomDto room : backendRooms) {
-            String key = room.getBuilding() + "_" + room.getName();
-            backendRoomMap.put(key, room);
+    private void startAutoRefresh(List<Building> buildings) {
+        // 기존 타이머가 있으면 중지
+        if (refreshTimer != null) {
+            refreshTimer.stop();
         }
 
-        // 로컬 강의실 데이터를 순회하면서 백엔드 데이터와 매칭
-        for (Building building : localBuildings) {
-            // 강의실 매핑
-            for (Room room : building.getRooms()) {
-                String localKey = building.getName() + "_" + room.getName();
-                RoomDto backendRoom = backendRoomMap.get(localKey);
-
-                if (backendRoom != null) {
-                    roomIdMap.put(room.getName(), backendRoom.getId());
-                    logger.debug("강의실 매핑: {} ({}) -> roomId {}",
-                            room.getName(), localKey, backendRoom.getId());
-                } else {
-                    logger.warn("백엔드에서 매칭되지 않은 로컬 강의실: {} ({})",
-                            room.getName(), localKey);
+        // 10초마다 실행되는 타이머 생성
+        refreshTimer = new Timer(10000, e -> {
+            // 현재 선택된 건물과 층이 있을 때만 새로고침
+            String selectedBuilding = (String) topPanel.getBuildingCombo().getSelectedItem();
+            Integer selectedFloor = (Integer) topPanel.getFloorCombo().getSelectedItem();
+
+            updateOfflineIndicator();
+            if (selectedBuilding != null && selectedFloor != null) {
+                LocalDate today = LocalDate.now();
+                subscribeLiveUpdates(buildings, today);
+
+                // 실시간 이벤트가 연결되어 있으면 폴링은 안전망으로만 가끔 수행
+                refreshTick++;
+                boolean live = reservationService.isLiveUpdateConnected();
+                if (!live || refreshTick % LIVE_POLL_EVERY_TICKS == 0) {
+                    logger.debug("자동 새로고침 실행: {} {}층", selectedBuilding, selectedFloor);
+
+                    // 현재 날짜의 예약 변경분만 동기화하여, 바뀐 경우에만 도면 업데이트
+                    reservationService.syncReservationsByDate(today,
+                            reservations -> updateMapWithReservations(buildings, selectedBuilding, selectedFloor, reservations),
+                            errorMessage -> {
+                                // 오류 시에는 조용히 실패 (사용자에게 알리지 않음)
+                                logger.warn("자동 새로고침 실패: {}", errorMessage);
+                            });
+                }
+
+                // 데이터 변경이 없어도 예약 경계 시각을 지났으면 현재 상태를 다시 계산
+                if (nextAvailabilityChange != null && !LocalTime.now().isBefore(nextAvailabilityChange)) {
+                    updateMapWithReservations(buildings, selectedBuilding, selectedFloor, displayedReservations);
                 }
             }
+        });
 
-        }
+        // 타이머 시작
+        refreshTimer.start();
+        subscribeLiveUpdates(buildings, LocalDate.now());
     }
 
     /**
-     * 백엔드 연결 실패 시 사용할 폴백 매핑
+     * 백엔드에 연결할 수 없어 오프라인 저널의 데이터를 보여주는 중이면 창 제목에 표시합니다.
      */
-    private void initializeFallbackMapping() {
-        // 로컬 데이터 기반으로 임시 ID 할당
-        Long currentId = 1L;
-
-        for (Building building : localBuildings) {
-            // 강의실에 임시 ID 할당
-            for (Room room : building.getRooms()) {
-                roomIdMap.put(room.getName(), currentId++);
-            }
-
+    private void updateOfflineIndicator() {
+        String title = OfflineStore.getInstance().isOffline() ? "강의실 예약 시스템 (오프라인)" : "강의실 예약 시스템";
+        if (!title.equals(getTitle())) {
+            setTitle(title);
         }
+    }
 
-        logger.info("폴백 매핑 완료: 강의실 {}개",
-                localBuildings.stream().mapToInt(b -> b.getRooms().size()).sum());
+    /**
+     * 오프라인 동안 저장했던 예약 요청이 서버에서 거절되었음을 알립니다.
+     */
+    private void showOutboxConflict(String message) {
+        JOptionPane.showMessageDialog(this,
+                "오프라인 상태에서 저장한 요청을 처리하지 못했습니다.\n\n" + message,
+                "예약 충돌", JOptionPane.WARNING_MESSAGE);
     }
 
     /**
-     * 자동 새로고침 타이머를 시작합니다.
-     * 10초마다 백엔드에서 최신 예약 정보를 가져와서 버튼 색상을 업데이트합니다.
+     * 오늘 날짜의 실시간 예약 변경을 구독합니다. 날짜가 바뀌면 새 날짜로 다시 구독합니다.
      */
-    private void startAutoRefresh(List<Building> buildings) {
-        // 기존 타이머가 있으면 중지
-        if (refreshTimer != null) {
-            refreshTimer.stop();
+    private void subscribeLiveUpdates(List<Building> buildings, LocalDate date) {
+        if (date.equals(liveSubscriptionDate)) {
+            return;
         }
-
-        // 10초마다 실행되는 타이머 생성
-        refreshTimer = new Timer(10000, e -> {
-            // 현재 선택된 건물과 층이 있을 때만 새로고침
+        if (liveSubscription != null) {
+            liveSubscription.cancel();
+        }
+        liveSubscriptionDate = date;
+        liveSubscription = reservationService.subscribe(date, reservations -> {
             String selectedBuilding = (String) topPanel.getBuildingCombo().getSelectedItem();
             Integer selectedFloor = (Integer) topPanel.getFloorCombo().getSelectedItem();
-
             if (selectedBuilding != null && selectedFloor != null) {
-                System.out.println("자동 새로고침 실행: " + selectedBuilding + " " + selectedFloor + "층");
-
-                // 현재 날짜의 예약 정보를 다시 가져와서 업데이트
-                LocalDate today = LocalDate.now();
-                reservationService.getReservationsByDate(today,
-                        reservations -> SwingUtilities.invokeLater(() -> updateMapWithReservations(buildings, selectedBuilding, selectedFloor, reservations)),
-                        errorMessage -> {
-                            // 오류 시에는 조용히 실패 (사용자에게 알리지 않음)
-                            System.err.println("자동 새로고침 실패: " + errorMessage);
-                        });
+                updateMapWithReservations(buildings, selectedBuilding, selectedFloor, reservations);
             }
         });
+    }
 
-        // 타이머 시작
-        refreshTimer.start();
+    /**
+     * 오늘 예약 중 현재 시각 이후 가장 먼저 오는 시작/종료 시각을 계산합니다.
+     * 이 시각이 지나기 전까지는 예약 데이터가 그대로면 강의실 상태도 바뀌지 않습니다.
+     */
+    private static LocalTime computeNextAvailabilityChange(List<ReservationDto> reservations) {
+        if (reservations == null) {
+            return null;
+        }
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+        LocalTime next = null;
+        for (ReservationDto reservation : reservations) {
+            if (!today.equals(reservation.getDate())) {
+                continue;
+            }
+            for (LocalTime boundary : new LocalTime[] { reservation.getStartTime(), reservation.getEndTime() }) {
+                if (boundary != null && boundary.isAfter(now) && (next == null || boundary.isBefore(next))) {
+                    next = boundary;
+                }
+            }
+        }
+        return next;
     }
 
     /**
@@ -252,9 +346,25 @@ public class MainView extends JFrame {
             System.out.println("자동 새로고침 타이머 중지됨");
         }
 
+        if (liveSubscription != null) {
+            liveSubscription.cancel();
+            liveSubscription = null;
+        }
+
         if (topPanel != null) {
+            // 다음 실행의 첫 화면을 위해 현재 상태를 스냅샷으로 저장
+            WarmStartSnapshot.getInstance().save((String) topPanel.getBuildingCombo().getSelectedItem(),
+                    (Integer) topPanel.getFloorCombo().getSelectedItem());
             topPanel.cleanup();
         }
+
+        OfflineStore.getInstance().removeConflictListener(conflictListener);
+        HttpTransport.getInstance().flushCache();
+        logger.info("예약 캐시 통계: {}", ReservationCache.getInstance());
+        if (EdtMonitor.getSummary() != null) {
+            logger.info("EDT 응답성 통계: {}", EdtMonitor.getSummary());
+        }
+        MetricsFileReporter.getInstance().stop();
     }
 
     /**
@@ -303,6 +413,13 @@ public class MainView extends JFrame {
             myResView.setVisible(true);
         });
 
+        topPanel.setFreeSlotSearchCallback(() -> {
+            if (freeSlotSearchView == null) {
+                freeSlotSearchView = ControllerFactory.getInstance().createFreeSlotSearchView(buildings);
+            }
+            freeSlotSearchView.setVisible(true);
+        });
+
         topPanel.setLogoutCallback(() -> {
             // TokenManager에서 인증 정보 삭제
             TokenManager.getInstance().clearAuthentication();
@@ -377,24 +494,39 @@ public class MainView extends JFrame {
      *                  - 콤보박스 변경에 따라 건물/층 구조도 png 변경
      */
     private void updateMap(List<Building> buildings) {
-        mapPanel.removeAll(); // 기존 버튼 제거
         String selectedBuilding = (String) topPanel.getBuildingCombo().getSelectedItem();
         Integer selectedFloor = (Integer) topPanel.getFloorCombo().getSelectedItem();
+        if (selectedFloor == null || !floorKey(selectedBuilding, selectedFloor).equals(displayedFloorKey)) {
+            // 다른 층으로 바뀌면 예약 정보를 받기 전까지 이전 층의 버튼을 보여주지 않음
+            mapPanel.removeAll();
+            mapPanel.repaint();
+            displayedFloorKey = null;
+        }
         if (selectedFloor == null)
             return; // 층이 선택되지 않은 경우 종료
 
-        // 현재 날짜의 예약 정보를 백엔드에서 가져와서 버튼 색상 업데이트
+        // 이미 동기화된 오늘 예약 스냅샷이 있으면 네트워크 왕복 없이 바로 그림
         LocalDate today = LocalDate.now();
+        List<ReservationDto> stored = reservationService.getStoredReservationsByDate(today);
+        if (stored != null) {
+            updateMapWithReservations(buildings, selectedBuilding, selectedFloor, stored);
+            return;
+        }
+
+        // 현재 날짜의 예약 정보를 백엔드에서 가져와서 버튼 색상 업데이트
         reservationService.getReservationsByDate(today,
                 // 성공 시 콜백
                 reservations -> {
                     // UI 업데이트는 EDT에서 실행
-                    javax.swing.SwingUtilities.invokeLater(() -> updateMapWithReservations(buildings, selectedBuilding, selectedFloor, reservations));
+                    javax.swing.SwingUtilities.invokeLater(() -> {
+                        updateMapWithReservations(buildings, selectedBuilding, selectedFloor, reservations);
+                        StartupMetrics.markFirstUsefulPaint("네트워크");
+                    });
                 },
                 // 오류 시 콜백
                 errorMessage -> {
                     // API 호출 실패 시 기본 로직으로 폴백
-                    System.err.println("예약 정보 조회 실패, 기본 로직 사용: " + errorMessage);
+                    logger.warn("예약 정보 조회 실패, 기본 로직 사용: {}", errorMessage);
                     javax.swing.SwingUtilities.invokeLater(() -> updateMapWithReservations(buildings, selectedBuilding, selectedFloor, null));
                 });
     }
@@ -404,104 +536,89 @@ public class MainView extends JFrame {
      */
     private void updateMapWithReservations(List<Building> buildings, String selectedBuilding,
             Integer selectedFloor, List<ReservationDto> reservations) {
+        long startedAt = System.nanoTime();
+        displayedReservations = reservations;
+        nextAvailabilityChange = computeNextAvailabilityChange(reservations);
+
+        // 이번 스냅샷에 대한 가용성 인덱스를 한 번만 생성 (이후 강의실별 조회는 이 인덱스를 재사용)
+        AvailabilityChecker.indexOf(reservations);
+
         for (Building b : buildings) {
             if (b.getName().equals(selectedBuilding)) {
-                // 강의실 버튼 배치
+                // 층이 바뀐 경우에만 배경과 버튼 배치를 다시 구성
+                String floorKey = floorKey(selectedBuilding, selectedFloor);
+                if (!floorKey.equals(displayedFloorKey)) {
+                    layoutFloor(b, selectedFloor);
+                    displayedFloorKey = floorKey;
+                }
+
+                // 배치된 버튼은 상태만 갱신 (바뀐 버튼만 자기 영역을 다시 그림)
                 for (Room c : b.getRooms()) {
                     if (c.getFloor() == selectedFloor) {
-                        try {
-                            String imageFileName = selectedBuilding + "_" + selectedFloor + "F.png";
-                            URL imageUrl = getClass().getResource("/images/" + imageFileName);
-                            if (imageUrl != null) {
-                                BufferedImage img = ImageIO.read(imageUrl);
-                                mapPanel.setBackgroundImage(img);
-                            }
-
-                            // 백엔드 예약 정보를 바탕으로 현재 사용 가능 여부 판단
-                            boolean isAvailable = AvailabilityChecker.isCurrentlyAvailable(c, reservations, roomIdMap);
-
-                            JButton btn = createRoomButton(c.getName(), isAvailable, reservations);
-                            btn.setBounds(c.getX(), c.getY(), 110, 60); // 크기를 약간 키움
-                            btn.addActionListener(e -> controller.onReservationClicked(c));
-                            mapPanel.add(btn);
-                        } catch (IOException e) {
-                            System.err.println("이미지 로드 실패: " + e.getMessage());
-                        }
+                        // 백엔드 예약 정보를 바탕으로 현재 사용 가능 여부 판단
+                        boolean isAvailable = AvailabilityChecker.isCurrentlyAvailable(c, reservations);
+                        roomButtons.get(c).update(isAvailable, buildRoomToolTip(c, isAvailable, reservations));
                     }
                 }
+            }
+        }
+        MetricsRegistry.getInstance().timer("ui.map.update").recordSince(startedAt, false);
+    }
+
+    /**
+     * 선택된 층의 구조도와 강의실 버튼을 배치합니다. 버튼은 강의실별로 한 번만 생성해 재사용합니다.
+     */
+    private void layoutFloor(Building building, int floor) {
+        mapPanel.removeAll();
+
+        // 층 구조도는 캐시에서 가져옴 (로그인 시 미리 로드되며, 새로고침마다 PNG를 다시 디코딩하지 않음)
+        BufferedImage img = FloorPlanImageCache.getInstance().get(building.getName(), floor);
+        if (img != null) {
+            mapPanel.setBackgroundImage(img);
+        }
 
+        for (Room c : building.getRooms()) {
+            if (c.getFloor() == floor) {
+                RoomButton btn = roomButtons.computeIfAbsent(c, room -> {
+                    RoomButton button = new RoomButton(room.getName());
+                    button.setBounds(room.getX(), room.getY(), 110, 60); // 크기를 약간 키움
+                    button.addActionListener(e -> controller.onReservationClicked(room));
+                    return button;
+                });
+                mapPanel.add(btn);
             }
         }
 
-        mapPanel.repaint();
         mapPanel.revalidate();
+        mapPanel.repaint();
+    }
+
+    private static String floorKey(String building, Integer floor) {
+        return building + "_" + floor;
     }
 
     /**
-     * 강의실 버튼을 생성하고 예약 정보를 바탕으로 상태에 따라 색상/글자색을 지정합니다.
+     * 강의실 버튼의 툴팁을 예약 정보를 바탕으로 만듭니다.
      * 
-     * @param name         강의실 이름
+     * @param room         강의실
      * @param available    가용 여부 (true: 비어있음, false: 사용중)
      * @param reservations 현재 날짜의 예약 정보 (추가 정보 표시용)
-     * @return JButton 객체
+     * @return HTML 툴팁 문자열
      */
-    private JButton createRoomButton(String name, boolean available, List<ReservationDto> reservations) {
-        // 텍스트에서 상태 정보 제거하고 아이콘으로 표현
-        String statusIcon = available ? "✅" : "❌";
-
-        JButton btn = new JButton("<html><center>" + statusIcon + "<br/>" + name + "</center></html>");
-
-        // 색상 설정
-        Color backgroundColor = available ? new Color(46, 204, 113) : new Color(231, 76, 60);
-
-        Color textColor = Color.WHITE;
-        Color hoverColor = available ? new Color(39, 174, 96) : new Color(192, 57, 43);
-
-        btn.setBackground(backgroundColor);
-        btn.setForeground(textColor);
-        btn.setFont(new Font("맑은 고딕", Font.BOLD, 14));
-        btn.setOpaque(true);
-        btn.setBorderPainted(false);
-        btn.setFocusPainted(false);
-        btn.setCursor(new Cursor(Cursor.HAND_CURSOR));
-
-        // 둥근 모서리 효과를 위한 커스텀 버튼
-        btn.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(backgroundColor.darker(), 1),
-                BorderFactory.createEmptyBorder(5, 8, 5, 8)));
-
-        // 호버 효과 추가
-        btn.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                btn.setBackground(hoverColor);
-                btn.setBorder(BorderFactory.createCompoundBorder(
-                        BorderFactory.createLineBorder(hoverColor.darker(), 2),
-                        BorderFactory.createEmptyBorder(4, 7, 4, 7)));
-            }
-
-            @Override
-            public void mouseExited(MouseEvent e) {
-                btn.setBackground(backgroundColor);
-                btn.setBorder(BorderFactory.createCompoundBorder(
-                        BorderFactory.createLineBorder(backgroundColor.darker(), 1),
-                        BorderFactory.createEmptyBorder(5, 8, 5, 8)));
-            }
-        });
-
+    private String buildRoomToolTip(Room room, boolean available, List<ReservationDto> reservations) {
+        String name = room.getName();
         // 향상된 툴팁 추가 (예약 정보 포함)
         String statusText = available ? "예약 가능" : "사용 중";
         String toolTipText = name + " - " + statusText;
 
-        // 예약 정보가 있고 roomIdMap에 해당 강의실이 있으면 추가 정보 표시
-        if (reservations != null && roomIdMap.containsKey(name)) {
-            Long roomId = roomIdMap.get(name);
+        // 예약 정보가 있고 roomId가 매핑된 강의실이면 추가 정보 표시
+        Long roomId = roomRegistry.getRoomId(room);
+        if (reservations != null && roomId != null) {
             LocalDate today = LocalDate.now();
 
-            // 오늘 해당 강의실의 예약 정보 필터링
-            List<ReservationDto> todaysReservations = reservations.stream()
-                    .filter(r -> r.getRoomId().equals(roomId) && r.getDate().equals(today))
-                    .toList();
+            // 오늘 해당 강의실의 예약 정보 (인덱스에서 시작 시간순으로 조회)
+            List<ReservationDto> todaysReservations = AvailabilityChecker.indexOf(reservations)
+                    .getReservations(roomId, today);
 
             if (!todaysReservations.isEmpty()) {
                 toolTipText += "\n\n📅 오늘의 예약:";
@@ -513,9 +630,7 @@ public class MainView extends JFrame {
 
             // 다음 예약까지 남은 시간 정보 추가
             if (available) {
-                Integer minutesToNext = AvailabilityChecker.getMinutesToNextReservation(
-                        new Room(name, "", 0, 0, 0),
-                        reservations, roomIdMap);
+                Integer minutesToNext = AvailabilityChecker.getMinutesToNextReservation(room, reservations);
                 if (minutesToNext != null) {
                     int hours = minutesToNext / 60;
                     int minutes = minutesToNext % 60;
@@ -529,9 +644,7 @@ public class MainView extends JFrame {
         }
 
         toolTipText += "\n\n클릭하여 예약";
-        btn.setToolTipText("<html>" + toolTipText.replace("\n", "<br>") + "</html>");
-
-        return btn;
+        return "<html>" + toolTipText.replace("\n", "<br>") + "</html>";
     }
 
     /**
@@ -543,17 +656,8 @@ public class MainView extends JFrame {
      */
     public void showReservationView(Room room, ReservationDetailView detailView, Component parentComponent) {
         ReservationView reservationView = ControllerFactory.getInstance().createReservationView(room, detailView,
-                parentComponent, roomIdMap);
+                parentComponent);
         reservationView.setVisible(true);
     }
 
-    /**
-     * roomIdMap을 반환합니다.
-     * 
-     * @return 강의실 이름과 roomId 매핑 정보
-     */
-    public Map<String, Long> getRoomIdMap() {
-        return roomIdMap;
-    }
-
 }
\ No newline at end of file
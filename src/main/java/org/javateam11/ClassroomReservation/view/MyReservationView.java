@@ -2,6 +2,7 @@ package org.javateam11.ClassroomReservation.view;
 
 import org.javateam11.ClassroomReservation.model.*;
 import org.javateam11.ClassroomReservation.service.ReservationService;
+import org.javateam11.ClassroomReservation.service.TokenManager;
 import org.javateam11.ClassroomReservation.view.components.StyleManager;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -18,6 +19,9 @@ import java.util.List;
 import java.util.ArrayList;
 
 public class MyReservationView extends JFrame {
+	// 지난 예약은 최근 한 달치만 표시
+	private static final int PAST_DAYS_TO_SHOW = 30;
+
 	private User currentUser;
 	private List<Reservation> reservations;
 	private DefaultTableModel tableModel;
@@ -237,26 +241,21 @@ public class MyReservationView extends JFrame {
 		statusLabel.setText("예약 정보를 불러오는 중...");
 		statusLabel.setForeground(StyleManager.getTextColor());
 
-		reservationService.getAllReservations(
+		// 현재 사용자의 예약만 서버에서 필터링하여 조회
+		String studentId = TokenManager.getInstance().getCurrentStudentId();
+		DateRange dateRange = DateRange.startingFrom(LocalDate.now().minusDays(PAST_DAYS_TO_SHOW));
+
+		reservationService.getMyReservations(studentId, dateRange,
 				// 성공 시 콜백
-				allReservations -> {
-					// 현재 사용자의 예약만 필터링
+				myReservations -> {
 					reservations.clear();
-					for (Reservation reservation : allReservations) {
-						if (reservation.getStudentId().equals(currentUser.getName())) {
-							reservations.add(reservation);
-						}
-					}
+					reservations.addAll(myReservations);
 
 					// 테이블 데이터 업데이트
 					updateTable();
 					refreshButton.setEnabled(true);
 
-					if (reservations.isEmpty()) {
-						statusLabel.setText("예약 내역이 없습니다.");
-					} else {
-						statusLabel.setText("총 " + reservations.size() + "개의 예약이 있습니다.");
-					}
+					updateStatusLabel();
 					updateButtonStates();
 				},
 				// 오류 시 콜백
@@ -376,7 +375,10 @@ public class MyReservationView extends JFrame {
 	}
 
 	private void cancelReservation(Reservation reservation, int rowIndex) {
-		cancelButton.setEnabled(false);
+		// 서버 응답을 기다리지 않고 목록에서 먼저 제거 (실패하면 같은 자리에 되돌림)
+		reservations.remove(rowIndex);
+		tableModel.removeRow(rowIndex);
+		updateButtonStates();
 		statusLabel.setText("예약을 취소하는 중...");
 		statusLabel.setForeground(StyleManager.getWarningColor());
 
@@ -384,37 +386,23 @@ public class MyReservationView extends JFrame {
 				reservation.getId(),
 				// 성공 시 콜백
 				() -> {
-					// UI에서 해당 행 제거
-					reservations.remove(rowIndex);
-					tableModel.removeRow(rowIndex);
-
-					statusLabel.setText("예약이 성공적으로 취소되었습니다.");
-					statusLabel.setForeground(StyleManager.getSuccessColor());
+					updateStatusLabel();
 
 					JOptionPane.showMessageDialog(MyReservationView.this,
 							"예약이 성공적으로 취소되었습니다.",
 							"취소 완료",
 							JOptionPane.INFORMATION_MESSAGE);
-
-					updateButtonStates();
-
-					// 3초 후 상태 텍스트 업데이트
-					Timer timer = new Timer(3000, ev -> {
-						if (reservations.isEmpty()) {
-							statusLabel.setText("예약 내역이 없습니다.");
-						} else {
-							statusLabel.setText("총 " + reservations.size() + "개의 예약이 있습니다.");
-						}
-						statusLabel.setForeground(StyleManager.getTextColor());
-					});
-					timer.setRepeats(false);
-					timer.start();
 				},
 				// 오류 시 콜백
 				errorMessage -> {
+					int restoreIndex = Math.min(rowIndex, reservations.size());
+					reservations.add(restoreIndex, reservation);
+					updateTable();
+					reservationTable.setRowSelectionInterval(restoreIndex, restoreIndex);
+					updateButtonStates();
+
 					statusLabel.setText("예약 취소 실패");
 					statusLabel.setForeground(StyleManager.getDangerColor());
-					cancelButton.setEnabled(true);
 
 					JOptionPane.showMessageDialog(MyReservationView.this,
 							"예약 취소에 실패했습니다.\n\n" +
@@ -423,4 +411,13 @@ public class MyReservationView extends JFrame {
 							JOptionPane.ERROR_MESSAGE);
 				});
 	}
+
+	private void updateStatusLabel() {
+		if (reservations.isEmpty()) {
+			statusLabel.setText("예약 내역이 없습니다.");
+		} else {
+			statusLabel.setText("총 " + reservations.size() + "개의 예약이 있습니다.");
+		}
+		statusLabel.setForeground(StyleManager.getTextColor());
+	}
 }
\ No newline at end of file
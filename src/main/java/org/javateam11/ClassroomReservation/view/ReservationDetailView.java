@@ -3,8 +3,10 @@ package org.javateam11.ClassroomReservation.view;
 import org.javateam11.ClassroomReservation.controller.ReservationDetailController;
 import org.javateam11.ClassroomReservation.model.SlotStatus;
 import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.javateam11.ClassroomReservation.service.ReservationEventChannel;
 import org.javateam11.ClassroomReservation.service.ReservationService;
 import org.javateam11.ClassroomReservation.service.TokenManager;
+import org.javateam11.ClassroomReservation.util.SlotOccupancy;
 import org.javateam11.ClassroomReservation.view.components.StyleManager;
 
 import javax.swing.*;
@@ -27,104 +29,72 @@ class TimelineTableModel extends AbstractTableModel {
     private final int slotCount;
     private final SlotStatus[] statuses;
     private final String[] columnNames;
-    private final LocalTime[] timeSlots;
-    private final int intervalMinutes;
+    // 예약 점유 상태 (내 예약 / 다른 사람 예약 비트맵)
+    private final SlotOccupancy occupancy;
 
     public TimelineTableModel(int startHour, int endHour, int intervalMinutes) {
-        this.intervalMinutes = intervalMinutes;
-        this.slotCount = (endHour - startHour) * 60 / intervalMinutes;
+        this.occupancy = new SlotOccupancy(startHour, endHour, intervalMinutes);
+        this.slotCount = occupancy.getSlotCount();
         this.statuses = new SlotStatus[slotCount];
         this.columnNames = new String[slotCount];
-        this.timeSlots = new LocalTime[slotCount];
 
         // 초기 상태, 컬럼 이름 설정
         for (int i = 0; i < slotCount; i++) {
             statuses[i] = SlotStatus.AVAILABLE;
-            int totalMinutes = startHour * 60 + i * intervalMinutes;
-            int h = totalMinutes / 60;
-            int m = totalMinutes % 60;
-            timeSlots[i] = LocalTime.of(h, m);
-            columnNames[i] = String.format("%02d:%02d", h, m);
+            int totalMinutes = occupancy.slotStartMinute(i);
+            columnNames[i] = String.format("%02d:%02d", totalMinutes / 60, totalMinutes % 60);
         }
     }
 
     public void updateWithReservations(List<ReservationDto> reservations, LocalDate queryDate) {
-        LocalTime currentTime = LocalTime.now();
+        // 현재 로그인한 사용자의 학번 가져오기
+        String currentStudentId = TokenManager.getInstance().getCurrentStudentId();
+
+        // 예약된 시간대를 비트맵에 표시
+        occupancy.clear();
+        for (ReservationDto reservation : reservations) {
+            boolean isMyReservation = currentStudentId != null && currentStudentId.equals(reservation.getStudentId());
+            occupancy.mark(reservation.getStartTime(), reservation.getEndTime(), isMyReservation);
+        }
+
         LocalDate currentDate = LocalDate.now();
+        int currentSecond = LocalTime.now().toSecondOfDay();
 
-        // 모든 슬롯을 초기화 (현재 날짜와 시간 기준으로)
         for (int i = 0; i < slotCount; i++) {
-            LocalTime slotTime = timeSlots[i];
-            LocalTime slotEndTime = slotTime.plusMinutes(intervalMinutes);
-
             // 조회 날짜가 현재 날짜보다 이전이면 모든 슬롯을 PAST로 설정
             if (queryDate.isBefore(currentDate)) {
                 statuses[i] = SlotStatus.PAST;
+                continue;
             }
+
             // 조회 날짜가 현재 날짜와 같으면 현재 시간 기준으로 판단
-            else if (queryDate.isEqual(currentDate)) {
-                if (slotEndTime.isBefore(currentTime) || slotEndTime.equals(currentTime)) {
+            if (queryDate.isEqual(currentDate)) {
+                int slotStartSecond = occupancy.slotStartMinute(i) * 60;
+                int slotEndSecond = occupancy.slotEndMinute(i) * 60;
+                if (slotEndSecond <= currentSecond) {
                     statuses[i] = SlotStatus.PAST;
-                } else {
-                    statuses[i] = SlotStatus.AVAILABLE;
+                    continue;
+                }
+                if (occupancy.isOccupied(i) && slotStartSecond < currentSecond) {
+                    // 현재 사용 중인 시간대
+                    statuses[i] = SlotStatus.IN_USE;
+                    continue;
                 }
             }
-            // 조회 날짜가 현재 날짜보다 이후면 모든 슬롯을 AVAILABLE로 설정
-            else {
+
+            // 미래의 슬롯 - 예약 여부와 내 예약인지 확인
+            if (occupancy.isMine(i)) {
+                statuses[i] = SlotStatus.MY_RESERVED;
+            } else if (occupancy.isOthers(i)) {
+                statuses[i] = SlotStatus.RESERVED;
+            } else {
                 statuses[i] = SlotStatus.AVAILABLE;
             }
         }
 
-        // 예약된 시간대를 표시
-        for (ReservationDto reservation : reservations) {
-            markReservedTime(reservation.getStartTime(), reservation.getEndTime(),
-                    reservation.getStudentId(), queryDate, currentDate, currentTime);
-        }
-
         fireTableDataChanged();
     }
 
-    private void markReservedTime(LocalTime startTime, LocalTime endTime, String studentId,
-            LocalDate queryDate, LocalDate currentDate, LocalTime currentTime) {
-        // 현재 로그인한 사용자의 학번 가져오기
-        String currentStudentId = TokenManager.getInstance().getCurrentStudentId();
-        boolean isMyReservation = currentStudentId != null && currentStudentId.equals(studentId);
-
-        for (int i = 0; i < slotCount; i++) {
-            LocalTime slotTime = timeSlots[i];
-            LocalTime slotEndTime = slotTime.plusMinutes(intervalMinutes);
-
-            // 슬롯이 예약 시간과 겹치는지 확인
-            if (isTimeOverlap(slotTime, slotEndTime, startTime, endTime)) {
-                // 조회 날짜가 현재 날짜보다 이전이면 PAST 상태 유지
-                if (queryDate.isBefore(currentDate)) {
-                    statuses[i] = SlotStatus.PAST;
-                }
-                // 조회 날짜가 현재 날짜와 같으면 현재 시간 기준으로 판단
-                else if (queryDate.isEqual(currentDate)) {
-                    if (slotEndTime.isBefore(currentTime) || slotEndTime.equals(currentTime)) {
-                        statuses[i] = SlotStatus.PAST;
-                    } else if (slotTime.isBefore(currentTime) && slotEndTime.isAfter(currentTime)) {
-                        // 현재 사용 중인 시간대
-                        statuses[i] = SlotStatus.IN_USE;
-                    } else {
-                        // 미래의 예약 - 내 예약인지 확인
-                        statuses[i] = isMyReservation ? SlotStatus.MY_RESERVED : SlotStatus.RESERVED;
-                    }
-                }
-                // 조회 날짜가 현재 날짜보다 이후면 예약된 시간으로 표시
-                else {
-                    statuses[i] = isMyReservation ? SlotStatus.MY_RESERVED : SlotStatus.RESERVED;
-                }
-            }
-        }
-    }
-
-    private boolean isTimeOverlap(LocalTime slot1Start, LocalTime slot1End,
-            LocalTime slot2Start, LocalTime slot2End) {
-        return slot1Start.isBefore(slot2End) && slot2Start.isBefore(slot1End);
-    }
-
     @Override
     public int getRowCount() {
         return 1;
@@ -212,6 +182,10 @@ public class ReservationDetailView extends JFrame {
     private JLabel buildingNameLavel;
     private Long currentRoomId;
 
+    // 조회 중인 날짜의 실시간 예약 변경 구독
+    private ReservationEventChannel.Subscription liveSubscription;
+    private LocalDate liveSubscriptionDate;
+
     public void setController(ReservationDetailController reservationDetailController) {
         this.reservationDetailController = reservationDetailController;
         String title = "상세보기: " + reservationDetailController.getName();
@@ -240,6 +214,8 @@ public class ReservationDetailView extends JFrame {
     private void initializeUI() {
         setSize(800, 350);
         setLocationRelativeTo(null);
+        // 창을 닫으면 dispose되어 실시간 구독도 함께 해제됨
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setResizable(false);
         setLayout(new BorderLayout());
         setBackground(StyleManager.getBackgroundColor());
@@ -479,11 +455,38 @@ public class ReservationDetailView extends JFrame {
                     reservations -> onReservationDataLoaded(reservations, date),
                     this::onLoadError);
 
+            // 창이 열려 있는 동안 해당 날짜의 예약 생성/삭제를 실시간으로 타임라인에 반영
+            subscribeLiveUpdates(date);
+
         } catch (DateTimeParseException e) {
             showError("올바른 날짜 형식(yyyy-MM-dd)을 입력해주세요.");
         }
     }
 
+    private void subscribeLiveUpdates(LocalDate date) {
+        if (date.equals(liveSubscriptionDate)) {
+            return;
+        }
+        cancelLiveUpdates();
+        liveSubscriptionDate = date;
+        liveSubscription = reservationService.subscribe(date,
+                reservations -> onReservationDataLoaded(reservations, date));
+    }
+
+    private void cancelLiveUpdates() {
+        if (liveSubscription != null) {
+            liveSubscription.cancel();
+            liveSubscription = null;
+        }
+        liveSubscriptionDate = null;
+    }
+
+    @Override
+    public void dispose() {
+        cancelLiveUpdates();
+        super.dispose();
+    }
+
     private void onReservationDataLoaded(List<ReservationDto> reservations, LocalDate queryDate) {
         // 현재 강의실의 예약만 필터링 (roomId 기준)
         List<ReservationDto> roomReservations = new ArrayList<>();
@@ -1,24 +1,38 @@
 package org.javateam11.ClassroomReservation.view;
 
 import org.javateam11.ClassroomReservation.controller.ReservationController;
+import org.javateam11.ClassroomReservation.model.Recurrence;
 import org.javateam11.ClassroomReservation.util.FontUtils;
 
 import javax.swing.*;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 예약 생성을 위한 뷰 클래스
  * 다른 view 패턴과 동일하게 JFrame을 상속받아 구현
+ * 반복(매주, N일마다, 날짜 목록)을 선택하면 여러 날짜를 한 번에 예약합니다.
  */
 public class ReservationView extends JFrame {
 
+    // 반복 선택 항목
+    private static final String REPEAT_NONE = "반복 안 함";
+    private static final String REPEAT_WEEKLY = "매주";
+    private static final String REPEAT_EVERY_N_DAYS = "N일마다";
+    private static final String REPEAT_DATE_LIST = "날짜 목록";
+
     private ReservationController reservationController;
 
     private JTextField dateField;
     private JTextField startField;
     private JTextField endField;
+    private JLabel dateLabel;
+    private JComboBox<String> repeatCombo;
+    private JTextField untilField;
+    private JSpinner intervalSpinner;
     private JButton reserveButton;
     private JButton cancelButton;
     private JLabel statusLabel;
@@ -36,7 +50,7 @@ public class ReservationView extends JFrame {
     private void initializeUI() {
         String roomName = reservationController != null ? reservationController.getRoomName() : "강의실";
         setTitle(roomName + " 예약");
-        setSize(450, 450);
+        setSize(450, 580);
         setLocationRelativeTo(null);
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setResizable(false);
@@ -67,7 +81,7 @@ public class ReservationView extends JFrame {
         gbc.insets = new Insets(8, 10, 8, 10);
 
         // 날짜 라벨과 필드
-        JLabel dateLabel = new JLabel("날짜 (yyyy-MM-dd):");
+        dateLabel = new JLabel("날짜 (yyyy-MM-dd):");
         dateLabel.setFont(FontUtils.getLabelFont());
         gbc.gridx = 0;
         gbc.gridy = 0;
@@ -135,6 +149,28 @@ public class ReservationView extends JFrame {
         gbc.weightx = 1.0;
         inputPanel.add(endField, gbc);
 
+        // 반복 설정
+        repeatCombo = new JComboBox<>(new String[] { REPEAT_NONE, REPEAT_WEEKLY, REPEAT_EVERY_N_DAYS,
+                REPEAT_DATE_LIST });
+        repeatCombo.setFont(FontUtils.getPlainFont());
+        addInputRow(inputPanel, gbc, 3, "반복:", repeatCombo);
+
+        untilField = new JTextField(20);
+        untilField.setFont(FontUtils.getPlainFont());
+        untilField.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(200, 200, 200)),
+                BorderFactory.createEmptyBorder(8, 10, 8, 10)));
+        untilField.setText(LocalDate.now().plusWeeks(15).toString());
+        untilField.setPreferredSize(new Dimension(200, 35));
+        untilField.setMinimumSize(new Dimension(200, 35));
+        addInputRow(inputPanel, gbc, 4, "반복 종료 (yyyy-MM-dd):", untilField);
+
+        intervalSpinner = new JSpinner(new SpinnerNumberModel(2, 1, 30, 1));
+        intervalSpinner.setFont(FontUtils.getPlainFont());
+        addInputRow(inputPanel, gbc, 5, "간격 (일):", intervalSpinner);
+
+        updateRepeatFields();
+
         // 버튼 패널
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
         buttonPanel.setBackground(Color.WHITE);
@@ -209,7 +245,47 @@ public class ReservationView extends JFrame {
         add(mainPanel, BorderLayout.CENTER);
     }
 
+    private void addInputRow(JPanel inputPanel, GridBagConstraints gbc, int row, String labelText,
+            JComponent field) {
+        JLabel label = new JLabel(labelText);
+        label.setFont(FontUtils.getLabelFont());
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        gbc.fill = GridBagConstraints.NONE;
+        gbc.weightx = 0.0;
+        inputPanel.add(label, gbc);
+
+        gbc.gridx = 1;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.weightx = 1.0;
+        inputPanel.add(field, gbc);
+    }
+
+    /**
+     * 선택한 반복 방식에 필요한 입력 필드만 활성화
+     */
+    private void updateRepeatFields() {
+        Object repeat = repeatCombo.getSelectedItem();
+        boolean ranged = REPEAT_WEEKLY.equals(repeat) || REPEAT_EVERY_N_DAYS.equals(repeat);
+        untilField.setEnabled(ranged);
+        intervalSpinner.setEnabled(REPEAT_EVERY_N_DAYS.equals(repeat));
+        dateLabel.setText(REPEAT_DATE_LIST.equals(repeat) ? "날짜 (쉼표로 구분):" : "날짜 (yyyy-MM-dd):");
+    }
+
+    /**
+     * 날짜와 시간을 미리 채움 (빈 강의실 검색 결과에서 열 때 사용)
+     */
+    public void prefill(LocalDate date, LocalTime start, LocalTime end) {
+        repeatCombo.setSelectedItem(REPEAT_NONE);
+        dateField.setText(date.toString());
+        startField.setText(start.toString());
+        endField.setText(end.toString());
+    }
+
     private void setupEventListeners() {
+        // 반복 방식 변경 이벤트
+        repeatCombo.addActionListener(e -> updateRepeatFields());
+
         // 예약 버튼 클릭 이벤트
         reserveButton.addActionListener(e -> performReservation());
 
@@ -228,7 +304,6 @@ public class ReservationView extends JFrame {
                 return;
             }
 
-            LocalDate date = LocalDate.parse(dateText);
             LocalTime start = LocalTime.parse(startText);
             LocalTime end = LocalTime.parse(endText);
 
@@ -237,14 +312,19 @@ public class ReservationView extends JFrame {
                 return;
             }
 
-            if (date.isBefore(LocalDate.now())) {
+            Recurrence recurrence = buildRecurrence(dateText);
+            if (recurrence.getStart().isBefore(LocalDate.now())) {
                 showStatus("과거 날짜는 예약할 수 없습니다.", Color.RED);
                 return;
             }
 
             // 예약 처리 컨트롤러 호출
             if (reservationController != null) {
-                reservationController.createReservation(date, start, end);
+                if (recurrence.getType() == Recurrence.Type.ONCE) {
+                    reservationController.createReservation(recurrence.getStart(), start, end);
+                } else {
+                    reservationController.createReservations(recurrence, start, end);
+                }
             }
 
             // 성공 시 창 닫기
@@ -255,6 +335,32 @@ public class ReservationView extends JFrame {
         }
     }
 
+    /**
+     * 입력한 날짜와 반복 설정으로 반복 규칙 생성
+     */
+    private Recurrence buildRecurrence(String dateText) {
+        Object repeat = repeatCombo.getSelectedItem();
+        if (REPEAT_DATE_LIST.equals(repeat)) {
+            List<LocalDate> dates = new ArrayList<>();
+            for (String token : dateText.split("[,\\s]+")) {
+                if (!token.isEmpty()) {
+                    dates.add(LocalDate.parse(token));
+                }
+            }
+            return Recurrence.dates(dates);
+        }
+
+        LocalDate date = LocalDate.parse(dateText);
+        if (REPEAT_WEEKLY.equals(repeat)) {
+            return Recurrence.weekly(date, LocalDate.parse(untilField.getText().trim()));
+        }
+        if (REPEAT_EVERY_N_DAYS.equals(repeat)) {
+            return Recurrence.everyNDays(date, LocalDate.parse(untilField.getText().trim()),
+                    (Integer) intervalSpinner.getValue());
+        }
+        return Recurrence.once(date);
+    }
+
     private void showStatus(String message, Color color) {
         statusLabel.setText(message);
         statusLabel.setForeground(color);
@@ -10,6 +10,8 @@ import javax.swing.JPanel;
  */
 public class MapPanel extends JPanel {
     private BufferedImage backgroundImage;
+    // 패널 크기에 맞게 미리 축소/확대해 둔 배경 이미지 (크기나 원본이 바뀔 때만 다시 생성)
+    private BufferedImage scaledBackground;
 
     public MapPanel() {
         setOpaque(true);
@@ -22,10 +24,38 @@ public class MapPanel extends JPanel {
      * @param img 현재 건물 구조도
      */
     public void setBackgroundImage(BufferedImage img) {
+        if (this.backgroundImage == img) {
+            return; // 같은 구조도면 다시 그릴 필요 없음
+        }
         this.backgroundImage = img;
+        this.scaledBackground = null;
         repaint();
     }
 
+    /**
+     * 현재 패널 크기에 맞춘 배경 이미지 반환
+     * 매 repaint마다 bicubic 보간으로 원본을 늘려 그리지 않도록 한 번 스케일한 결과를 재사용합니다.
+     */
+    private BufferedImage getScaledBackground(int width, int height) {
+        if (scaledBackground == null || scaledBackground.getWidth() != width
+                || scaledBackground.getHeight() != height) {
+            BufferedImage scaled = getGraphicsConfiguration() != null
+                    ? getGraphicsConfiguration().createCompatibleImage(width, height,
+                            backgroundImage.getTransparency())
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = scaled.createGraphics();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g2d.drawImage(backgroundImage, 0, 0, width, height, null);
+            } finally {
+                g2d.dispose();
+            }
+            scaledBackground = scaled;
+        }
+        return scaledBackground;
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -36,9 +66,9 @@ public class MapPanel extends JPanel {
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
-        if (backgroundImage != null) {
-            // 이미지를 패널 크기에 맞게 조정하여 그리기
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        if (backgroundImage != null && getWidth() > 0 && getHeight() > 0) {
+            // 패널 크기에 맞게 조정된 이미지 그리기
+            g2d.drawImage(getScaledBackground(getWidth(), getHeight()), 0, 0, this);
             // 배경 이미지 위에 그리드 패턴 그리기 (투명도 낮춤)
             drawGridPattern(g2d, true);
         } else {
@@ -0,0 +1,99 @@
+package org.javateam11.ClassroomReservation.view.components;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * 도면 위에 배치되는 강의실 버튼 컴포넌트
+ * 강의실마다 한 번만 만들어 재사용하며, 새로고침 시에는 update()로 상태(색상/아이콘/툴팁)만 바꿉니다.
+ * 상태가 그대로면 아무 것도 하지 않고, 바뀐 경우에도 Swing이 버튼 영역만 다시 그립니다.
+ */
+public class RoomButton extends JButton {
+    private static final Font BUTTON_FONT = new Font("맑은 고딕", Font.BOLD, 14);
+    private static final Cursor HAND_CURSOR = new Cursor(Cursor.HAND_CURSOR);
+
+    private static final Color AVAILABLE_COLOR = new Color(46, 204, 113);
+    private static final Color AVAILABLE_HOVER_COLOR = new Color(39, 174, 96);
+    private static final Color OCCUPIED_COLOR = new Color(231, 76, 60);
+    private static final Color OCCUPIED_HOVER_COLOR = new Color(192, 57, 43);
+
+    private static final Border AVAILABLE_BORDER = createBorder(AVAILABLE_COLOR, 1);
+    private static final Border AVAILABLE_HOVER_BORDER = createBorder(AVAILABLE_HOVER_COLOR, 2);
+    private static final Border OCCUPIED_BORDER = createBorder(OCCUPIED_COLOR, 1);
+    private static final Border OCCUPIED_HOVER_BORDER = createBorder(OCCUPIED_HOVER_COLOR, 2);
+
+    private final String roomName;
+    // 아직 상태가 반영되지 않았으면 null
+    private Boolean available;
+    private boolean hovered = false;
+
+    public RoomButton(String roomName) {
+        this.roomName = roomName;
+
+        setForeground(Color.WHITE);
+        setFont(BUTTON_FONT);
+        setOpaque(true);
+        setBorderPainted(false);
+        setFocusPainted(false);
+        setCursor(HAND_CURSOR);
+
+        // 호버 효과 (현재 상태의 색상을 사용)
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseEntered(MouseEvent e) {
+                hovered = true;
+                applyColors();
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                hovered = false;
+                applyColors();
+            }
+        });
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    /**
+     * 강의실 상태 반영 (바뀐 속성만 갱신)
+     *
+     * @param available   가용 여부 (true: 비어있음, false: 사용중)
+     * @param toolTipText 툴팁 (HTML)
+     */
+    public void update(boolean available, String toolTipText) {
+        if (this.available == null || this.available != available) {
+            this.available = available;
+            // 텍스트에서 상태 정보 제거하고 아이콘으로 표현
+            String statusIcon = available ? "✅" : "❌";
+            setText("<html><center>" + statusIcon + "<br/>" + roomName + "</center></html>");
+            applyColors();
+        }
+        if (!toolTipText.equals(getToolTipText())) {
+            setToolTipText(toolTipText);
+        }
+    }
+
+    private void applyColors() {
+        boolean isAvailable = available == null || available;
+        if (hovered) {
+            setBackground(isAvailable ? AVAILABLE_HOVER_COLOR : OCCUPIED_HOVER_COLOR);
+            setBorder(isAvailable ? AVAILABLE_HOVER_BORDER : OCCUPIED_HOVER_BORDER);
+        } else {
+            setBackground(isAvailable ? AVAILABLE_COLOR : OCCUPIED_COLOR);
+            setBorder(isAvailable ? AVAILABLE_BORDER : OCCUPIED_BORDER);
+        }
+    }
+
+    private static Border createBorder(Color color, int thickness) {
+        int padding = thickness == 1 ? 5 : 4;
+        return BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(color.darker(), thickness),
+                BorderFactory.createEmptyBorder(padding, padding + 3, padding, padding + 3));
+    }
+}
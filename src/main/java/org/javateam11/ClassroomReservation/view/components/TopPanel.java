@@ -37,6 +37,7 @@ public class TopPanel extends JPanel {
     private Runnable myReservationCallback;
     private Runnable myInfoCallback;
     private Runnable logoutCallback;
+    private Runnable freeSlotSearchCallback;
 
     /**
      * TopPanel 생성자
@@ -76,9 +77,16 @@ public class TopPanel extends JPanel {
      * 레이아웃을 설정합니다.
      */
     private void setupLayout() {
-        // 상단 좌측 - 빈 공간 (필요시 추가 메뉴 배치 가능)
+        // 상단 좌측 - 빈 강의실 찾기 버튼
         JPanel leftPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
         leftPanel.setBackground(TOPBAR_COLOR);
+        JButton freeSlotSearchBtn = StyleManager.createStyledButton("🔍 빈 강의실 찾기", StyleManager.getPrimaryColor());
+        freeSlotSearchBtn.addActionListener(e -> {
+            if (freeSlotSearchCallback != null) {
+                freeSlotSearchCallback.run();
+            }
+        });
+        leftPanel.add(freeSlotSearchBtn);
 
         // 상단 중앙 - 건물/층 선택 콤보박스
         JPanel centerPanel = createSelectionPanel();
@@ -208,6 +216,10 @@ public class TopPanel extends JPanel {
         updateUserDropdownButton();
     }
 
+    public void setFreeSlotSearchCallback(Runnable callback) {
+        this.freeSlotSearchCallback = callback;
+    }
+
     public void setLogoutCallback(Runnable callback) {
         this.logoutCallback = callback;
         updateUserDropdownButton();
@@ -0,0 +1,77 @@
+package org.javateam11.ClassroomReservation.dto.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FastLocalDateDeserializerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(LocalDate.class, new FastLocalDateDeserializer()));
+    private static final ObjectReader READER = MAPPER.readerFor(LocalDate.class);
+
+    @Test
+    void parsesIsoDate() throws Exception {
+        assertEquals(LocalDate.of(2025, 6, 10), read("\"2025-06-10\""));
+        assertEquals(LocalDate.of(2024, 2, 29), read("\"2024-02-29\""));
+    }
+
+    @Test
+    void fallsBackToIsoParsingForOtherLayouts() throws Exception {
+        assertEquals(LocalDate.of(2025, 6, 10), read("\" 2025-06-10 \""));
+    }
+
+    @Test
+    void rejectsBadDigits() {
+        assertThrows(InvalidFormatException.class, () -> read("\"2025-0a-10\""));
+        assertThrows(InvalidFormatException.class, () -> read("\"2025/06/10\""));
+        assertThrows(InvalidFormatException.class, () -> read("\"25-06-10\""));
+    }
+
+    @Test
+    void reportsOutOfRangeValuesAsWeirdString() {
+        InvalidFormatException e = assertThrows(InvalidFormatException.class, () -> read("\"2025-13-01\""));
+        assertEquals("2025-13-01", e.getValue());
+        assertThrows(InvalidFormatException.class, () -> read("\"2025-02-30\""));
+        assertThrows(InvalidFormatException.class, () -> read("\"2025-06-00\""));
+    }
+
+    @Test
+    void returnsNullForEmptyString() throws Exception {
+        assertNull(read("\"\""));
+    }
+
+    @Test
+    void rejectsNonStringTokens() {
+        assertThrows(MismatchedInputException.class, () -> read("20250610"));
+    }
+
+    @Test
+    void readsFromNonZeroTextOffset() throws Exception {
+        try (JsonParser parser = MAPPER.createParser("{\"padding\":\"xxxx\",\"date\":\"2025-06-10\"}")) {
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            parser.nextToken();
+            parser.nextToken();
+            parser.nextToken();
+            assertEquals(JsonToken.VALUE_STRING, parser.nextToken());
+            assertTrue(parser.getTextOffset() > 0);
+            assertEquals(LocalDate.of(2025, 6, 10), READER.readValue(parser));
+        }
+    }
+
+    private static LocalDate read(String json) throws Exception {
+        return READER.readValue(json);
+    }
+}
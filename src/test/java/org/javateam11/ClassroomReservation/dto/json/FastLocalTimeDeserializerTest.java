@@ -0,0 +1,88 @@
+package org.javateam11.ClassroomReservation.dto.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FastLocalTimeDeserializerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(LocalTime.class, new FastLocalTimeDeserializer()));
+    private static final ObjectReader READER = MAPPER.readerFor(LocalTime.class);
+
+    @Test
+    void parsesHourAndMinute() throws Exception {
+        assertEquals(LocalTime.of(14, 5), read("\"14:05\""));
+        assertEquals(LocalTime.MIDNIGHT, read("\"00:00\""));
+        assertEquals(LocalTime.of(23, 59), read("\"23:59\""));
+    }
+
+    @Test
+    void parsesHourMinuteAndSecond() throws Exception {
+        assertEquals(LocalTime.of(9, 30, 15), read("\"09:30:15\""));
+    }
+
+    @Test
+    void fallsBackToIsoFormat() throws Exception {
+        assertEquals(LocalTime.of(9, 30, 15, 500_000_000), read("\"09:30:15.5\""));
+        assertEquals(LocalTime.of(9, 30), read("\" 09:30 \""));
+    }
+
+    @Test
+    void rejectsBadDigits() {
+        assertThrows(InvalidFormatException.class, () -> read("\"1a:30\""));
+        assertThrows(InvalidFormatException.class, () -> read("\"10:30:1x\""));
+        assertThrows(InvalidFormatException.class, () -> read("\"10-30\""));
+    }
+
+    @Test
+    void reportsOutOfRangeValuesAsWeirdString() {
+        InvalidFormatException e = assertThrows(InvalidFormatException.class, () -> read("\"25:00\""));
+        assertEquals("25:00", e.getValue());
+        assertThrows(InvalidFormatException.class, () -> read("\"10:60\""));
+        assertThrows(InvalidFormatException.class, () -> read("\"10:30:60\""));
+    }
+
+    @Test
+    void returnsNullForEmptyString() throws Exception {
+        assertNull(read("\"\""));
+        assertNull(read("\"   \""));
+    }
+
+    @Test
+    void rejectsNonStringTokens() {
+        assertThrows(MismatchedInputException.class, () -> read("1030"));
+    }
+
+    @Test
+    void readsFromNonZeroTextOffset() throws Exception {
+        // 앞에 다른 값이 있으면 파서 버퍼 안에서 시간 문자열이 0이 아닌 위치에서 시작함
+        try (JsonParser parser = MAPPER.createParser("[\"padding\", \"07:45\", \"07:45:30\"]")) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            parser.nextToken();
+            parser.nextToken();
+            assertTrue(parser.getTextOffset() > 0);
+            assertEquals(LocalTime.of(7, 45), READER.readValue(parser));
+
+            parser.nextToken();
+            assertTrue(parser.getTextOffset() > 0);
+            assertEquals(LocalTime.of(7, 45, 30), READER.readValue(parser));
+        }
+    }
+
+    private static LocalTime read(String json) throws Exception {
+        return READER.readValue(json);
+    }
+}
@@ -0,0 +1,36 @@
+package org.javateam11.ClassroomReservation.dto.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FastTimeDigitsTest {
+
+    @Test
+    void parsesDigitsAtOffset() {
+        char[] buffer = "xx2025-06".toCharArray();
+
+        assertEquals(2025, FastTimeDigits.parse(buffer, 2, 4));
+        assertEquals(6, FastTimeDigits.parse(buffer, 7, 2));
+    }
+
+    @Test
+    void keepsLeadingZeros() {
+        assertEquals(7, FastTimeDigits.parse("007".toCharArray(), 0, 3));
+        assertEquals(0, FastTimeDigits.parse("00".toCharArray(), 0, 2));
+    }
+
+    @Test
+    void rejectsNonDigits() {
+        assertEquals(-1, FastTimeDigits.parse("1a".toCharArray(), 0, 2));
+        assertEquals(-1, FastTimeDigits.parse("-1".toCharArray(), 0, 2));
+        assertEquals(-1, FastTimeDigits.parse("1:".toCharArray(), 0, 2));
+        assertEquals(-1, FastTimeDigits.parse(" 1".toCharArray(), 0, 2));
+    }
+
+    @Test
+    void onlyReadsRequestedRange() {
+        // 범위 밖의 숫자가 아닌 문자는 무시
+        assertEquals(12, FastTimeDigits.parse(":12:".toCharArray(), 1, 2));
+    }
+}
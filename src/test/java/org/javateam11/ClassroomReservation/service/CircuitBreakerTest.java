@@ -0,0 +1,120 @@
+package org.javateam11.ClassroomReservation.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000);
+
+        failRequests(breaker, 2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        failRequests(breaker, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, breaker::acquire);
+        assertTrue(e.getRetryAfterMillis() > 0);
+    }
+
+    @Test
+    void successResetsFailureCount() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000);
+
+        failRequests(breaker, 2);
+        breaker.acquire();
+        breaker.onSuccess();
+        failRequests(breaker, 2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void allowsOneProbeAfterOpenPeriod() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        failRequests(breaker, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // 차단 시간이 지나면 시험 요청 하나만 허용
+        breaker.acquire();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, breaker::acquire);
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertDoesNotThrow(breaker::acquire);
+    }
+
+    @Test
+    void reopensWhenProbeFails() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(3, 0);
+        failRequests(breaker, 3);
+
+        breaker.acquire();
+        breaker.onFailure();
+
+        // 시험 요청은 기준 횟수와 관계없이 한 번의 실패로 다시 차단
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void ignoredProbeFreesTheProbeSlot() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        failRequests(breaker, 1);
+
+        breaker.acquire();
+        breaker.onIgnored();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertDoesNotThrow(breaker::acquire);
+    }
+
+    @Test
+    void recordCountsOnlyServerFailures() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(2, 60_000);
+
+        breaker.acquire();
+        breaker.record(new CompletionException(new ApiException(503, "unavailable")));
+        // 4xx 응답은 서버가 살아 있다는 뜻이므로 연속 실패를 초기화
+        breaker.acquire();
+        breaker.record(new ApiException(404, "not found"));
+        breaker.acquire();
+        breaker.record(new SocketTimeoutException("timeout"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.acquire();
+        breaker.record(new CompletionException(new ConnectException("refused")));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void classifiesServerFailures() {
+        assertTrue(CircuitBreaker.isServerFailure(new ApiException(500, "error")));
+        assertTrue(CircuitBreaker.isServerFailure(new CompletionException(new SocketTimeoutException())));
+        assertTrue(CircuitBreaker.isServerFailure(new ConnectException("refused")));
+
+        assertFalse(CircuitBreaker.isServerFailure(new ApiException(409, "conflict")));
+        assertFalse(CircuitBreaker.isServerFailure(new CircuitOpenException(1000)));
+        assertFalse(CircuitBreaker.isServerFailure(new JsonParseException((JsonParser) null, "bad json")));
+        assertFalse(CircuitBreaker.isServerFailure(new IllegalStateException("bug")));
+    }
+
+    private static void failRequests(CircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            assertDoesNotThrow(breaker::acquire);
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OfflineJournalTest {
+
+    // [int 길이][int CRC32][byte 종류]
+    private static final int HEADER_BYTES = 9;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysFramesInOrderAfterReopen() throws IOException {
+        Path file = directory.resolve("journal.log");
+        try (OfflineJournal journal = new OfflineJournal(file)) {
+            journal.append((byte) 1, bytes("first"), true);
+            journal.append((byte) 2, bytes("second"), false);
+        }
+
+        assertEquals(List.of("1:first", "2:second"), replay(file));
+    }
+
+    @Test
+    void truncatesPartiallyWrittenTail() throws IOException {
+        Path file = directory.resolve("journal.log");
+        long intactSize = writeTwoFrames(file);
+        // 세 번째 프레임을 기록하던 중 종료된 상황: 헤더와 본문 일부만 남음
+        appendRaw(file, frameBytes(file, (byte) 3, bytes("third")), HEADER_BYTES + 2);
+
+        assertEquals(List.of("1:first", "2:second"), replay(file));
+        assertEquals(intactSize, Files.size(file));
+    }
+
+    @Test
+    void truncatesTailShorterThanHeader() throws IOException {
+        Path file = directory.resolve("journal.log");
+        long intactSize = writeTwoFrames(file);
+        appendRaw(file, new byte[] {0, 0, 0}, 3);
+
+        assertEquals(List.of("1:first", "2:second"), replay(file));
+        assertEquals(intactSize, Files.size(file));
+    }
+
+    @Test
+    void truncatesFrameWithBadChecksum() throws IOException {
+        Path file = directory.resolve("journal.log");
+        long intactSize = writeTwoFrames(file);
+        byte[] corrupted = frameBytes(file, (byte) 3, bytes("third"));
+        corrupted[corrupted.length - 1] ^= 0x01;
+        appendRaw(file, corrupted, corrupted.length);
+
+        assertEquals(List.of("1:first", "2:second"), replay(file));
+        assertEquals(intactSize, Files.size(file));
+    }
+
+    @Test
+    void appendsAfterTruncatedTail() throws IOException {
+        Path file = directory.resolve("journal.log");
+        writeTwoFrames(file);
+        appendRaw(file, frameBytes(file, (byte) 3, bytes("lost")), HEADER_BYTES + 1);
+
+        try (OfflineJournal journal = new OfflineJournal(file)) {
+            journal.replay((type, payload) -> {
+            });
+            journal.append((byte) 3, bytes("third"), true);
+        }
+
+        assertEquals(List.of("1:first", "2:second", "3:third"), replay(file));
+    }
+
+    @Test
+    void compactReplacesContents() throws IOException {
+        Path file = directory.resolve("journal.log");
+        writeTwoFrames(file);
+
+        try (OfflineJournal journal = new OfflineJournal(file)) {
+            journal.replay((type, payload) -> {
+            });
+            journal.compact(List.of(new OfflineJournal.Frame((byte) 4, bytes("snapshot"))));
+            journal.append((byte) 5, bytes("after"), true);
+        }
+
+        assertEquals(List.of("4:snapshot", "5:after"), replay(file));
+    }
+
+    private static long writeTwoFrames(Path file) throws IOException {
+        try (OfflineJournal journal = new OfflineJournal(file)) {
+            journal.append((byte) 1, bytes("first"), true);
+            journal.append((byte) 2, bytes("second"), true);
+            return journal.size();
+        }
+    }
+
+    /**
+     * 별도 파일에 프레임 하나를 기록하여 인코딩된 바이트를 얻음
+     */
+    private static byte[] frameBytes(Path file, byte type, byte[] payload) throws IOException {
+        Path scratch = file.resolveSibling(file.getFileName() + ".frame");
+        Files.deleteIfExists(scratch);
+        try (OfflineJournal journal = new OfflineJournal(scratch)) {
+            journal.append(type, payload, false);
+        }
+        return Files.readAllBytes(scratch);
+    }
+
+    private static void appendRaw(Path file, byte[] data, int length) throws IOException {
+        Files.write(file, Arrays.copyOf(data, length), StandardOpenOption.APPEND);
+    }
+
+    private static List<String> replay(Path file) throws IOException {
+        List<String> frames = new ArrayList<>();
+        try (OfflineJournal journal = new OfflineJournal(file)) {
+            journal.replay((type, payload) -> frames.add(type + ":" + new String(payload, StandardCharsets.UTF_8)));
+        }
+        return frames;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
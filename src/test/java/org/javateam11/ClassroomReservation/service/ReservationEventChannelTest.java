@@ -0,0 +1,177 @@
+package org.javateam11.ClassroomReservation.service;
+
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.javateam11.ClassroomReservation.dto.ReservationDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실시간 예약 이벤트 채널의 저장소 병합, 구독자 전달, 재연결 백오프 테스트
+ */
+class ReservationEventChannelTest {
+
+    // 다른 테스트와 저장소를 공유하므로 겹치지 않는 날짜 사용
+    private static final LocalDate DATE = LocalDate.of(2031, 3, 10);
+    private static final LocalDate OTHER_DATE = LocalDate.of(2031, 3, 11);
+    private static final String PATH = "/ws/reservations";
+    private static final long INITIAL_RECONNECT_DELAY_MILLIS = 200;
+
+    private MockWebServer server;
+    private ReservationStore reservationStore;
+    private ReservationEventChannel channel;
+    private final List<ReservationEventChannel.Subscription> subscriptions = new ArrayList<>();
+
+    @BeforeAll
+    static void configure() {
+        System.setProperty("api.cache.enabled", "false");
+        System.setProperty("app.metrics.jmx.enabled", "false");
+        System.setProperty("api.push.enabled", "true");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        reservationStore = ReservationStore.getInstance();
+        channel = new ReservationEventChannel(HttpTransport.getInstance(), reservationStore,
+                server.url(PATH).toString().replaceFirst("^http", "ws"), INITIAL_RECONNECT_DELAY_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        subscriptions.forEach(ReservationEventChannel.Subscription::cancel);
+        server.shutdown();
+    }
+
+    @Test
+    void mergesCreatedAndDeletedEventsAndNotifiesSubscribers() throws Exception {
+        reservationStore.replace(DATE, List.of(reservation(100)), null, null, null);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+                    @Override
+                    public void onMessage(WebSocket socket, String text) {
+                        if (!text.contains("\"subscribe\"") || !text.contains(DATE.toString())) {
+                            return;
+                        }
+                        // 스냅샷이 없는 날짜의 이벤트는 병합되지 않아야 함
+                        socket.send(event("CREATED", OTHER_DATE, 300));
+                        socket.send(event("CREATED", DATE, 101));
+                        socket.send("{\"type\":\"DELETED\",\"date\":\"" + DATE + "\",\"reservationId\":100}");
+                    }
+                });
+            }
+        });
+
+        BlockingQueue<List<Long>> first = new LinkedBlockingQueue<>();
+        BlockingQueue<List<Long>> second = new LinkedBlockingQueue<>();
+        BlockingQueue<List<Long>> other = new LinkedBlockingQueue<>();
+        subscriptions.add(channel.subscribe(DATE, reservations -> first.add(ids(reservations))));
+        subscriptions.add(channel.subscribe(DATE, reservations -> second.add(ids(reservations))));
+        subscriptions.add(channel.subscribe(OTHER_DATE, reservations -> other.add(ids(reservations))));
+
+        for (BlockingQueue<List<Long>> updates : List.of(first, second)) {
+            assertEquals(List.of(100L, 101L), updates.poll(5, TimeUnit.SECONDS));
+            assertEquals(List.of(101L), updates.poll(5, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(101L), ids(reservationStore.getReservations(DATE)));
+        assertFalse(reservationStore.hasSnapshot(OTHER_DATE));
+        assertNull(other.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void reconnectsWithGrowingBackoffAfterFailures() throws Exception {
+        List<Long> attempts = new CopyOnWriteArrayList<>();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                attempts.add(System.nanoTime());
+                // 처음 두 번은 업그레이드를 거절하고 세 번째에 연결 허용
+                if (attempts.size() <= 2) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                return new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+                });
+            }
+        });
+
+        subscriptions.add(channel.subscribe(DATE, reservations -> {
+        }));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!channel.isConnected() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(channel.isConnected(), "재연결 후 연결되어야 함");
+        assertEquals(3, attempts.size());
+
+        // 지터는 지연 시간의 50% ~ 100%이므로 두 번째 대기는 첫 재연결 지연 이상이어야 함
+        long firstWait = TimeUnit.NANOSECONDS.toMillis(attempts.get(1) - attempts.get(0));
+        long secondWait = TimeUnit.NANOSECONDS.toMillis(attempts.get(2) - attempts.get(1));
+        assertTrue(firstWait >= INITIAL_RECONNECT_DELAY_MILLIS / 2, "첫 재연결 대기: " + firstWait + "ms");
+        assertTrue(secondWait >= INITIAL_RECONNECT_DELAY_MILLIS, "두 번째 재연결 대기: " + secondWait + "ms");
+    }
+
+    @Test
+    void stopsReconnectingWhenEndpointIsMissing() throws Exception {
+        List<Long> attempts = new CopyOnWriteArrayList<>();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                attempts.add(System.nanoTime());
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+
+        subscriptions.add(channel.subscribe(DATE, reservations -> {
+        }));
+        // 재연결 지연을 여러 번 지날 만큼 기다려도 다시 시도하지 않아야 함
+        Thread.sleep(INITIAL_RECONNECT_DELAY_MILLIS * 5);
+        subscriptions.add(channel.subscribe(OTHER_DATE, reservations -> {
+        }));
+        Thread.sleep(INITIAL_RECONNECT_DELAY_MILLIS * 2);
+
+        assertEquals(1, attempts.size());
+        assertFalse(channel.isConnected());
+    }
+
+    private static ReservationDto reservation(long id) {
+        return new ReservationDto(id, 1L, "20231234", DATE, LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+
+    private static String event(String type, LocalDate date, long id) {
+        return "{\"type\":\"" + type + "\",\"date\":\"" + date + "\",\"reservationId\":" + id
+                + ",\"reservation\":{\"id\":" + id + ",\"roomId\":1,\"studentId\":\"20231234\",\"date\":\""
+                + date + "\",\"startTime\":\"12:00\",\"endTime\":\"13:00\"}}";
+    }
+
+    private static List<Long> ids(List<ReservationDto> reservations) {
+        assertNotNull(reservations);
+        return reservations.stream().map(ReservationDto::getId).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,182 @@
+package org.javateam11.ClassroomReservation.service;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.javateam11.ClassroomReservation.model.DateRange;
+import org.javateam11.ClassroomReservation.model.Reservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내 예약 조회(/api/reservations/me) 페이지 순회, 404 대체 경로, 학번/기간 필터 테스트
+ */
+class ReservationServiceMyReservationsTest {
+
+    private static final String STUDENT_ID = "20231234";
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 6, 30);
+
+    private MockWebServer server;
+    private ReservationService reservationService;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void configure() {
+        // 테스트가 사용자 홈 디렉터리나 JMX에 흔적을 남기지 않고, 재시도/헤지 없이 한 번씩만 요청하도록 설정
+        System.setProperty("api.cache.enabled", "false");
+        System.setProperty("api.offline.enabled", "false");
+        System.setProperty("app.metrics.jmx.enabled", "false");
+        System.setProperty("api.hedge.enabled", "false");
+        System.setProperty("api.circuit.enabled", "false");
+        System.setProperty("api.retry.get.attempts", "1");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        TokenManager.getInstance().setAuthentication(STUDENT_ID, "테스트", "test-token");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+        TokenManager.getInstance().clearAuthentication();
+    }
+
+    @Test
+    void followsPagesUntilLastPage() throws Exception {
+        startService(request -> {
+            if (!request.getPath().startsWith("/api/reservations/me")) {
+                return null;
+            }
+            String page = request.getRequestUrl().queryParameter("page");
+            if ("0".equals(page)) {
+                return json(page(false, reservation(1, STUDENT_ID, "2025-06-02"),
+                        reservation(2, STUDENT_ID, "2025-06-03")));
+            }
+            return json(page(true, reservation(3, STUDENT_ID, "2025-06-04")));
+        });
+
+        List<Reservation> reservations = getMyReservations(STUDENT_ID);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(reservations));
+        List<RecordedRequest> pageRequests = requestsTo("/api/reservations/me");
+        assertEquals(2, pageRequests.size());
+        assertEquals("0", pageRequests.get(0).getRequestUrl().queryParameter("page"));
+        assertEquals("1", pageRequests.get(1).getRequestUrl().queryParameter("page"));
+        assertEquals(TokenManager.getInstance().getAuthorizationHeader(),
+                pageRequests.get(0).getHeader("Authorization"));
+        assertTrue(requests.stream().noneMatch(request -> request.getPath().equals("/api/reservations")),
+                "페이지 엔드포인트가 있으면 전체 목록을 받지 않아야 함");
+    }
+
+    @Test
+    void fallsBackToFullScanOn404() throws Exception {
+        startService(request -> {
+            if (request.getPath().startsWith("/api/reservations/me")) {
+                return new MockResponse().setResponseCode(404).setBody("{\"message\":\"Not Found\"}");
+            }
+            if (request.getPath().equals("/api/reservations")) {
+                return json("[" + String.join(",",
+                        reservation(1, STUDENT_ID, "2025-06-02"),
+                        reservation(2, "20239999", "2025-06-02"),
+                        reservation(3, STUDENT_ID, "2025-07-01"),
+                        reservation(4, STUDENT_ID, "2025-06-30")) + "]");
+            }
+            return null;
+        });
+
+        List<Reservation> reservations = getMyReservations(STUDENT_ID);
+
+        // 다른 학생의 예약과 기간 밖의 예약은 제외
+        assertEquals(List.of(1L, 4L), ids(reservations));
+        assertEquals(1, requestsTo("/api/reservations/me").size());
+    }
+
+    @Test
+    void sendsEncodedStudentIdAndDateRange() throws Exception {
+        String studentId = "2023 12&34";
+        startService(request -> request.getPath().startsWith("/api/reservations/me")
+                ? json(page(true, reservation(1, studentId, "2025-06-02")))
+                : null);
+
+        getMyReservations(studentId);
+
+        RecordedRequest request = requestsTo("/api/reservations/me").get(0);
+        assertEquals(studentId, request.getRequestUrl().queryParameter("studentId"));
+        assertEquals(FROM.toString(), request.getRequestUrl().queryParameter("from"));
+        assertEquals(TO.toString(), request.getRequestUrl().queryParameter("to"));
+    }
+
+    /**
+     * 강의실 목록 요청은 빈 목록으로, 나머지는 route가 처리 (null이면 404)
+     */
+    private void startService(Route route) {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getPath().startsWith("/api/rooms")) {
+                    return json("[]");
+                }
+                requests.add(request);
+                MockResponse response = route.respond(request);
+                return response != null ? response : new MockResponse().setResponseCode(404);
+            }
+        });
+        String baseUrl = server.url("/").toString().replaceFirst("/$", "");
+        ApiService apiService = new ApiService(baseUrl, HttpTransport.getInstance());
+        reservationService = new ReservationService(apiService, new RoomService(apiService),
+                ReservationStore.getInstance());
+    }
+
+    private List<Reservation> getMyReservations(String studentId) throws Exception {
+        CompletableFuture<List<Reservation>> result = new CompletableFuture<>();
+        reservationService.getMyReservations(studentId, DateRange.of(FROM, TO), result::complete,
+                error -> result.completeExceptionally(new AssertionError(error)));
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private List<RecordedRequest> requestsTo(String pathPrefix) {
+        return requests.stream()
+                .filter(request -> request.getPath().startsWith(pathPrefix))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<Reservation> reservations) {
+        return reservations.stream().map(Reservation::getId).sorted().collect(Collectors.toList());
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    private static String page(boolean last, String... content) {
+        return "{\"content\":[" + String.join(",", content) + "],\"number\":0,\"size\":100,"
+                + "\"totalElements\":" + content.length + ",\"totalPages\":1,\"last\":" + last + "}";
+    }
+
+    private static String reservation(long id, String studentId, String date) {
+        return "{\"id\":" + id + ",\"roomId\":1,\"studentId\":\"" + studentId + "\",\"date\":\"" + date
+                + "\",\"startTime\":\"10:00\",\"endTime\":\"11:00\"}";
+    }
+
+    private interface Route {
+        MockResponse respond(RecordedRequest request);
+    }
+}
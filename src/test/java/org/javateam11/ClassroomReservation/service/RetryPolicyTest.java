@@ -0,0 +1,85 @@
+package org.javateam11.ClassroomReservation.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryPolicyTest {
+
+    private static final int SAMPLES = 1000;
+
+    @Test
+    void normalizesSettings() {
+        RetryPolicy policy = new RetryPolicy(0, -5, -1);
+
+        assertEquals(1, policy.getMaxAttempts());
+        assertFalse(policy.isEnabled());
+        assertEquals(0, policy.backoffMillis(1));
+        assertFalse(RetryPolicy.none().isEnabled());
+        assertTrue(new RetryPolicy(3, 100, 1000).isEnabled());
+    }
+
+    @Test
+    void backoffStaysWithinExponentialCeiling() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 1000);
+
+        assertBackoffWithin(policy, 1, 100);
+        assertBackoffWithin(policy, 2, 200);
+        assertBackoffWithin(policy, 3, 400);
+        // 최대 대기 시간으로 제한
+        assertBackoffWithin(policy, 5, 1000);
+        assertBackoffWithin(policy, 64, 1000);
+    }
+
+    @Test
+    void backoffIsJittered() {
+        RetryPolicy policy = new RetryPolicy(3, 1000, 1000);
+        long first = policy.backoffMillis(1);
+
+        boolean varied = false;
+        for (int i = 0; i < SAMPLES && !varied; i++) {
+            varied = policy.backoffMillis(1) != first;
+        }
+        assertTrue(varied, "대기 시간이 무작위로 분산되어야 함");
+    }
+
+    @Test
+    void retriesTransientStatusCodes() {
+        for (int status : new int[] {429, 502, 503, 504}) {
+            assertTrue(RetryPolicy.isRetryable(new ApiException(status, "retry")), "status " + status);
+        }
+        for (int status : new int[] {400, 401, 404, 409, 500, 501}) {
+            assertFalse(RetryPolicy.isRetryable(new ApiException(status, "fail")), "status " + status);
+        }
+    }
+
+    @Test
+    void retriesTransportFailures() {
+        assertTrue(RetryPolicy.isRetryable(new SocketTimeoutException("timeout")));
+        assertTrue(RetryPolicy.isRetryable(new CompletionException(new ConnectException("refused"))));
+        assertTrue(RetryPolicy.isRetryable(new RuntimeException("API 요청 중 오류 발생", new IOException("reset"))));
+    }
+
+    @Test
+    void doesNotRetryParseErrorsOrOpenCircuit() {
+        assertFalse(RetryPolicy.isRetryable(new JsonParseException((JsonParser) null, "bad json")));
+        assertFalse(RetryPolicy.isRetryable(new CompletionException(new CircuitOpenException(1000))));
+        assertFalse(RetryPolicy.isRetryable(new IllegalStateException("bug")));
+    }
+
+    private static void assertBackoffWithin(RetryPolicy policy, int attempt, long ceiling) {
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = policy.backoffMillis(attempt);
+            assertTrue(delay >= 0 && delay <= ceiling, "attempt " + attempt + ": " + delay + "ms");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.javateam11.ClassroomReservation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void coalescesConcurrentCallsWithSameKey() throws Exception {
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("GET /a", "/a", () -> count(call));
+        CompletableFuture<String> second = singleFlight.execute("GET /a", "/a", () -> count(call));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.getInFlightCount());
+        assertFalse(first.isDone());
+
+        call.complete("result");
+
+        assertEquals("result", first.get());
+        assertSame(first.get(), second.get());
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals(1, singleFlight.getStats().get("/a").getExecutedCount());
+        assertEquals(1, singleFlight.getStats().get("/a").getCoalescedCount());
+    }
+
+    @Test
+    void runsDifferentKeysSeparately() {
+        singleFlight.execute("GET /a?page=0", "/a", () -> count(new CompletableFuture<>()));
+        singleFlight.execute("GET /a?page=1", "/a", () -> count(new CompletableFuture<>()));
+
+        assertEquals(2, calls.get());
+        assertEquals(2, singleFlight.getInFlightCount());
+        assertEquals(0, singleFlight.getStats().get("/a").getCoalescedCount());
+    }
+
+    @Test
+    void startsNewCallAfterPreviousCompletes() throws Exception {
+        assertEquals("one", singleFlight.execute("k", "/a",
+                () -> count(CompletableFuture.completedFuture("one"))).get());
+        assertEquals("two", singleFlight.execute("k", "/a",
+                () -> count(CompletableFuture.completedFuture("two"))).get());
+
+        assertEquals(2, calls.get());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void propagatesFailureToEveryWaiter() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("k", "/a", () -> count(call));
+        CompletableFuture<String> second = singleFlight.execute("k", "/a", () -> count(call));
+
+        IllegalStateException failure = new IllegalStateException("boom");
+        call.completeExceptionally(failure);
+
+        assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void turnsThrowingSupplierIntoFailedFuture() {
+        CompletableFuture<String> result = singleFlight.execute("k", "/a", () -> {
+            throw new IllegalArgumentException("bad request");
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void cancellingOneWaiterDoesNotCancelTheCall() throws Exception {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("k", "/a", () -> count(call));
+        CompletableFuture<String> second = singleFlight.execute("k", "/a", () -> count(call));
+
+        first.cancel(true);
+
+        assertFalse(call.isCancelled());
+        call.complete("result");
+        assertEquals("result", second.get());
+    }
+
+    @Test
+    void cancellingEveryWaiterCancelsTheCall() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("k", "/a", () -> count(call));
+        CompletableFuture<String> second = singleFlight.execute("k", "/a", () -> count(call));
+
+        first.cancel(true);
+        second.cancel(true);
+
+        assertTrue(call.isCancelled());
+        assertEquals(0, singleFlight.getInFlightCount());
+
+        // 취소된 호출에 합류하지 않고 새 호출을 시작
+        singleFlight.execute("k", "/a", () -> count(new CompletableFuture<>()));
+        assertEquals(2, calls.get());
+    }
+
+    private CompletableFuture<String> count(CompletableFuture<String> call) {
+        calls.incrementAndGet();
+        return call;
+    }
+}
@@ -0,0 +1,112 @@
+package org.javateam11.ClassroomReservation.util.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    // 16 + (37 - 3) × 8
+    private static final int BUCKETS = 288;
+
+    @Test
+    void usesOneMicrosecondBucketsBelowLinearLimit() {
+        for (int value = 0; value < 16; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.upperBoundOf(value));
+        }
+        assertEquals(16, LatencyHistogram.indexOf(16));
+        assertEquals(16, LatencyHistogram.indexOf(17));
+        assertEquals(17, LatencyHistogram.upperBoundOf(16));
+        assertEquals(17, LatencyHistogram.indexOf(18));
+    }
+
+    @Test
+    void bucketsAreContiguousAroundPowersOfTwo() {
+        for (int magnitude = 4; magnitude <= 37; magnitude++) {
+            long power = 1L << magnitude;
+            assertBucketContains(power - 1);
+            assertBucketContains(power);
+            assertBucketContains(power + 1);
+            // 2의 거듭제곱은 항상 새 구간의 첫 칸에서 시작
+            assertEquals(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(power) - 1), power - 1);
+        }
+    }
+
+    @Test
+    void upperBoundIsWithinRelativeErrorOfValue() {
+        Random random = new Random(42);
+        List<Long> values = new ArrayList<>();
+        for (long value = 16; value < 100_000; value++) {
+            values.add(value);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            values.add(16 + (random.nextLong() >>> 27));
+        }
+
+        for (long value : values) {
+            long upper = assertBucketContains(value);
+            assertTrue(upper - value <= value / 8, value + " -> " + upper);
+        }
+    }
+
+    @Test
+    void indexIsMonotonic() {
+        int previous = 0;
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1, "value " + value);
+            previous = index;
+        }
+    }
+
+    @Test
+    void clampsHugeValuesToLastBucket() {
+        assertEquals(BUCKETS - 1, LatencyHistogram.indexOf((1L << 38) - 1));
+        assertEquals(BUCKETS - 1, LatencyHistogram.indexOf(1L << 38));
+        assertEquals(BUCKETS - 1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+        assertEquals((1L << 38) - 1, LatencyHistogram.upperBoundOf(BUCKETS - 1));
+    }
+
+    @Test
+    void reportsPercentilesCappedAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileMicros(50));
+
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        assertEquals(1001, histogram.getCount());
+        assertEquals(1000, histogram.getMaxMicros());
+        assertEquals(1000, histogram.getPercentileMicros(100));
+        long p50 = histogram.getPercentileMicros(50);
+        assertTrue(p50 >= 500 && p50 <= 500 + 500 / 8, "p50 " + p50);
+        long p99 = histogram.getPercentileMicros(99);
+        assertTrue(p99 >= 990 && p99 <= 1000, "p99 " + p99);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(99));
+    }
+
+    /**
+     * 값이 들어간 칸의 범위가 값을 포함하는지 확인하고 칸의 상한값을 반환
+     */
+    private static long assertBucketContains(long value) {
+        int index = LatencyHistogram.indexOf(value);
+        assertTrue(index >= 0 && index < BUCKETS, "index " + index);
+        long upper = LatencyHistogram.upperBoundOf(index);
+        assertTrue(value <= upper, value + " > " + upper);
+        if (index > 0) {
+            assertTrue(LatencyHistogram.upperBoundOf(index - 1) < value, value + " belongs to bucket " + (index - 1));
+        }
+        return upper;
+    }
+}